@@ -1,103 +1,100 @@
 package com.dragonboatrace.game;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
-import com.dragonboatrace.game.entities.Entity;
+
+import java.util.Random;
 
 /**
- * Represents the background of the game.
+ * Represents the scrolling background of the game.
+ * <p>The background is a fixed ring of tiles stacked on top of each other. When a tile scrolls off the bottom of
+ * the screen it is moved above the top one and given a new random image, so the same few tiles are reused for the
+ * whole race. The images themselves come from a shared {@link BackgroundPool}.</p>
  *
  * @author Jacob Turner
  */
-public class Background extends Entity {
+public class Background {
+
+    /**
+     * The height of each tile, the height of the background images.
+     */
+    public static final float TILE_HEIGHT = 1080;
 
     /**
-     * An array of all the textures to use as the backgrounds.
+     * The pool the background images are taken from.
      */
-    protected Texture[] allTextures;
+    private final BackgroundPool pool;
     /**
-     * The current texture being used as the background.
+     * The in-game y-coordinate of the bottom of each tile.
      */
-    protected Texture img;
+    private final float[] tileY;
+    /**
+     * The index in the pool of the image on each tile.
+     */
+    private final int[] tileImage;
+    /**
+     * The width the tiles are drawn at.
+     */
+    private final float width;
+    /**
+     * The stream the images are chosen from.
+     */
+    private final Random random;
 
     /**
-     * Creates a new background at a position.
+     * Creates a background that covers a screen of a given size.
      *
-     * @param pos The position of the background.
+     * @param pool   The pool to take the background images from.
+     * @param width  The width of the screen.
+     * @param height The height of the screen.
+     * @param random The stream to choose the images from.
      */
-    public Background(Vector2 pos) {
-        super(pos, new Vector2(0, 0), 0);
-        loadTexture();
-        updateTexture();
+    public Background(BackgroundPool pool, float width, float height, Random random) {
+        this.pool = pool;
+        this.width = width;
+        this.random = random;
+        // Enough tiles to cover the screen, plus one scrolling in from the top
+        int tileCount = (int) Math.ceil(height / TILE_HEIGHT) + 1;
+        this.tileY = new float[tileCount];
+        this.tileImage = new int[tileCount];
+        for (int i = 0; i < tileCount; i++) {
+            this.tileY[i] = i * TILE_HEIGHT;
+            this.tileImage[i] = this.chooseImage();
+        }
     }
 
     /**
-     * Add the background to the given Spritebatch and render it.
+     * Add the background to the given Spritebatch. The batch must already have begun.
      *
      * @param batch  The Spritebatch to be added to.
      * @param relPos The position to be rendered relative to.
      */
     public void render(SpriteBatch batch, Vector2 relPos) {
-
-        //if the background tile has gone off the screen move it to the top and give it a new texture
-        if (relPos.y - this.pos.y > this.img.getHeight()) {
-            this.pos.y += Gdx.graphics.getHeight() + this.img.getHeight();
-            updateTexture();
+        for (int i = 0; i < this.tileY.length; i++) {
+            // If the tile has gone off the bottom of the screen move it above the others and give it a new image
+            while (relPos.y - this.tileY[i] > TILE_HEIGHT) {
+                this.tileY[i] += this.tileY.length * TILE_HEIGHT;
+                this.tileImage[i] = this.chooseImage();
+            }
+            batch.draw(this.pool.get(this.tileImage[i]), 0, this.tileY[i] - relPos.y, this.width, TILE_HEIGHT);
         }
-
-        batch.begin();
-        batch.draw(
-                this.img,
-                (0),
-                (this.pos.y - relPos.y),
-                Gdx.graphics.getWidth(),
-                this.size.y
-        );
-        batch.end();
     }
 
     /**
-     * Change the background texture to another random one.
-     */
-    private void updateTexture() {
-        this.img = this.allTextures[(int) (Math.random() * allTextures.length)];
-        this.size = new Vector2(this.img.getWidth(), this.img.getHeight());
-    }
-
-    // THIS IS CHANGED
-    /**
-     * Load all the textures.
-     */
-    public void loadTexture() {
-        // Load a list of file names from a text file
-        FileHandle backgroundsDirectory = Gdx.files.local("Backgrounds/backgrounds.txt");
-        String[] files = backgroundsDirectory.readString().split(",");
-        this.allTextures = new Texture[files.length];
-        // Load those file names as files
-        for (int i = 0; i < files.length; i++) {
-            FileHandle file = Gdx.files.internal("Backgrounds/" + files[i] + ".jpg");
-            this.allTextures[i] = new Texture(file);
-        }
-    }
-
-    /**
-     * Dispose all the textures of the backgrounds.
+     * Choose a random background image.
+     *
+     * @return The index of the image in the pool.
      */
-    public void dispose() {
-        for (Texture t : this.allTextures) {
-            t.dispose();
-        }
+    private int chooseImage() {
+        return this.random.nextInt(this.pool.size());
     }
 
     /**
-     * Move the background. Not used. Empty body.
+     * Get the number of tiles in the ring.
      *
-     * @param deltaTime The time since the previous frame.
+     * @return The number of tiles.
      */
-    public void move(float deltaTime) {
+    public int getTileCount() {
+        return this.tileY.length;
     }
-
-}
\ No newline at end of file
+}
@@ -0,0 +1,202 @@
+package com.dragonboatrace.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * The shared set of background textures listed in {@code Backgrounds/backgrounds.txt}.
+ * <p>Textures are only decoded the first time they are needed and are kept for the whole game, so every round
+ * reuses them. An optional limit caps how many stay loaded at once; past it the least recently used one is
+ * unloaded and loaded again if it is needed later. A texture that is unloaded may already have been drawn into a
+ * batch that hasn't been flushed yet, so it is only disposed once the next frame has started.</p>
+ *
+ * @author Jacob Turner
+ */
+public class BackgroundPool {
+
+    /**
+     * The value for the limit that lets every background stay loaded.
+     */
+    public static final int NO_LIMIT = 0;
+
+    /**
+     * The paths of all the background images.
+     */
+    private final String[] files;
+    /**
+     * The loaded textures, null for any that are not loaded.
+     */
+    private final Texture[] textures;
+    /**
+     * The frame each texture was last asked for, used to choose which one to unload.
+     */
+    private final long[] lastUsed;
+    /**
+     * The most textures allowed to be loaded at once, or {@link #NO_LIMIT}.
+     */
+    private final int maxResident;
+    /**
+     * The number of textures currently loaded.
+     */
+    private int resident;
+    /**
+     * A counter that increases every time a texture is asked for.
+     */
+    private long useCounter;
+    /**
+     * The textures that have been unloaded but not yet disposed, as they may still be waiting to be drawn.
+     */
+    private final Array<Texture> retired;
+    /**
+     * The frame the last texture was asked for in.
+     */
+    private long frame;
+
+    /**
+     * Creates a pool of the backgrounds listed in the backgrounds file. Nothing is loaded until it is needed.
+     *
+     * @param maxResident The most textures allowed to be loaded at once, or {@link #NO_LIMIT}.
+     */
+    public BackgroundPool(int maxResident) {
+        this(readBackgroundList(), maxResident);
+    }
+
+    /**
+     * Creates a pool of specific background images. Nothing is loaded until it is needed.
+     *
+     * @param files       The paths of the background images.
+     * @param maxResident The most textures allowed to be loaded at once, or {@link #NO_LIMIT}.
+     */
+    public BackgroundPool(String[] files, int maxResident) {
+        this.files = files;
+        this.textures = new Texture[files.length];
+        this.lastUsed = new long[files.length];
+        this.maxResident = maxResident;
+        this.resident = 0;
+        this.useCounter = 0;
+        this.retired = new Array<>(false, 4);
+        this.frame = -1;
+    }
+
+    /**
+     * Read the list of background images from the backgrounds file.
+     *
+     * @return The paths of the background images.
+     */
+    private static String[] readBackgroundList() {
+        FileHandle backgroundsDirectory = Gdx.files.local("Backgrounds/backgrounds.txt");
+        String[] names = backgroundsDirectory.readString().split(",");
+        String[] files = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            files[i] = "Backgrounds/" + names[i].trim() + ".jpg";
+        }
+        return files;
+    }
+
+    /**
+     * Get a background texture, loading it if needed.
+     *
+     * @param index The index of the background.
+     * @return The texture of the background.
+     */
+    public Texture get(int index) {
+        // Anything unloaded in an earlier frame has been drawn by now, so can be disposed
+        long currentFrame = this.getFrame();
+        if (currentFrame != this.frame) {
+            this.frame = currentFrame;
+            this.disposeRetired();
+        }
+
+        this.lastUsed[index] = ++this.useCounter;
+        if (this.textures[index] == null) {
+            this.textures[index] = this.load(this.files[index]);
+            this.resident++;
+            if (this.maxResident != NO_LIMIT && this.resident > this.maxResident) {
+                this.unloadLeastRecent(index);
+            }
+        }
+        return this.textures[index];
+    }
+
+    /**
+     * Load a background texture.
+     *
+     * @param file The path of the background image.
+     * @return The loaded texture.
+     */
+    protected Texture load(String file) {
+        return new Texture(Gdx.files.internal(file));
+    }
+
+    /**
+     * Get the frame being drawn, used to tell when textures unloaded earlier are safe to dispose.
+     *
+     * @return The id of the current frame.
+     */
+    protected long getFrame() {
+        return Gdx.graphics.getFrameId();
+    }
+
+    /**
+     * Unload the loaded texture that was used longest ago, disposing it once the next frame starts.
+     *
+     * @param keep The index of a texture that must stay loaded.
+     */
+    private void unloadLeastRecent(int keep) {
+        int oldest = -1;
+        for (int i = 0; i < this.textures.length; i++) {
+            if (i != keep && this.textures[i] != null && (oldest == -1 || this.lastUsed[i] < this.lastUsed[oldest])) {
+                oldest = i;
+            }
+        }
+        if (oldest != -1) {
+            this.retired.add(this.textures[oldest]);
+            this.textures[oldest] = null;
+            this.resident--;
+        }
+    }
+
+    /**
+     * Dispose every texture that has been unloaded.
+     */
+    private void disposeRetired() {
+        for (Texture texture : this.retired) {
+            texture.dispose();
+        }
+        this.retired.clear();
+    }
+
+    /**
+     * Get the number of different backgrounds available.
+     *
+     * @return The number of backgrounds.
+     */
+    public int size() {
+        return this.files.length;
+    }
+
+    /**
+     * Get the number of background textures currently loaded.
+     *
+     * @return The number of loaded textures.
+     */
+    public int getResidentCount() {
+        return this.resident;
+    }
+
+    /**
+     * Dispose every loaded background texture.
+     */
+    public void dispose() {
+        for (int i = 0; i < this.textures.length; i++) {
+            if (this.textures[i] != null) {
+                this.textures[i].dispose();
+                this.textures[i] = null;
+            }
+        }
+        this.disposeRetired();
+        this.resident = 0;
+    }
+}
@@ -0,0 +1,334 @@
+package com.dragonboatrace.game;
+
+import com.dragonboatrace.game.entities.BoatType;
+
+import java.util.Locale;
+
+/**
+ * The results of a batch of races with no player, gathered for each {@link BoatType}, used to judge how well the
+ * boat types are balanced against each other.
+ * <p>Only counts and {@link StreamingStats} are kept, so the report takes the same memory after a hundred races as
+ * after a hundred thousand. Reports for parts of a batch can be merged into one.</p>
+ *
+ * @author Jacob Turner
+ */
+public class BalanceReport {
+
+    /**
+     * The results of every boat of each type, by the ordinal of the type.
+     */
+    private final TypeResults[] results;
+    /**
+     * The number of races in the report.
+     */
+    private long races;
+
+    /**
+     * Creates an empty report.
+     */
+    public BalanceReport() {
+        this.results = new TypeResults[BoatType.values().length];
+        for (int i = 0; i < this.results.length; i++) {
+            this.results[i] = new TypeResults();
+        }
+    }
+
+    /**
+     * Add the results of a race that has been run.
+     *
+     * @param race The finished race.
+     */
+    public void add(RaceSimulation race) {
+        Lane[] lanes = race.getLanes();
+        int winner = -1;
+        for (int i = 0; i < lanes.length; i++) {
+            TypeResults type = this.results[lanes[i].getBoat().getType().ordinal()];
+            type.boats++;
+            type.collisions += race.getCollisions(i);
+
+            boolean finishedAll = true;
+            for (int round = 0; round < RaceSimulation.ROUNDS; round++) {
+                long time = race.getRoundTime(i, round);
+                type.rounds++;
+                if (time < 0) {
+                    type.dnfRounds++;
+                    finishedAll = false;
+                } else {
+                    type.roundTimes.add(time);
+                }
+            }
+
+            if (finishedAll) {
+                type.totalTimes.add(race.getTotalTime(i));
+                // The fastest boat to finish every round wins, the leftmost on a tie
+                if (winner < 0 || race.getTotalTime(i) < race.getTotalTime(winner)) {
+                    winner = i;
+                }
+            }
+        }
+        if (winner >= 0) {
+            this.results[lanes[winner].getBoat().getType().ordinal()].wins++;
+        }
+        this.races++;
+    }
+
+    /**
+     * Add every result from another report to this one.
+     *
+     * @param other The report to add, which is left unchanged.
+     */
+    public void merge(BalanceReport other) {
+        this.races += other.races;
+        for (int i = 0; i < this.results.length; i++) {
+            this.results[i].merge(other.results[i]);
+        }
+    }
+
+    /**
+     * Get the number of races in the report.
+     *
+     * @return The number of races.
+     */
+    public long getRaces() {
+        return this.races;
+    }
+
+    /**
+     * Get the number of boats of a type that have raced.
+     *
+     * @param type The boat type.
+     * @return The number of boats, a boat in each of two races counts twice.
+     */
+    public long getBoats(BoatType type) {
+        return this.results[type.ordinal()].boats;
+    }
+
+    /**
+     * Get the number of races a boat type has won.
+     *
+     * @param type The boat type.
+     * @return The number of wins.
+     */
+    public long getWins(BoatType type) {
+        return this.results[type.ordinal()].wins;
+    }
+
+    /**
+     * Get the number of rounds boats of a type did not finish.
+     *
+     * @param type The boat type.
+     * @return The number of rounds not finished.
+     */
+    public long getDnfRounds(BoatType type) {
+        return this.results[type.ordinal()].dnfRounds;
+    }
+
+    /**
+     * Get the number of obstacles boats of a type have hit.
+     *
+     * @param type The boat type.
+     * @return The number of collisions.
+     */
+    public long getCollisions(BoatType type) {
+        return this.results[type.ordinal()].collisions;
+    }
+
+    /**
+     * Get the statistics of the time each round took boats of a type, not counting rounds that were not finished.
+     *
+     * @param type The boat type.
+     * @return The round time statistics.
+     */
+    public StreamingStats getRoundTimes(BoatType type) {
+        return this.results[type.ordinal()].roundTimes;
+    }
+
+    /**
+     * Get the statistics of the total time of boats of a type that finished every round of their race.
+     *
+     * @param type The boat type.
+     * @return The total time statistics.
+     */
+    public StreamingStats getTotalTimes(BoatType type) {
+        return this.results[type.ordinal()].totalTimes;
+    }
+
+    /**
+     * Get the report as comma separated values, a header line then a line for each boat type that raced.
+     *
+     * @return The report.
+     */
+    public String toCsv() {
+        StringBuilder builder = new StringBuilder(
+                "type,boats,wins,winRate,dnfRate,collisionsPerRace,"
+                        + "roundMean,roundStdDev,roundMin,roundP50,roundP90,roundMax,"
+                        + "totalMean,totalStdDev,totalMin,totalP50,totalP90,totalMax\n");
+        for (BoatType type : BoatType.values()) {
+            TypeResults result = this.results[type.ordinal()];
+            if (result.boats == 0) {
+                continue;
+            }
+            builder.append(type).append(',')
+                    .append(result.boats).append(',')
+                    .append(result.wins).append(',')
+                    .append(format(result.getWinRate())).append(',')
+                    .append(format(result.getDnfRate())).append(',')
+                    .append(format(result.getCollisionsPerRace()));
+            appendStatsCsv(builder, result.roundTimes);
+            appendStatsCsv(builder, result.totalTimes);
+            builder.append('\n');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Get the report as a JSON object, with the number of races and an object for each boat type that raced.
+     *
+     * @return The report.
+     */
+    public String toJson() {
+        StringBuilder builder = new StringBuilder("{\"races\":").append(this.races).append(",\"types\":{");
+        boolean first = true;
+        for (BoatType type : BoatType.values()) {
+            TypeResults result = this.results[type.ordinal()];
+            if (result.boats == 0) {
+                continue;
+            }
+            if (!first) {
+                builder.append(',');
+            }
+            first = false;
+            builder.append('"').append(type).append("\":{")
+                    .append("\"boats\":").append(result.boats)
+                    .append(",\"wins\":").append(result.wins)
+                    .append(",\"winRate\":").append(format(result.getWinRate()))
+                    .append(",\"dnfRate\":").append(format(result.getDnfRate()))
+                    .append(",\"collisionsPerRace\":").append(format(result.getCollisionsPerRace()))
+                    .append(",\"roundTimes\":");
+            appendStatsJson(builder, result.roundTimes);
+            builder.append(",\"totalTimes\":");
+            appendStatsJson(builder, result.totalTimes);
+            builder.append('}');
+        }
+        return builder.append("}}").toString();
+    }
+
+    /**
+     * Append the summary of some statistics as comma separated values, each preceded by a comma.
+     *
+     * @param builder The builder to append to.
+     * @param stats   The statistics.
+     */
+    private static void appendStatsCsv(StringBuilder builder, StreamingStats stats) {
+        builder.append(',').append(format(stats.getMean()))
+                .append(',').append(format(stats.getStandardDeviation()))
+                .append(',').append(stats.getMin())
+                .append(',').append(stats.getPercentile(0.5))
+                .append(',').append(stats.getPercentile(0.9))
+                .append(',').append(stats.getMax());
+    }
+
+    /**
+     * Append the summary of some statistics as a JSON object.
+     *
+     * @param builder The builder to append to.
+     * @param stats   The statistics.
+     */
+    private static void appendStatsJson(StringBuilder builder, StreamingStats stats) {
+        builder.append("{\"count\":").append(stats.getCount())
+                .append(",\"mean\":").append(format(stats.getMean()))
+                .append(",\"stdDev\":").append(format(stats.getStandardDeviation()))
+                .append(",\"min\":").append(stats.getMin())
+                .append(",\"p50\":").append(stats.getPercentile(0.5))
+                .append(",\"p90\":").append(stats.getPercentile(0.9))
+                .append(",\"max\":").append(stats.getMax())
+                .append('}');
+    }
+
+    /**
+     * Format a number to four decimal places, the same whatever the locale.
+     *
+     * @param value The number.
+     * @return The formatted number.
+     */
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.4f", value);
+    }
+
+    /**
+     * The results of every boat of a single type.
+     */
+    private static class TypeResults {
+
+        /**
+         * The number of boats of the type that have raced.
+         */
+        private long boats;
+        /**
+         * The number of races won.
+         */
+        private long wins;
+        /**
+         * The number of rounds raced.
+         */
+        private long rounds;
+        /**
+         * The number of rounds not finished, through breaking down or running out of time.
+         */
+        private long dnfRounds;
+        /**
+         * The number of obstacles hit.
+         */
+        private long collisions;
+        /**
+         * The time of each round that was finished.
+         */
+        private final StreamingStats roundTimes = new StreamingStats();
+        /**
+         * The total time of each race in which every round was finished.
+         */
+        private final StreamingStats totalTimes = new StreamingStats();
+
+        /**
+         * Add the results from another set of results for the same type.
+         *
+         * @param other The results to add.
+         */
+        private void merge(TypeResults other) {
+            this.boats += other.boats;
+            this.wins += other.wins;
+            this.rounds += other.rounds;
+            this.dnfRounds += other.dnfRounds;
+            this.collisions += other.collisions;
+            this.roundTimes.merge(other.roundTimes);
+            this.totalTimes.merge(other.totalTimes);
+        }
+
+        /**
+         * Get the fraction of races won.
+         *
+         * @return The win rate, from 0 to 1.
+         */
+        private double getWinRate() {
+            return this.boats == 0 ? 0 : this.wins / (double) this.boats;
+        }
+
+        /**
+         * Get the fraction of rounds not finished.
+         *
+         * @return The DNF rate, from 0 to 1.
+         */
+        private double getDnfRate() {
+            return this.rounds == 0 ? 0 : this.dnfRounds / (double) this.rounds;
+        }
+
+        /**
+         * Get the mean number of obstacles hit in a race.
+         *
+         * @return The collisions per race.
+         */
+        private double getCollisionsPerRace() {
+            return this.boats == 0 ? 0 : this.collisions / (double) this.boats;
+        }
+    }
+}
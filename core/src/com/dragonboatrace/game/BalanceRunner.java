@@ -0,0 +1,149 @@
+package com.dragonboatrace.game;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.dragonboatrace.game.entities.BoatType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs a batch of seeded races with no player across every core, and gathers the results into a
+ * {@link BalanceReport}.
+ * <p>Each race gets its own seed split from the seed of the batch, which also chooses the boat types in the race,
+ * so a batch is the same every time it is run with the same seed, whatever the number of threads. Each thread runs
+ * whole races one after another, with its lanes updated on that thread, and keeps its own report. The reports are
+ * merged once every race has finished.</p>
+ *
+ * @author Jacob Turner
+ */
+public class BalanceRunner {
+
+    /**
+     * The number of boats in each race, the same as in the game.
+     */
+    public static final int LANES = 7;
+
+    /**
+     * The number of races to run.
+     */
+    private final int races;
+    /**
+     * The number of threads to run the races on.
+     */
+    private final int threads;
+    /**
+     * The difficulty of every race, from 1 to 3.
+     */
+    private final int difficulty;
+    /**
+     * The seed the seed of every race is split from.
+     */
+    private final RaceSeed seed;
+
+    /**
+     * Creates a runner for a batch of races.
+     *
+     * @param races      The number of races to run.
+     * @param threads    The number of threads to run the races on.
+     * @param difficulty The difficulty of every race, from 1 to 3.
+     * @param seed       The seed of the batch.
+     */
+    public BalanceRunner(int races, int threads, int difficulty, RaceSeed seed) {
+        this.races = races;
+        this.threads = Math.max(1, threads);
+        this.difficulty = difficulty;
+        this.seed = seed;
+    }
+
+    /**
+     * Choose the boat types of a race from its seed, from every type but the testing type.
+     *
+     * @param raceSeed The seed of the race.
+     * @return The type of each boat, from the left.
+     */
+    public static BoatType[] chooseTypes(RaceSeed raceSeed) {
+        BoatType[] choices = new BoatType[BoatType.values().length - 1];
+        int count = 0;
+        for (BoatType type : BoatType.values()) {
+            if (type != BoatType.TESTING) {
+                choices[count++] = type;
+            }
+        }
+
+        RandomXS128 random = raceSeed.stream(0, -1, RaceSeed.BOATS);
+        BoatType[] types = new BoatType[LANES];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = choices[random.nextInt(choices.length)];
+        }
+        return types;
+    }
+
+    /**
+     * Run a single race of the batch.
+     *
+     * @param index   The index of the race in the batch.
+     * @param updater The updater to run the lanes with.
+     * @return The finished race.
+     */
+    public RaceSimulation runRace(int index, LaneUpdater updater) {
+        RaceSeed raceSeed = this.seed.split(index);
+        RaceSimulation race = new RaceSimulation(chooseTypes(raceSeed), this.difficulty, raceSeed, updater);
+        race.run();
+        return race;
+    }
+
+    /**
+     * Run every race of the batch, returning once they have all finished.
+     *
+     * @return The results of every race.
+     * @throws InterruptedException If the thread is interrupted while waiting for the races.
+     */
+    public BalanceReport run() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(this.threads);
+        try {
+            List<Future<BalanceReport>> workers = new ArrayList<>();
+            for (int i = 0; i < this.threads; i++) {
+                final int first = i;
+                workers.add(executor.submit(new Callable<BalanceReport>() {
+                    @Override
+                    public BalanceReport call() {
+                        return runEvery(first, threads);
+                    }
+                }));
+            }
+
+            BalanceReport report = new BalanceReport();
+            for (Future<BalanceReport> worker : workers) {
+                try {
+                    report.merge(worker.get());
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("A balancing race failed", e.getCause());
+                }
+            }
+            return report;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Run every race of the batch from a given index onwards, skipping a fixed number of races each time.
+     *
+     * @param first The index of the first race to run.
+     * @param step  The number of races between each race that is run.
+     * @return The results of the races that were run.
+     */
+    private BalanceReport runEvery(int first, int step) {
+        LaneUpdater updater = new LaneUpdater(1);
+        BalanceReport report = new BalanceReport();
+        for (int i = first; i < this.races; i += step) {
+            report.add(this.runRace(i, updater));
+        }
+        return report;
+    }
+}
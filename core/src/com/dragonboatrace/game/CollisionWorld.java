@@ -0,0 +1,134 @@
+package com.dragonboatrace.game;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.dragonboatrace.game.entities.Boat;
+import com.dragonboatrace.game.entities.EntityHitbox;
+import com.dragonboatrace.game.systems.HitboxComponent;
+import com.dragonboatrace.game.systems.RaceEntities;
+
+/**
+ * Finds the collisions between the boats and the obstacles of every lane at once.
+ * <p>Each tick the hitboxes of the obstacle entities of all the lanes are put into a {@link SpatialHash}, then each
+ * boat only checks the obstacles near it. A boat that has drifted out of its lane can therefore hit the obstacles
+ * of the lane it is in, and the cost no longer grows with the number of boats times the number of obstacles.</p>
+ *
+ * @author Jacob Turner
+ */
+public class CollisionWorld {
+
+    /**
+     * The size of a cell in the grid, a little larger than the obstacles.
+     */
+    public static final float CELL_SIZE = 128;
+
+    /**
+     * The grid the obstacles are put into.
+     */
+    private final SpatialHash grid;
+    /**
+     * The entity of each obstacle in the grid this tick, indexed by its handle.
+     */
+    private final Array<Entity> handleEntities;
+    /**
+     * The handles found by the latest query.
+     */
+    private final IntArray candidates;
+
+    /**
+     * Creates an empty collision world.
+     */
+    public CollisionWorld() {
+        this.grid = new SpatialHash(CELL_SIZE);
+        this.handleEntities = new Array<>(false, 64);
+        this.candidates = new IntArray();
+    }
+
+    /**
+     * Check every boat against the obstacles near it, in any lane.
+     *
+     * @param lanes The lanes whose boats and obstacles are to be checked.
+     */
+    public void collide(Lane[] lanes) {
+        this.clear();
+        for (Lane lane : lanes) {
+            ObstacleStore store = lane.getObstacleStore();
+            for (int i = 0; i < store.size(); i++) {
+                this.insert(store.getEntity(store.slot(i)));
+            }
+        }
+        for (Lane lane : lanes) {
+            this.collide(lane.getBoat().getEngineEntity());
+        }
+    }
+
+    /**
+     * Check every boat against the obstacles near it.
+     *
+     * @param boats     The boat entities, from the {@link RaceEntities#BOATS} family.
+     * @param obstacles The obstacle entities, from the {@link RaceEntities#OBSTACLES} family.
+     */
+    public void collide(ImmutableArray<Entity> boats, ImmutableArray<Entity> obstacles) {
+        this.clear();
+        for (int i = 0; i < obstacles.size(); i++) {
+            this.insert(obstacles.get(i));
+        }
+        for (int i = 0; i < boats.size(); i++) {
+            this.collide(boats.get(i));
+        }
+    }
+
+    /**
+     * Empty the grid for a new tick.
+     */
+    private void clear() {
+        this.grid.clear();
+        this.handleEntities.clear();
+    }
+
+    /**
+     * Put an obstacle into the grid.
+     *
+     * @param obstacle The entity of the obstacle.
+     */
+    private void insert(Entity obstacle) {
+        EntityHitbox hitbox = RaceEntities.HITBOX.get(obstacle).hitbox;
+        Vector2 pos = hitbox.getPosition();
+        Vector2 size = hitbox.getSize();
+        this.grid.insert(this.handleEntities.size, pos.x, pos.y, size.x, size.y);
+        this.handleEntities.add(obstacle);
+    }
+
+    /**
+     * Check a boat against the obstacles in the grid near it.
+     *
+     * @param entity The entity of the boat.
+     */
+    private void collide(Entity entity) {
+        Boat boat = RaceEntities.BOAT_STATS.get(entity).boat;
+        // Don't bother checking for collisions if no-collide is enabled.
+        if (boat.getNoCollide()) {
+            return;
+        }
+        EntityHitbox hitbox = RaceEntities.HITBOX.get(entity).hitbox;
+        Vector2 pos = hitbox.getPosition();
+        Vector2 size = hitbox.getSize();
+        this.candidates.clear();
+        this.grid.query(pos.x, pos.y, size.x, size.y, this.candidates);
+
+        boat.beginContacts();
+        for (int i = 0; i < this.candidates.size; i++) {
+            Entity obstacle = this.handleEntities.get(this.candidates.get(i));
+            HitboxComponent other = RaceEntities.HITBOX.get(obstacle);
+            Vector2 otherPos = other.hitbox.getPosition();
+            Vector2 otherSize = other.hitbox.getSize();
+            if (hitbox.overlaps(otherPos.x, otherPos.y, otherSize.x, otherSize.y)) {
+                boat.touch(RaceEntities.OBSTACLE.get(obstacle).id, other.weight);
+            }
+        }
+        boat.endContacts();
+    }
+}
@@ -1,6 +1,7 @@
 package com.dragonboatrace.game;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
@@ -8,6 +9,10 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.dragonboatrace.game.screens.TitleScreen;
 
 import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Represents the game as a class.
@@ -16,6 +21,11 @@ import java.util.ArrayList;
  */
 public class DragonBoatRace extends Game {
 
+    /**
+     * The longest to wait for saves to be written when the game closes.
+     */
+    public static final long SAVE_WAIT_SECONDS = 5;
+
     /**
      * The spritebatch to be used across all the screens.
      */
@@ -28,6 +38,26 @@ public class DragonBoatRace extends Game {
      * The font used to display the text on screen.
      */
     public BitmapFont font;
+    /**
+     * The generated fonts shared by all the screens.
+     */
+    public FontRegistry fonts;
+    /**
+     * The background images shared by every round.
+     */
+    public BackgroundPool backgroundPool;
+    /**
+     * Updates the lanes of a race, shared by every round so its threads are only started once.
+     */
+    public LaneUpdater laneUpdater;
+    /**
+     * The thread that finishes the round for the computer boats once the player has crossed the line.
+     */
+    public ExecutorService simulationWorker;
+    /**
+     * The thread that writes save files, so saving doesn't hold up a frame.
+     */
+    public ExecutorService saveWorker;
     /**
      * A list of currently active screens that need to be disposed when the game closes.
      */
@@ -41,6 +71,30 @@ public class DragonBoatRace extends Game {
         this.batch = new SpriteBatch();
         this.shapeRenderer = new ShapeRenderer();
         this.font = new BitmapFont();
+        this.fonts = new FontRegistry(Gdx.files.internal("fonts/FreeMono.ttf"));
+        // Generate the race and boat selection fonts up front rather than between screens
+        this.fonts.get(24, FontRegistry.Style.BORDERED);
+        this.fonts.get(48, FontRegistry.Style.DARK);
+        this.backgroundPool = new BackgroundPool(BackgroundPool.NO_LIMIT);
+        this.laneUpdater = new LaneUpdater();
+        this.simulationWorker = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "round-finisher");
+                // Don't keep the game open if the window is closed mid-simulation
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        this.saveWorker = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "save-writer");
+                // A save cut short leaves its slot as it was, so it is safe not to wait for it
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
         this.toDispose = new ArrayList<>();
         setScreen(new TitleScreen(this));
     }
@@ -53,9 +107,21 @@ public class DragonBoatRace extends Game {
         this.batch.dispose();
         this.shapeRenderer.dispose();
         this.font.dispose();
+        this.fonts.dispose();
+        this.backgroundPool.dispose();
+        this.laneUpdater.dispose();
+        this.simulationWorker.shutdownNow();
+        // Give any save being written a moment to finish
+        this.saveWorker.shutdown();
+        try {
+            this.saveWorker.awaitTermination(SAVE_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
         for (ScreenAdapter s : this.toDispose) {
             s.dispose();
         }
+        TextureCache.clear();
     }
 
 }
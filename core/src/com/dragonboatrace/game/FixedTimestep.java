@@ -0,0 +1,89 @@
+package com.dragonboatrace.game;
+
+/**
+ * Turns the variable time between frames into a whole number of fixed simulation steps.
+ * <p>The time left over after the last whole step is kept for the next frame, and is given as a fraction of a step
+ * so that the renderer can draw between the last two simulation states.</p>
+ *
+ * @author Jacob Turner
+ */
+public class FixedTimestep {
+
+    /**
+     * The length of a simulation step in seconds, 60 steps a second.
+     */
+    public static final float STEP = 1 / 60f;
+    /**
+     * The most steps that will be run for a single frame, so a long hitch slows the game rather than freezing it.
+     */
+    public static final int MAX_STEPS = 5;
+
+    /**
+     * The length of a step in seconds.
+     */
+    private final float step;
+    /**
+     * The most steps to run for a single frame.
+     */
+    private final int maxSteps;
+    /**
+     * The time that has passed but has not been simulated yet.
+     */
+    private float accumulator;
+
+    /**
+     * Creates a timestep with the default step length and catch-up limit.
+     */
+    public FixedTimestep() {
+        this(STEP, MAX_STEPS);
+    }
+
+    /**
+     * Creates a timestep with a given step length and catch-up limit.
+     *
+     * @param step     The length of a step in seconds.
+     * @param maxSteps The most steps to run for a single frame.
+     */
+    public FixedTimestep(float step, int maxSteps) {
+        this.step = step;
+        this.maxSteps = maxSteps;
+        this.accumulator = 0;
+    }
+
+    /**
+     * Add the time since the previous frame and work out how many steps to simulate.
+     *
+     * @param deltaTime The time since the previous frame.
+     * @return The number of steps to simulate this frame.
+     */
+    public int advance(float deltaTime) {
+        this.accumulator += deltaTime;
+        int steps = (int) (this.accumulator / this.step);
+        if (steps > this.maxSteps) {
+            // Too far behind to catch up, drop the rest of the time instead
+            steps = this.maxSteps;
+            this.accumulator = 0;
+        } else {
+            this.accumulator -= steps * this.step;
+        }
+        return steps;
+    }
+
+    /**
+     * Get how far the time that has passed is between the last step and the next, used to interpolate rendering.
+     *
+     * @return A fraction between 0 and 1.
+     */
+    public float getAlpha() {
+        return Math.min(this.accumulator / this.step, 1);
+    }
+
+    /**
+     * Get the length of a step.
+     *
+     * @return The length of a step in seconds.
+     */
+    public float getStep() {
+        return this.step;
+    }
+}
@@ -0,0 +1,98 @@
+package com.dragonboatrace.game;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+
+import java.util.HashMap;
+
+/**
+ * Generates the game's fonts once and shares them between the screens.
+ * <p>A font is rasterised the first time a size and style is asked for and kept until the game closes, so moving
+ * between rounds or screens never generates a font again.</p>
+ *
+ * @author Jacob Turner
+ */
+public class FontRegistry {
+
+    /**
+     * The ways the text can be drawn.
+     */
+    public enum Style {
+        // Colour, Border colour, Border width
+        BORDERED(Color.WHITE, Color.BLACK, 1),
+        DARK(Color.BLACK, Color.BLACK, 0);
+
+        /**
+         * The colour of the text.
+         */
+        final Color color;
+        /**
+         * The colour of the outline around the text.
+         */
+        final Color borderColor;
+        /**
+         * The width of the outline, 0 for no outline.
+         */
+        final float borderWidth;
+
+        Style(Color color, Color borderColor, float borderWidth) {
+            this.color = color;
+            this.borderColor = borderColor;
+            this.borderWidth = borderWidth;
+        }
+    }
+
+    /**
+     * The generator used to rasterise the fonts.
+     */
+    private final FreeTypeFontGenerator generator;
+    /**
+     * The fonts generated so far, by size and style.
+     */
+    private final HashMap<Integer, BitmapFont> fonts;
+
+    /**
+     * Creates a registry for a TrueType font file.
+     *
+     * @param fontFile The font file to generate the fonts from.
+     */
+    public FontRegistry(FileHandle fontFile) {
+        this.generator = new FreeTypeFontGenerator(fontFile);
+        this.fonts = new HashMap<>();
+    }
+
+    /**
+     * Get the font of a size and style, generating it if this is the first time it has been asked for.
+     *
+     * @param size  The size of the font in pixels.
+     * @param style The style of the font.
+     * @return The shared font. It must not be disposed by the caller.
+     */
+    public BitmapFont get(int size, Style style) {
+        Integer key = size * Style.values().length + style.ordinal();
+        BitmapFont font = this.fonts.get(key);
+        if (font == null) {
+            FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
+            parameter.size = size;
+            parameter.color = style.color;
+            parameter.borderColor = style.borderColor;
+            parameter.borderWidth = style.borderWidth;
+            font = this.generator.generateFont(parameter);
+            this.fonts.put(key, font);
+        }
+        return font;
+    }
+
+    /**
+     * Dispose every generated font and the generator.
+     */
+    public void dispose() {
+        for (BitmapFont font : this.fonts.values()) {
+            font.dispose();
+        }
+        this.fonts.clear();
+        this.generator.dispose();
+    }
+}
@@ -1,17 +1,16 @@
 package com.dragonboatrace.game;
 
-import com.badlogic.gdx.Gdx;
+import com.badlogic.ashley.core.Engine;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.JsonValue;
 import com.dragonboatrace.game.entities.*;
+import com.dragonboatrace.game.systems.RaceEntities;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.ListIterator;
-import java.util.concurrent.ThreadLocalRandom;
 
 // THIS WHOLE CLASS IS NEW
 /**
@@ -22,9 +21,26 @@ import java.util.concurrent.ThreadLocalRandom;
 public class Lane {
 
     /**
-     * The list of the current obstacles in the lane.
+     * The width of the view a lane culls and spawns against until it is given one, that of a 1080p screen.
      */
-    private ArrayList<Obstacle> obstacles;
+    public static final float DEFAULT_VIEW_WIDTH = 1920;
+    /**
+     * The height of the view a lane culls and spawns against until it is given one, that of a 1080p screen.
+     */
+    public static final float DEFAULT_VIEW_HEIGHT = 1080;
+    /**
+     * All the obstacle types, kept so that spawning does not copy them each time.
+     */
+    private static final ObstacleType[] OBSTACLE_TYPES = ObstacleType.values();
+
+    /**
+     * The engine entities of the boat, obstacles and power up in the lane.
+     */
+    private final LaneEntities engineEntities = new LaneEntities();
+    /**
+     * The current obstacles in the lane, kept in order of their in-game y-position.
+     */
+    private final ObstacleStore obstacles;
     /**
      * The currently available power up in the lane.
      */
@@ -46,26 +62,86 @@ public class Lane {
      */
     private int maxObstacles;
     /**
-     * An instance of the player boat.
+     * The boat the view follows, the player boat unless the race has no player.
      */
-    private PlayerBoat pb;
+    private Boat pb;
     /**
      * A boolean of if the lane belongs to the player.
      */
     public boolean isPlayerLane;
+    /**
+     * The position an obstacle or power up is about to be spawned at, reused for every spawn.
+     */
+    private final Vector2 spawnPos = new Vector2();
+    /**
+     * The position of an entity relative to the player, reused for every on-screen check.
+     */
+    private final Vector2 relPos = new Vector2();
+    /**
+     * The player's y-position at the start of the current update, used in place of the player boat while updating
+     * so that the lanes can be updated at the same time.
+     */
+    private float playerY;
+    /**
+     * The power ups that have been collected or have left the screen during an update. Their textures are given
+     * back on the render thread.
+     */
+    private final Array<PowerUp> retiredPowers = new Array<>(false, 4);
+    /**
+     * A power up of each type that has been dropped and had its texture given back, indexed by the ordinal of its
+     * type, reused the next time one of that type spawns.
+     */
+    private final PowerUp[] sparePowers = new PowerUp[PowerUpType.values().length];
+    /**
+     * The velocity a power up is about to be spawned with, reused for every spawn.
+     */
+    private final Vector2 spawnVel = new Vector2();
+    /**
+     * The seed of the race the lane is in.
+     */
+    private RaceSeed seed;
+    /**
+     * The position of the lane in the race, which picks its streams from the seed.
+     */
+    private int index;
+    /**
+     * The stream the obstacles and power ups that spawn, and where, are chosen from.
+     */
+    private RandomXS128 spawnRandom;
+    /**
+     * The stream the obstacles and power ups turn with.
+     */
+    private RandomXS128 movementRandom;
+    /**
+     * The state of the spawning and movement streams loaded from a save, to carry on from once the round is set,
+     * or null if there is none.
+     */
+    private long[] savedStreams;
+    /**
+     * The width of the view around the player, which obstacles are spawned in and removed once they leave.
+     */
+    private float viewWidth = DEFAULT_VIEW_WIDTH;
+    /**
+     * The height of the view around the player, which obstacles are spawned above.
+     */
+    private float viewHeight = DEFAULT_VIEW_HEIGHT;
 
     /**
      * Creates a new lane given a boat and an instance of the player boat.
      *
      * @param boatInLane The boat that is in the lane.
-     * @param pb         An instance of the player boats lane.
+     * @param pb         The boat the view follows, normally the player boat.
      */
-    public Lane(Boat boatInLane, PlayerBoat pb) {
+    public Lane(Boat boatInLane, Boat pb) {
         this.boat = boatInLane;
-        this.obstacles = new ArrayList<>();
+        if (boatInLane != null) {
+            this.engineEntities.add(RaceEntities.boat(boatInLane));
+        }
+        this.obstacles = new ObstacleStore(16, this.engineEntities);
         this.currentPower = null;
         this.pb = pb;
         this.isPlayerLane = boatInLane instanceof PlayerBoat;
+        this.setSeed(new RaceSeed(new RandomXS128().nextLong()), 0);
     }
 
     /**
@@ -80,11 +156,12 @@ public class Lane {
         } else {
             this.boat = new CPUBoat(jsonString.get("boat"));
         }
+        this.engineEntities.add(RaceEntities.boat(this.boat));
 
         // Create the obstacles from the json string
-        this.obstacles = new ArrayList<>();
+        this.obstacles = new ObstacleStore(16, this.engineEntities);
         for (JsonValue o : jsonString.get("obstacles")) {
-            this.obstacles.add(new Obstacle(o));
+            this.addObstacle(new Obstacle(o));
         }
 
         // Set the player lane var
@@ -92,13 +169,53 @@ public class Lane {
 
         // Create the current power up from the json string
         if (jsonString.get("powerup").get(0) != null) {
-            this.currentPower = new PowerUp(jsonString.get("powerup"));
+            this.showPower(new PowerUp(jsonString.get("powerup")));
         } else {
             // If there wasn't a power up at the save point it will be null
             this.currentPower = null;
         }
         // Don't set this yet
         this.pb = null;
+        // Saves from before races were seeded get a new seed
+        this.setSeed(new RaceSeed(jsonString.getLong("seed", new RandomXS128().nextLong())), jsonString.getInt("index", 0));
+        // Saves from before the streams were saved start them again from the start of the round
+        if (jsonString.has("streams")) {
+            this.savedStreams = jsonString.get("streams").asLongArray();
+        }
+    }
+
+    /**
+     * Creates a new lane from a binary save file, building the obstacles straight into the store.
+     *
+     * @param in The save, at the start of a lane.
+     */
+    public Lane(SaveReader in) {
+        this.isPlayerLane = in.getBoolean();
+        if (this.isPlayerLane) {
+            this.boat = new PlayerBoat(in);
+        } else {
+            this.boat = new CPUBoat(in);
+        }
+        this.engineEntities.add(RaceEntities.boat(this.boat));
+
+        this.obstacles = new ObstacleStore(16, this.engineEntities);
+        int count = in.getVarInt();
+        for (int i = 0; i < count; i++) {
+            int slot = this.obstacles.read(in);
+            // The obstacle has a new id, so the boat has to be told again that it is touching it
+            if (in.getBoolean()) {
+                this.boat.restoreContact(this.obstacles.getId(slot));
+            }
+        }
+
+        this.currentPower = null;
+        if (in.getBoolean()) {
+            this.showPower(new PowerUp(in));
+        }
+        // Don't set this yet
+        this.pb = null;
+        this.setSeed(new RaceSeed(in.getFixedLong()), in.getVarInt());
+        this.savedStreams = new long[]{in.getFixedLong(), in.getFixedLong(), in.getFixedLong(), in.getFixedLong()};
     }
 
     /**
@@ -115,17 +232,9 @@ public class Lane {
         if (obj.getClass() == this.getClass()) {
             Lane objLane = (Lane) obj;
 
-            // Check if the length of obstacles is the same
-            if (objLane.obstacles.size() != this.obstacles.size()) {
-                return false;
-            }
-
             // Check in-place if all the obstacles are the same in each lane
             // this is ok as the order saved is the same as the order in the game
-            boolean obstacleBool = true;
-            for (int i = 0; i < obstacles.size(); i++) {
-                obstacleBool = obstacleBool && objLane.obstacles.get(i).equals(this.obstacles.get(i));
-            }
+            boolean obstacleBool = this.obstacles.equals(objLane.obstacles);
             boolean powerBool = false;
             // Check the power ups
             if (this.currentPower != null) {
@@ -160,78 +269,331 @@ public class Lane {
     public String save() {
         String[] obstacleStrings = new String[this.obstacles.size()];
         for (int i = 0; i < obstacleStrings.length; i++) {
-            obstacleStrings[i] = this.obstacles.get(i).save();
+            obstacleStrings[i] = this.obstacles.save(this.obstacles.slot(i));
         }
 
-        return String.format("{boat:%s, obstacles:%s, powerup:%s, isPlayer:%d}",
+        return String.format("{boat:%s, obstacles:%s, powerup:%s, isPlayer:%d, seed:%d, index:%d, streams:%s}",
                 this.boat.save(),
                 Arrays.toString(obstacleStrings),
                 (this.currentPower != null) ? this.currentPower.save() : null,
-                this.isPlayerLane ? 1 : 0);
+                this.isPlayerLane ? 1 : 0,
+                this.seed.getSeed(),
+                this.index,
+                Arrays.toString(this.getStreams()));
 
 
     }
 
+    /**
+     * Write the boat, power up and obstacles in the lane to a binary save file.
+     *
+     * @param out The save to write to.
+     */
+    public void write(SaveWriter out) {
+        out.putBoolean(this.isPlayerLane);
+        this.boat.write(out);
+        out.putVarInt(this.obstacles.size());
+        for (int i = 0; i < this.obstacles.size(); i++) {
+            int slot = this.obstacles.slot(i);
+            this.obstacles.write(slot, out);
+            out.putBoolean(this.boat.isTouching(this.obstacles.getId(slot)));
+        }
+        out.putBoolean(this.currentPower != null);
+        if (this.currentPower != null) {
+            this.currentPower.write(out);
+        }
+        out.putFixedLong(this.seed.getSeed());
+        out.putVarInt(this.index);
+        for (long state : this.getStreams()) {
+            out.putFixedLong(state);
+        }
+    }
+
+    /**
+     * Get where the lane's spawning and movement streams are up to, so a loaded race can carry on from there.
+     *
+     * @return The two halves of the state of the spawning stream, then of the movement stream.
+     */
+    private long[] getStreams() {
+        return new long[]{this.spawnRandom.getState(0), this.spawnRandom.getState(1),
+                this.movementRandom.getState(0), this.movementRandom.getState(1)};
+    }
+
     /**
      * Update the contents of the lane.
      *
      * @param deltaTime The time since the previous frame.
      * @see Boat
-     * @see Obstacle
+     * @see ObstacleStore
      * @see PowerUp
      */
     public void update(float deltaTime) {
-        // Update the obstacle positions
-        ListIterator<Obstacle> iter = obstacles.listIterator();
-        while (iter.hasNext()) {
-            Obstacle obstacle = iter.next();
-            if (this.checkEntityNotOnScreen(obstacle)) {
-                obstacle.dispose(); // Dispose of its textures, as otherwise this will cause a memory leak
-                iter.remove();    // If the obstacles is off the screen (apart from the top) delete it
+        this.update(deltaTime, this.getPlayerY());
+    }
+
+    /**
+     * Update the contents of the lane, culling and spawning relative to a snapshot of the player's position rather
+     * than the player boat itself. Only the lane's own boat, obstacles and power up are changed, so different lanes
+     * can be updated on different threads.
+     * <p>This runs each part of the update in turn: {@link #updateObstacles(float, float)},
+     * {@link #updatePower(float, float)}, {@link #steerBoat()} and {@link #moveBoat(float)}. Each part remembers
+     * the previous positions of what it moves first. A race engine runs the same parts, but moves the obstacles
+     * and boats of every lane together through their components.</p>
+     *
+     * @param deltaTime The time since the previous frame.
+     * @param playerY   The player's in-game y-position at the start of the step.
+     */
+    public void update(float deltaTime, float playerY) {
+        this.updateObstacles(deltaTime, playerY);
+        this.updatePower(deltaTime, playerY);
+        this.steerBoat();
+        this.moveBoat(deltaTime);
+    }
+
+    /**
+     * Remove the obstacles that have left the screen, move the rest and spawn new ones to replace them.
+     *
+     * @param deltaTime The length of the step in seconds.
+     * @param playerY   The player's in-game y-position at the start of the step.
+     */
+    public void updateObstacles(float deltaTime, float playerY) {
+        this.cullObstacles(playerY);
+        this.obstacles.update(deltaTime, this.movementRandom);
+        this.refillObstacles();
+    }
+
+    /**
+     * Remember where the obstacles are at the start of a step, then remove the ones that have left the screen.
+     *
+     * @param playerY The player's in-game y-position at the start of the step.
+     */
+    public void cullObstacles(float playerY) {
+        this.playerY = playerY;
+        this.obstacles.storePreviousPositions();
+
+        // The obstacles that have gone off the bottom of the screen are all at the start of the list
+        float bottom = this.playerY - 100;
+        int passed = 0;
+        while (passed < this.obstacles.size() && this.obstacles.getY(this.obstacles.slot(passed)) + this.obstacles.getHeight(this.obstacles.slot(passed)) < bottom) {
+            this.boat.endContact(this.obstacles.getId(this.obstacles.slot(passed)));
+            passed++;
+        }
+        this.obstacles.removeFirst(passed);
+
+        // Remove the obstacles that have left the sides of the screen
+        int i = 0;
+        while (i < this.obstacles.size()) {
+            int slot = this.obstacles.slot(i);
+            if (this.checkObstacleNotOnScreen(slot)) {
+                this.boat.endContact(this.obstacles.getId(slot));
+                this.obstacles.removeAt(i);
             } else {
-                this.boat.checkForCollision(obstacle);
-                obstacle.move(deltaTime);    // Run the obstacles mover
-                obstacle.update(deltaTime);    // Update the position of the obstacle
+                i++;
             }
         }
+    }
+
+    /**
+     * Turn the obstacles that wander, drawing from the lane's movement stream.
+     *
+     * @param deltaTime The length of the step in seconds.
+     */
+    public void turnObstacles(float deltaTime) {
+        this.obstacles.turn(deltaTime, this.movementRandom);
+    }
+
+    /**
+     * Put the obstacles back in order once they have moved, and if some have been removed spawn a new one.
+     */
+    public void refillObstacles() {
+        // Moving obstacles may have overtaken each other
+        this.obstacles.sort();
 
         // If some obstacles have been removed create new ones to replace them
         if (this.obstacles.size() < maxObstacles) {
-            Obstacle o = spawnObstacle();
-            o.loadTexture();
-            this.obstacles.add(o);
+            this.spawnObstacle();
         }
+    }
 
-        // Randomly spawn a new power up if there isn't one
+    /**
+     * Move the power up, giving it to the boat if the boat is touching it, or randomly spawn one if there isn't one.
+     *
+     * @param deltaTime The length of the step in seconds.
+     * @param playerY   The player's in-game y-position at the start of the step.
+     */
+    public void updatePower(float deltaTime, float playerY) {
+        this.playerY = playerY;
         if (this.currentPower != null) {
+            this.currentPower.storePreviousPosition();
             updatePowerUp(deltaTime);
         } else {
-            this.currentPower = spawnPowerUp();
+            PowerUp spawned = this.spawnPowerUp();
+            if (spawned != null) {
+                this.showPower(spawned);
+            }
         }
+    }
 
-        // If the lane is for a cpu boat the boat needs to know where the obstacles are and decide its direction
+    /**
+     * If the lane is for a cpu boat, let the boat look at where the obstacles are and decide its direction.
+     */
+    public void steerBoat() {
         if (!this.isPlayerLane) {
             ((CPUBoat) this.boat).decideMovement(obstacles);
         }
+    }
 
-        this.boat.move(deltaTime);
-        this.boat.update(deltaTime);
+    /**
+     * Move the boat, after counting down its timed effects.
+     *
+     * @param deltaTime The length of the step in seconds.
+     */
+    public void moveBoat(float deltaTime) {
+        this.boat.advance(deltaTime);
     }
 
     /**
-     * Add the contents to the given SpriteBatch and render it.
+     * Give back the textures of the power ups dropped since the last frame, and give everything in the lane its
+     * texture so it can be drawn by the race engine. Must be called on the render thread.
+     */
+    public void prepareSprites() {
+        this.disposeRetiredPowers();
+        this.obstacles.loadTextures();
+        if (this.currentPower != null) {
+            // Power ups are spawned while updating, which may not be on the render thread
+            this.currentPower.loadTexture();
+            RaceEntities.SPRITE.get(this.currentPower.getEngineEntity()).region = this.currentPower.getImage();
+        }
+        RaceEntities.SPRITE.get(this.boat.getEngineEntity()).region = this.boat.getImage();
+    }
+
+    /**
+     * Race the lane in an engine, taking it out of any engine it was in before.
      *
-     * @param batch The spritebatch to be added to.
-     * @see Boat
-     * @see Obstacle
-     * @see PowerUp
+     * @param engine The engine.
+     */
+    public void attach(Engine engine) {
+        this.engineEntities.attach(engine);
+    }
+
+    /**
+     * Take the lane out of the engine it is being raced in, if any.
+     */
+    public void detach() {
+        this.engineEntities.detach();
+    }
+
+    /**
+     * Give the entities spawned and dropped since the last flush to the engine the lane is raced in. Must be
+     * called on the thread that runs the engine, once no lane is updating.
+     */
+    public void flushEntities() {
+        this.engineEntities.flush();
+    }
+
+    /**
+     * Remember the positions of everything in the lane at the start of a simulation step.
+     */
+    public void storePreviousPositions() {
+        this.obstacles.storePreviousPositions();
+        if (this.currentPower != null) this.currentPower.storePreviousPosition();
+        this.boat.storePreviousPosition();
+    }
+
+    /**
+     * Work out where to draw everything in the lane, between the previous and the current simulation step.
+     *
+     * @param alpha How far between the previous and the current step to draw, from 0 to 1.
+     */
+    public void interpolate(float alpha) {
+        this.obstacles.interpolate(alpha);
+        if (this.currentPower != null) this.currentPower.interpolate(alpha);
+        this.boat.interpolate(alpha);
+    }
+
+    /**
+     * Add a copy of an obstacle to the lane, keeping the obstacles in order of their y-position.
+     *
+     * @param obstacle The obstacle to add.
+     */
+    public void addObstacle(Obstacle obstacle) {
+        this.obstacles.add(obstacle);
+    }
+
+    /**
+     * Find the first obstacle whose y-position is at or above a given y-coordinate using a binary search.
+     *
+     * @param y The in-game y-coordinate to search for.
+     * @return The index of the first obstacle at or above y, or the number of obstacles if there are none.
+     */
+    public int findFirstObstacleAbove(float y) {
+        return this.obstacles.findFirstAbove(y);
+    }
+
+    /**
+     * Get the obstacles in the lane, in order of their y-position.
+     *
+     * @return The store of obstacles.
+     */
+    public ObstacleStore getObstacleStore() {
+        return this.obstacles;
+    }
+
+    /**
+     * Get the player's in-game y-position.
+     *
+     * @return The y-position of the player boat.
+     */
+    public float getPlayerY() {
+        return this.pb.getInGamePos().y;
+    }
+
+    /**
+     * Give back the textures of the power ups that were dropped while updating. Must be called on the render
+     * thread.
+     */
+    private void disposeRetiredPowers() {
+        for (int i = 0; i < this.retiredPowers.size; i++) {
+            this.retiredPowers.get(i).dispose();
+            this.keepSpare(this.retiredPowers.get(i));
+        }
+        this.retiredPowers.clear();
+    }
+
+    /**
+     * Drop the current power up. If it has never been drawn it can be reused straight away, otherwise its texture
+     * is given back on the render thread first.
+     */
+    private void retireCurrentPower() {
+        this.engineEntities.remove(this.currentPower.getEngineEntity());
+        if (this.currentPower.hasTexture()) {
+            this.retiredPowers.add(this.currentPower);
+        } else {
+            this.keepSpare(this.currentPower);
+        }
+        this.currentPower = null;
+    }
+
+    /**
+     * Make a power up the current one, adding its entity to the lane.
+     *
+     * @param power The power up.
      */
-    public void render(SpriteBatch batch) {
-        for (Obstacle obstacle : this.obstacles) {
-            obstacle.render(batch, this.pb.getInGamePos());
+    private void showPower(PowerUp power) {
+        if (power.getEngineEntity() == null) {
+            RaceEntities.powerUp(power);
         }
-        if (this.currentPower != null) this.currentPower.render(batch, this.pb.getInGamePos());
-        this.boat.render(batch, this.pb.getInGamePos());
+        this.currentPower = power;
+        this.engineEntities.add(power.getEngineEntity());
+    }
+
+    /**
+     * Keep a dropped power up with no texture to be reused by the next power up of its type.
+     *
+     * @param power The power up to keep.
+     */
+    private void keepSpare(PowerUp power) {
+        this.sparePowers[power.getType().ordinal()] = power;
     }
 
     /**
@@ -241,8 +603,21 @@ public class Lane {
      * @return A boolean of if the given entity is on the screen.
      */
     private boolean checkEntityNotOnScreen(Entity entity) {
-        Vector2 renderPos = entity.getRelPos(this.pb.getInGamePos());
-        return renderPos.x > Gdx.graphics.getWidth() + 30 || renderPos.x + entity.getSize().x < -30 || renderPos.y + entity.getSize().y < -100;
+        this.relPos.set(0, this.playerY);
+        Vector2 renderPos = entity.getRelPos(this.relPos, this.relPos);
+        return renderPos.x > this.viewWidth + 30 || renderPos.x + entity.getSize().x < -30 || renderPos.y + entity.getSize().y < -100;
+    }
+
+    /**
+     * Check if an obstacle is still on the screen.
+     *
+     * @param slot The slot of the obstacle being checked.
+     * @return A boolean of if the obstacle is on the screen.
+     */
+    private boolean checkObstacleNotOnScreen(int slot) {
+        float x = this.obstacles.getX(slot);
+        float relY = this.obstacles.getY(slot) - this.playerY;
+        return x > this.viewWidth + 30 || x + this.obstacles.getWidth(slot) < -30 || relY + this.obstacles.getHeight(slot) < -100;
     }
 
     /**
@@ -263,12 +638,10 @@ public class Lane {
         // Check if the power up collided with the boat
         if (this.boat.getHitbox().checkCollision(this.currentPower.getHitbox())) {
             this.currentPower.applyEffect(this.boat);
-            this.currentPower.dispose();
-            this.currentPower = null;
+            this.retireCurrentPower();
             // Check if the obstacle is still on the screen
         } else if (this.checkEntityNotOnScreen(this.currentPower)) {
-            this.currentPower.dispose();
-            this.currentPower = null;
+            this.retireCurrentPower();
             // Stop the power up from leaving the lane
         } else if (this.checkPowerUpNotInEdges()) {
             this.currentPower.bounceEdge(deltaTime);
@@ -288,11 +661,53 @@ public class Lane {
         Tuple<Float, Float> bounds = this.boat.getLaneBounds();
         shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
         shapeRenderer.setColor(Color.RED);
-        shapeRenderer.rect(bounds.a, 0, bounds.b - bounds.a, Gdx.graphics.getHeight());
+        shapeRenderer.rect(bounds.a, 0, bounds.b - bounds.a, this.viewHeight);
         shapeRenderer.end();
 
     }
 
+    /**
+     * Set the seed of the race the lane is in, and start drawing from the lane's streams for the current round.
+     *
+     * @param seed  The seed of the race.
+     * @param index The position of the lane in the race. Every lane in a race must have a different index.
+     */
+    public void setSeed(RaceSeed seed, int index) {
+        this.seed = seed;
+        this.index = index;
+        this.reseed();
+    }
+
+    /**
+     * Set the size of the view around the player. This is the size of the screen when the race is shown, but the
+     * lane never reads the screen itself so that races can be run without one.
+     *
+     * @param width  The width of the view.
+     * @param height The height of the view.
+     */
+    public void setViewSize(float width, float height) {
+        this.viewWidth = width;
+        this.viewHeight = height;
+    }
+
+    /**
+     * Get the seed of the race the lane is in.
+     *
+     * @return The seed of the race.
+     */
+    public RaceSeed getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Start the lane's streams again for the current round, so every round plays out the same for a seed.
+     */
+    private void reseed() {
+        this.spawnRandom = this.seed.stream(this.round, this.index, RaceSeed.SPAWNING);
+        this.movementRandom = this.seed.stream(this.round, this.index, RaceSeed.MOVEMENT);
+        if (this.currentPower != null) this.currentPower.setRandom(this.movementRandom);
+    }
+
     /**
      * Update the current round.
      *
@@ -302,6 +717,13 @@ public class Lane {
      */
     public int updateRound(int newRound, float obstacleMultiplier) {
         this.round = newRound;
+        this.reseed();
+        // A race loaded part way through a round carries on the streams from where they were saved
+        if (this.savedStreams != null) {
+            this.spawnRandom.setState(this.savedStreams[0], this.savedStreams[1]);
+            this.movementRandom.setState(this.savedStreams[2], this.savedStreams[3]);
+            this.savedStreams = null;
+        }
 
         int offset = 3;
 
@@ -310,17 +732,15 @@ public class Lane {
     }
 
     /**
-     * Create a new random obstacle at a random position in the lane.
-     *
-     * @return An obstacle of random type and at random position.
+     * Add a new random obstacle at a random position in the lane.
      */
-    private Obstacle spawnObstacle() {
-        Vector2 spawnPos;    // position the obstacle will spawn at
-        Vector2 dir;        // direction the obstacle will start travelling in
+    private void spawnObstacle() {
+        float dirX;            // direction the obstacle will start travelling in
+        float dirY;
         ObstacleType obs;    // type of the obstacle that will be spawned
         int obstacleChoice;    // index of the type of obstacle that will be spawned
         int side;            // the side of the screen the obstacle will spawn at
-        ThreadLocalRandom rand = ThreadLocalRandom.current();
+        RandomXS128 rand = this.spawnRandom;
 
         switch (round) {    // The types of obstacles that can spawn is dependant on the round
             case 0:
@@ -340,7 +760,7 @@ public class Lane {
                 break;
         }
 
-        obs = ObstacleType.values()[obstacleChoice];    // Select the obstacle type from the list
+        obs = OBSTACLE_TYPES[obstacleChoice];    // Select the obstacle type from the list
         if (obs.getMover() == MovementCharacteristics.STATIC) {    // Static moving obstacles can only be spawned from the top
             side = 0;
         } else {
@@ -348,15 +768,17 @@ public class Lane {
         }
 
         // Creating a spawning position along the chosen edge
-        spawnPos = this.createObstacleOnSide(side);
-
-        dir = spawnPos.cpy().sub(new Vector2(    // Create a vector pointing from the spawn pos to a random point on the screen
-                rand.nextFloat() * Gdx.graphics.getWidth(),
-                rand.nextFloat() * Gdx.graphics.getHeight())
-        );
-        dir.limit(obs.getSpeed());    // Limit the vector to the max speed of the obstacle
+        this.createObstacleOnSide(side, this.spawnPos);
+
+        dirX = this.spawnPos.x - rand.nextFloat() * this.viewWidth;    // Create a vector pointing from the spawn pos to a random point on the screen
+        dirY = this.spawnPos.y - rand.nextFloat() * this.viewHeight;
+        float length = (float) Math.sqrt(dirX * dirX + dirY * dirY);
+        if (length > obs.getSpeed()) {    // Limit the vector to the max speed of the obstacle
+            dirX *= obs.getSpeed() / length;
+            dirY *= obs.getSpeed() / length;
+        }
 
-        return new Obstacle(obs, spawnPos, dir);    // Return the new obstacle
+        this.obstacles.add(obs, this.spawnPos.x, this.spawnPos.y, dirX, dirY);
     }
 
     /**
@@ -366,28 +788,33 @@ public class Lane {
      */
     private PowerUp spawnPowerUp() {
 
-        float random = ThreadLocalRandom.current().nextFloat();
+        float random = this.spawnRandom.nextFloat();
 
         // Random chance that a power up is spawned in a given frame
         if (random <= this.powerChance) {
             // Choose a position for the power up to spawn at
             int side;
-            Vector2 spawnPos;
-            Vector2 dir;
-            PowerUpType randomType = PowerUpType.chooseRandomType();
+            PowerUpType randomType = PowerUpType.chooseRandomType(this.spawnRandom);
             if (randomType.getMover() == MovementCharacteristics.STATIC) {
                 side = 0;
             } else {
-                side = ThreadLocalRandom.current().nextInt(3);
+                side = this.spawnRandom.nextInt(3);
             }
-            spawnPos = this.createObstacleOnSide(side);
-            dir = spawnPos.cpy().sub(new Vector2(    // Create a vector pointing from the spawn pos to a random point on the screen
-                    ThreadLocalRandom.current().nextFloat() * Gdx.graphics.getWidth(),
-                    ThreadLocalRandom.current().nextFloat() * Gdx.graphics.getHeight())
-            );
-            dir.limit(randomType.getSpeed());    // Limit the vector to the max speed of the obstacle
-            PowerUp power = new PowerUp(randomType, spawnPos, dir);
-            power.loadTexture();
+            this.createObstacleOnSide(side, this.spawnPos);
+            float dirX = this.spawnRandom.nextFloat() * this.viewWidth;    // Create a vector pointing from the spawn pos to a random point on the screen
+            float dirY = this.spawnRandom.nextFloat() * this.viewHeight;
+            this.spawnVel.set(this.spawnPos).sub(dirX, dirY);
+            this.spawnVel.limit(randomType.getSpeed());    // Limit the vector to the max speed of the obstacle
+
+            // Reuse a dropped power up of the same type if there is one
+            PowerUp power = this.sparePowers[randomType.ordinal()];
+            if (power != null) {
+                this.sparePowers[randomType.ordinal()] = null;
+                power.reset(this.spawnPos, this.spawnVel, this.movementRandom);
+            } else {
+                power = new PowerUp(randomType, new Vector2(this.spawnPos), new Vector2(this.spawnVel), this.movementRandom);
+            }
+            // The texture is loaded when the power up is first rendered
             return power;
         } else {
             return null;
@@ -397,24 +824,25 @@ public class Lane {
     /**
      * Choose a random location on a side to spawn an obstacle.
      *
-     * @param side The side to choose from.
+     * @param side     The side to choose from.
+     * @param spawnPos The vector to set to the position.
      * @return A vector2d of the position to spawn the obstacle on a side.
      */
-    private Vector2 createObstacleOnSide(int side) {
-        Vector2 spawnPos;
+    private Vector2 createObstacleOnSide(int side, Vector2 spawnPos) {
         if (side == 0) {
-            spawnPos = new Vector2(    // If spawning along the top edge, pick a random x coord and a random y within the bounds of the screen, will be translated off screen
+            spawnPos.set(    // If spawning along the top edge, pick a random x coord and a random y within the bounds of the screen, will be translated off screen
                     0,
-                    (ThreadLocalRandom.current().nextFloat()) * Gdx.graphics.getHeight()
+                    this.spawnRandom.nextFloat() * this.viewHeight
             );
         } else {
-            spawnPos = new Vector2(    // For the edge spawning, spawn slightly off screen but not enough to be deleted, and in the top 2/3rds of the side
+            spawnPos.set(    // For the edge spawning, spawn slightly off screen but not enough to be deleted, and in the top 2/3rds of the side
                     0,
-                    ThreadLocalRandom.current().nextFloat() * Gdx.graphics.getHeight() * 2 / 3
+                    this.spawnRandom.nextFloat() * this.viewHeight * 2 / 3
             );
         }
-        spawnPos.x = (float) ThreadLocalRandom.current().nextDouble(this.boat.getLaneBounds().a, this.boat.getLaneBounds().b);
-        spawnPos.y = 2 * Gdx.graphics.getHeight() - spawnPos.y + this.pb.getInGamePos().y;        // Translate 2 screens up and relative to the player
+        Tuple<Float, Float> bounds = this.boat.getLaneBounds();
+        spawnPos.x = bounds.a + this.spawnRandom.nextFloat() * (bounds.b - bounds.a);
+        spawnPos.y = 2 * this.viewHeight - spawnPos.y + this.playerY;        // Translate 2 screens up and relative to the player
 
         return spawnPos;
     }
@@ -424,19 +852,24 @@ public class Lane {
      */
     public void moveBoatToStart() {
         this.boat.moveToStart();
-        this.currentPower = null;
-        this.obstacles = new ArrayList<>();
+        // Give the power up's texture back before dropping it, the obstacle slots are kept for the next round
+        if (this.currentPower != null) {
+            this.currentPower.dispose();
+            this.retireCurrentPower();
+        }
+        this.disposeRetiredPowers();
+        this.obstacles.clear();
     }
 
     /**
      * Check if the boat has crossed the finish line.
      *
      * @param finishLine The position of the finish line.
-     * @param startTime  The time at which the boat started the round.
+     * @param clock      The clock of the round.
      * @return A boolean of if the boat has crossed the line.
      */
-    public boolean checkBoatFinished(int finishLine, long startTime) {
-        return this.boat.checkFinished(finishLine, startTime);
+    public boolean checkBoatFinished(int finishLine, RaceClock clock) {
+        return this.boat.checkFinished(finishLine, clock);
     }
 
     /**
@@ -460,9 +893,9 @@ public class Lane {
     /**
      * Set the instance of the player boat.
      *
-     * @param pb The boat to set as the player boat.
+     * @param pb The boat to set as the player boat, or the boat the view follows if there is no player.
      */
-    public void setPb(PlayerBoat pb) {
+    public void setPb(Boat pb) {
         this.pb = pb;
     }
 
@@ -498,12 +931,12 @@ public class Lane {
      *
      * @see Boat
      * @see PowerUp
-     * @see Obstacle
+     * @see ObstacleStore
      */
     public void dispose() {
-        for (Obstacle obstacle : obstacles) {
-            obstacle.dispose();
-        }
+        this.obstacles.dispose();
+        if (currentPower != null) currentPower.dispose();
+        this.disposeRetiredPowers();
         this.boat.dispose();
     }
 
@@ -512,9 +945,6 @@ public class Lane {
      */
     public void loadTexture() {
         this.boat.loadTexture();
-        for (Obstacle obstacle : obstacles) {
-            obstacle.loadTexture();
-        }
         if (currentPower != null) currentPower.loadTexture();
     }
 }
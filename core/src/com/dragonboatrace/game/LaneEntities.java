@@ -0,0 +1,141 @@
+package com.dragonboatrace.game;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BooleanArray;
+
+/**
+ * The engine entities of a lane's boat, obstacles and power up, and the engine the lane is being raced in.
+ * <p>The lanes are updated on several threads at once, but entities can only be added to and removed from an
+ * engine on the thread that runs it. The entities a lane spawns and drops while it updates are queued, and only
+ * given to the engine when {@link #flush()} is called once every lane has finished. They are flushed in the same
+ * order every time, so the engine's families always hold their entities in the same order for a seed.</p>
+ *
+ * @author Jacob Turner
+ */
+public class LaneEntities {
+
+    /**
+     * The entities of everything in the lane.
+     */
+    private final Array<Entity> entities;
+    /**
+     * The entities added or removed since the last flush, in the order they were.
+     */
+    private final Array<Entity> pending;
+    /**
+     * If each pending entity was added, rather than removed.
+     */
+    private final BooleanArray pendingAdds;
+    /**
+     * The engine the lane is being raced in, or null if it is in none.
+     */
+    private Engine engine;
+
+    /**
+     * Creates an empty set of entities, in no engine.
+     */
+    public LaneEntities() {
+        this.entities = new Array<>(false, 32);
+        this.pending = new Array<>(true, 8);
+        this.pendingAdds = new BooleanArray(true, 8);
+    }
+
+    /**
+     * Add an entity to the lane, and to its engine at the next flush.
+     *
+     * @param entity The entity.
+     */
+    public void add(Entity entity) {
+        this.entities.add(entity);
+        this.queue(entity, true);
+    }
+
+    /**
+     * Remove an entity from the lane, and from its engine at the next flush.
+     *
+     * @param entity The entity.
+     */
+    public void remove(Entity entity) {
+        if (this.entities.removeValue(entity, true)) {
+            this.queue(entity, false);
+        }
+    }
+
+    /**
+     * Remember a change to give to the engine at the next flush, or forget the change it undoes.
+     *
+     * @param entity The entity changed.
+     * @param added  If the entity was added, rather than removed.
+     */
+    private void queue(Entity entity, boolean added) {
+        if (this.engine == null) {
+            return;
+        }
+        // An obstacle's entity is reused straight away when another spawns, which undoes its removal
+        int index = this.pending.indexOf(entity, true);
+        if (index >= 0) {
+            this.pending.removeIndex(index);
+            this.pendingAdds.removeIndex(index);
+        } else {
+            this.pending.add(entity);
+            this.pendingAdds.add(added);
+        }
+    }
+
+    /**
+     * Give the entities added and removed since the last flush to the engine. Must be called on the thread that
+     * runs the engine.
+     */
+    public void flush() {
+        for (int i = 0; i < this.pending.size; i++) {
+            if (this.pendingAdds.get(i)) {
+                this.engine.addEntity(this.pending.get(i));
+            } else {
+                this.engine.removeEntity(this.pending.get(i));
+            }
+        }
+        this.pending.clear();
+        this.pendingAdds.clear();
+    }
+
+    /**
+     * Race the lane in an engine, taking its entities out of any engine it was in before.
+     *
+     * @param engine The engine.
+     */
+    public void attach(Engine engine) {
+        if (this.engine == engine) {
+            return;
+        }
+        this.detach();
+        this.engine = engine;
+        for (int i = 0; i < this.entities.size; i++) {
+            engine.addEntity(this.entities.get(i));
+        }
+    }
+
+    /**
+     * Take the lane's entities out of the engine it is in, if any.
+     */
+    public void detach() {
+        if (this.engine == null) {
+            return;
+        }
+        this.flush();
+        for (int i = 0; i < this.entities.size; i++) {
+            this.engine.removeEntity(this.entities.get(i));
+        }
+        this.engine = null;
+    }
+
+    /**
+     * Get the engine the lane is being raced in.
+     *
+     * @return The engine, or null if it is in none.
+     */
+    public Engine getEngine() {
+        return this.engine;
+    }
+}
@@ -13,7 +13,12 @@ import com.dragonboatrace.game.entities.Entity;
  */
 public class LaneMarker extends Entity {
     /**
-     * The texture of the lane marker.
+     * The path of the lane marker image, also its key in the {@link TextureCache}.
+     * It is left out of the entity atlas so that it can be repeated along the lane.
+     */
+    public static final String IMAGE_SRC = "Obstacles/line.png";
+    /**
+     * The texture of the lane marker, shared by every marker.
      */
     protected Texture img;
 
@@ -23,18 +28,11 @@ public class LaneMarker extends Entity {
      * @param pos The position of the lane marker.
      */
     public LaneMarker(Vector2 pos) {
-        this(pos, new Texture("Obstacles/line.png"));
-    }
-
-    /**
-     * Creates a lane marker at a position with a specific texture.
-     *
-     * @param pos The position of the lane marker.
-     * @param img The texture to set the lane marker to.
-     */
-    public LaneMarker(Vector2 pos, Texture img) {
-        super(pos, new Vector2(img.getWidth(), img.getHeight()), 0);
-        this.img = img;
+        super(pos, new Vector2(), 0);
+        this.img = TextureCache.obtain(IMAGE_SRC, IMAGE_SRC).getTexture();
+        // Repeat vertically so one quad can cover the whole height of the screen
+        this.img.setWrap(Texture.TextureWrap.ClampToEdge, Texture.TextureWrap.Repeat);
+        this.size.set(this.img.getWidth(), this.img.getHeight());
     }
 
     /**
@@ -46,26 +44,30 @@ public class LaneMarker extends Entity {
     }
 
     /**
-     * Add the lane marker to a spritebatch and render it.
+     * Add the lane marker to a spritebatch. The batch must already have begun.
      *
      * @param batch  The spritebatch to be added to.
      * @param relPos The position to be rendered relative to.
      */
     public void render(SpriteBatch batch, Vector2 relPos) {
-        batch.begin();
-        for (int i = 0; i < ((3 * Gdx.graphics.getHeight()) / this.img.getHeight()); i++) {
-            batch.draw(this.img,
-                    (this.pos.x - this.size.x / 2),
-                    (this.pos.y - relPos.y) % this.img.getHeight() + (i * this.img.getHeight()));
-        }
-        batch.end();
+        // Scroll the texture coordinates instead of moving tiles, v runs down the image
+        float height = Gdx.graphics.getHeight();
+        float scroll = (relPos.y - this.pos.y) / this.size.y;
+        batch.draw(this.img,
+                (this.pos.x - this.size.x / 2), 0,
+                this.size.x, height,
+                0, -scroll,
+                1, -scroll - height / this.size.y);
     }
 
     /**
-     * Dispose of the texture for the lane marker.
+     * Release the lane marker's reference to the shared texture.
      */
     public void dispose() {
-        this.img.dispose();
+        if (this.img != null) {
+            TextureCache.release(IMAGE_SRC);
+            this.img = null;
+        }
     }
 
     /**
@@ -0,0 +1,227 @@
+package com.dragonboatrace.game;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs a phase of a simulation step on every lane, spread across a {@link ForkJoinPool}.
+ * <p>Apart from the player's position, which is used to cull and spawn, each lane only touches its own boat,
+ * obstacles and power up during a phase. The player's position is read once before the phase starts and handed
+ * to every lane, so the lanes can all be updated at the same time. Anything that reads across lanes, such as
+ * collisions, must run after {@link #run(Lane[], Phase, float)} has returned.</p>
+ *
+ * @author Jacob Turner
+ */
+public class LaneUpdater {
+
+    /**
+     * The system property that forces the lanes to be updated one after another on the calling thread.
+     */
+    public static final String SINGLE_THREADED_PROPERTY = "dragonboatrace.singleThreaded";
+
+    /**
+     * The phase that does the whole update of a lane at once.
+     */
+    public static final Phase WHOLE_STEP = new Phase() {
+        @Override
+        public void run(Lane lane, float deltaTime, float playerY) {
+            lane.update(deltaTime, playerY);
+        }
+    };
+
+    /**
+     * The pool the lanes are updated in, or null if they are updated on the calling thread.
+     */
+    private final ForkJoinPool pool;
+    /**
+     * The task that updates a whole set of lanes, reused for every step.
+     */
+    private final PhaseTask phase;
+    /**
+     * The task for each lane, reused for every step and grown if there are more lanes.
+     */
+    private LaneTask[] laneTasks;
+
+    /**
+     * Creates an updater that uses every core, unless the single-threaded property is set.
+     */
+    public LaneUpdater() {
+        this(Boolean.getBoolean(SINGLE_THREADED_PROPERTY) ? 1 : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an updater with a given number of threads.
+     *
+     * @param threads The number of threads to update the lanes with. With 1 the lanes are updated on the calling
+     *                thread and no pool is created.
+     */
+    public LaneUpdater(int threads) {
+        this.pool = threads > 1 ? new ForkJoinPool(threads) : null;
+        this.phase = new PhaseTask();
+        this.laneTasks = new LaneTask[0];
+    }
+
+    /**
+     * Store the previous positions of and update every lane, returning once they have all finished.
+     *
+     * @param lanes     The lanes to update.
+     * @param deltaTime The length of the step in seconds.
+     */
+    public void update(Lane[] lanes, float deltaTime) {
+        this.run(lanes, WHOLE_STEP, deltaTime);
+    }
+
+    /**
+     * Run a phase on every lane, returning once they have all finished.
+     *
+     * @param lanes     The lanes to run the phase on.
+     * @param phase     The phase to run.
+     * @param deltaTime The length of the step in seconds.
+     */
+    public void run(Lane[] lanes, Phase phase, float deltaTime) {
+        // Snapshot the player's position before any lane can move the player
+        float playerY = lanes.length > 0 ? lanes[0].getPlayerY() : 0;
+
+        if (this.pool == null || lanes.length < 2) {
+            for (Lane lane : lanes) {
+                phase.run(lane, deltaTime, playerY);
+            }
+            return;
+        }
+
+        if (this.laneTasks.length < lanes.length) {
+            LaneTask[] grown = new LaneTask[lanes.length];
+            System.arraycopy(this.laneTasks, 0, grown, 0, this.laneTasks.length);
+            for (int i = this.laneTasks.length; i < grown.length; i++) {
+                grown[i] = new LaneTask();
+            }
+            this.laneTasks = grown;
+        }
+        for (int i = 0; i < lanes.length; i++) {
+            this.laneTasks[i].reinitialize();
+            this.laneTasks[i].set(lanes[i], phase, deltaTime, playerY);
+        }
+        this.phase.reinitialize();
+        this.phase.count = lanes.length;
+        this.pool.invoke(this.phase);
+        // Drop the references so finished lanes can be collected
+        for (int i = 0; i < lanes.length; i++) {
+            this.laneTasks[i].lane = null;
+            this.laneTasks[i].phase = null;
+        }
+    }
+
+    /**
+     * Check if the lanes are updated on more than one thread.
+     *
+     * @return True if a pool is used to update the lanes.
+     */
+    public boolean isParallel() {
+        return this.pool != null;
+    }
+
+    /**
+     * Stop the threads of the pool, if there is one.
+     */
+    public void dispose() {
+        if (this.pool != null) {
+            this.pool.shutdown();
+        }
+    }
+
+    /**
+     * The task that forks the task of every lane and waits for them all.
+     */
+    private class PhaseTask extends RecursiveAction {
+
+        /**
+         * The version of the task for serialisation, which it is never used for.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The number of lane tasks to run.
+         */
+        private int count;
+
+        /**
+         * Run every lane task, one of them on this thread.
+         */
+        @Override
+        protected void compute() {
+            for (int i = 1; i < this.count; i++) {
+                laneTasks[i].fork();
+            }
+            laneTasks[0].invoke();
+            for (int i = this.count - 1; i >= 1; i--) {
+                laneTasks[i].join();
+            }
+        }
+    }
+
+    /**
+     * The task that updates a single lane.
+     */
+    private static class LaneTask extends RecursiveAction {
+
+        /**
+         * The version of the task for serialisation, which it is never used for.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The lane to update.
+         */
+        private Lane lane;
+        /**
+         * The phase to run on the lane.
+         */
+        private Phase phase;
+        /**
+         * The length of the step in seconds.
+         */
+        private float deltaTime;
+        /**
+         * The player's y-position at the start of the step.
+         */
+        private float playerY;
+
+        /**
+         * Set what the next run of the task does.
+         *
+         * @param lane      The lane to update.
+         * @param phase     The phase to run on the lane.
+         * @param deltaTime The length of the step in seconds.
+         * @param playerY   The player's y-position at the start of the step.
+         */
+        private void set(Lane lane, Phase phase, float deltaTime, float playerY) {
+            this.lane = lane;
+            this.phase = phase;
+            this.deltaTime = deltaTime;
+            this.playerY = playerY;
+        }
+
+        /**
+         * Run the phase on the lane.
+         */
+        @Override
+        protected void compute() {
+            this.phase.run(this.lane, this.deltaTime, this.playerY);
+        }
+    }
+
+    /**
+     * A part of a simulation step that is run on each lane on its own.
+     */
+    public interface Phase {
+
+        /**
+         * Run the phase on a single lane, only changing the lane's own boat, obstacles and power up.
+         *
+         * @param lane      The lane.
+         * @param deltaTime The length of the step in seconds.
+         * @param playerY   The player's in-game y-position at the start of the phase.
+         */
+        void run(Lane lane, float deltaTime, float playerY);
+    }
+}
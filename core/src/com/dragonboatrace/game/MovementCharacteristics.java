@@ -2,49 +2,136 @@ package com.dragonboatrace.game;
 
 import com.badlogic.gdx.math.Vector2;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Random;
 
 /**
  * Defines how an obstacle can move.
+ * <p>The characteristics hold no state of their own. Each moving entity keeps its own time until its next change
+ * of direction and passes it in, along with the random stream to turn with, so entities never affect each other
+ * and can be updated in any order.</p>
  *
  * @author Jacob Turner
  */
 public enum MovementCharacteristics {
-    // Angle delta, Wander Delay Range
-    STATIC(new Tuple<>(0, 0), new Tuple<>((float) 0, (float) 0)),
-    CONSTANT(new Tuple<>(0, 0), new Tuple<>((float) 0, (float) 0)),
-    WANDER(new Tuple<>(-45, 45), new Tuple<>((float) 0.5, (float) 2));
+    // Min angle, Max angle, Min wander delay, Max wander delay
+    STATIC(0, 0, 0, 0),
+    CONSTANT(0, 0, 0, 0),
+    WANDER(-45, 45, 0.5f, 2);
 
     /**
-     * The angle range in which the obstacle can turn its velocity.
+     * The most that any characteristic can turn by, in degrees, which sets the size of the lookup tables.
      */
-    Tuple<Integer, Integer> angleDelta;
+    private static final int MAX_TURN = 180;
     /**
-     * The range of amount of time a obstacle can wait before changing its direction.
+     * The cosine of every whole angle from -{@link #MAX_TURN} to {@link #MAX_TURN} degrees.
      */
-    Tuple<Float, Float> wanderDelayRange;
+    private static final float[] COS_TABLE = new float[MAX_TURN * 2 + 1];
     /**
-     * The time since last change.
+     * The sine of every whole angle from -{@link #MAX_TURN} to {@link #MAX_TURN} degrees.
      */
-    float wanderDelay;
+    private static final float[] SIN_TABLE = new float[MAX_TURN * 2 + 1];
 
-    MovementCharacteristics(Tuple<Integer, Integer> angleDelta, Tuple<Float, Float> wanderDelayRange) {
-        this.angleDelta = angleDelta;
-        this.wanderDelayRange = wanderDelayRange;
-        this.wanderDelay = 0;
+    static {
+        for (int angle = -MAX_TURN; angle <= MAX_TURN; angle++) {
+            COS_TABLE[angle + MAX_TURN] = (float) Math.cos(Math.toRadians(angle));
+            SIN_TABLE[angle + MAX_TURN] = (float) Math.sin(Math.toRadians(angle));
+        }
+    }
+
+    /**
+     * The smallest angle the obstacle can turn its velocity by.
+     */
+    private final int minTurn;
+    /**
+     * The largest angle the obstacle can turn its velocity by.
+     */
+    private final int maxTurn;
+    /**
+     * The shortest time an obstacle can wait before changing its direction.
+     */
+    private final float minWanderDelay;
+    /**
+     * The longest time an obstacle can wait before changing its direction.
+     */
+    private final float maxWanderDelay;
+
+    MovementCharacteristics(int minTurn, int maxTurn, float minWanderDelay, float maxWanderDelay) {
+        this.minTurn = minTurn;
+        this.maxTurn = maxTurn;
+        this.minWanderDelay = minWanderDelay;
+        this.maxWanderDelay = maxWanderDelay;
     }
 
     /**
-     * Perform the change in velocity given the angle and delay.
+     * Perform the change in velocity given the angle and the entity's delay.
      *
-     * @param deltaTime The time since the previous frame.
-     * @param vel       The velocity to modify.
-     */
-    public void updateVel(float deltaTime, Vector2 vel) {
-        this.wanderDelay -= deltaTime;
-        if (this.wanderDelay <= 0) {
-            this.wanderDelay = ThreadLocalRandom.current().nextFloat() * (wanderDelayRange.b - wanderDelayRange.a) + wanderDelayRange.a;
-            vel.rotate(ThreadLocalRandom.current().nextInt(angleDelta.a, angleDelta.b + 1));
+     * @param deltaTime   The time since the previous frame.
+     * @param wanderDelay The entity's time until its next change of direction.
+     * @param vel         The velocity to modify.
+     * @param random      The stream to choose the next delay and angle from.
+     * @return The entity's new time until its next change of direction.
+     */
+    public float updateVel(float deltaTime, float wanderDelay, Vector2 vel, Random random) {
+        if (!this.turns()) {
+            return wanderDelay;
         }
+        wanderDelay -= deltaTime;
+        if (wanderDelay <= 0) {
+            wanderDelay = this.nextWanderDelay(random);
+            int angle = this.nextTurnAngle(random);
+            float cos = cosDeg(angle);
+            float sin = sinDeg(angle);
+            vel.set(vel.x * cos - vel.y * sin, vel.x * sin + vel.y * cos);
+        }
+        return wanderDelay;
+    }
+
+    /**
+     * Check if the characteristic ever changes the direction of the velocity.
+     *
+     * @return A boolean of if the velocity is turned.
+     */
+    public boolean turns() {
+        return this.minTurn != 0 || this.maxTurn != 0;
+    }
+
+    /**
+     * Choose a random time to wait before the next change of direction.
+     *
+     * @param random The stream to choose from.
+     * @return The time to wait in seconds.
+     */
+    public float nextWanderDelay(Random random) {
+        return random.nextFloat() * (this.maxWanderDelay - this.minWanderDelay) + this.minWanderDelay;
+    }
+
+    /**
+     * Choose a random angle to turn the velocity by.
+     *
+     * @param random The stream to choose from.
+     * @return The angle in degrees.
+     */
+    public int nextTurnAngle(Random random) {
+        return random.nextInt(this.maxTurn - this.minTurn + 1) + this.minTurn;
+    }
+
+    /**
+     * Look up the cosine of a whole angle.
+     *
+     * @param angle The angle in degrees, between -180 and 180.
+     * @return The cosine of the angle.
+     */
+    public static float cosDeg(int angle) {
+        return COS_TABLE[angle + MAX_TURN];
+    }
+
+    /**
+     * Look up the sine of a whole angle.
+     *
+     * @param angle The angle in degrees, between -180 and 180.
+     * @return The sine of the angle.
+     */
+    public static float sinDeg(int angle) {
+        return SIN_TABLE[angle + MAX_TURN];
     }
-}
\ No newline at end of file
+}
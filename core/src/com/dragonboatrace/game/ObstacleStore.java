@@ -0,0 +1,616 @@
+package com.dragonboatrace.game;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import com.dragonboatrace.game.entities.Obstacle;
+import com.dragonboatrace.game.entities.ObstacleType;
+import com.dragonboatrace.game.systems.HitboxComponent;
+import com.dragonboatrace.game.systems.MoverComponent;
+import com.dragonboatrace.game.systems.ObstacleComponent;
+import com.dragonboatrace.game.systems.ObstacleMovementSystem;
+import com.dragonboatrace.game.systems.RaceEntities;
+import com.dragonboatrace.game.systems.SpriteComponent;
+import com.dragonboatrace.game.systems.TransformComponent;
+import com.dragonboatrace.game.systems.VelocityComponent;
+
+import java.util.Random;
+
+/**
+ * Holds the obstacles of a lane as engine entities, each made of a {@link TransformComponent},
+ * {@link VelocityComponent}, {@link HitboxComponent}, {@link SpriteComponent}, {@link MoverComponent} and
+ * {@link ObstacleComponent}.
+ * <p>Each obstacle lives in a slot, which has an entity of its own. Slots of removed obstacles go on a free list and
+ * are given, entity and all, to the next obstacle added, so spawning and despawning do not allocate once the lane
+ * has reached its usual size. The live slots are also kept in a separate list in order of their y-position, so the
+ * lane can quickly find the ones on the screen, and turn them in the same order every time.</p>
+ *
+ * @author Jacob Turner
+ */
+public class ObstacleStore {
+
+    /**
+     * How much of its velocity an obstacle moves each step, the same as {@link com.dragonboatrace.game.entities.Entity}.
+     */
+    public static final float DAMPENING = 0.2f;
+    /**
+     * All the obstacle types, indexed by their ordinal.
+     */
+    private static final ObstacleType[] TYPES = ObstacleType.values();
+
+    /**
+     * The entity of each slot.
+     */
+    private Entity[] entities;
+    /**
+     * The position of the obstacle in each slot.
+     */
+    private TransformComponent[] transforms;
+    /**
+     * The velocity of the obstacle in each slot.
+     */
+    private VelocityComponent[] velocities;
+    /**
+     * The hitbox and weight of the obstacle in each slot.
+     */
+    private HitboxComponent[] hitboxes;
+    /**
+     * The image of the obstacle in each slot.
+     */
+    private SpriteComponent[] sprites;
+    /**
+     * How the obstacle in each slot moves.
+     */
+    private MoverComponent[] movers;
+    /**
+     * The type and id of the obstacle in each slot.
+     */
+    private ObstacleComponent[] kinds;
+    /**
+     * The slots that are not in use.
+     */
+    private int[] freeSlots;
+    /**
+     * The number of slots in the free list.
+     */
+    private int freeCount;
+    /**
+     * The slots in use, in order of the y-position of their obstacle.
+     */
+    private int[] order;
+    /**
+     * The number of obstacles stored.
+     */
+    private int count;
+    /**
+     * The height of the tallest obstacle added, used to find which obstacles overlap the screen.
+     */
+    private float maxHeight;
+    /**
+     * The texture of each obstacle type, loaded the first time one is drawn.
+     */
+    private final TextureRegion[] images;
+    /**
+     * The entities of the lane, which the entity of each obstacle is added to and removed from.
+     */
+    private final LaneEntities laneEntities;
+
+    /**
+     * Creates an empty store, whose obstacles are in no engine.
+     *
+     * @param capacity The number of obstacles to make room for up front.
+     */
+    public ObstacleStore(int capacity) {
+        this(capacity, new LaneEntities());
+    }
+
+    /**
+     * Creates an empty store for a lane.
+     *
+     * @param capacity     The number of obstacles to make room for up front.
+     * @param laneEntities The entities of the lane.
+     */
+    public ObstacleStore(int capacity, LaneEntities laneEntities) {
+        this.images = new TextureRegion[TYPES.length];
+        this.laneEntities = laneEntities;
+        this.allocate(Math.max(capacity, 1));
+    }
+
+    /**
+     * Make room for a number of obstacles, making an entity for each new slot and keeping the ones already stored.
+     *
+     * @param capacity The number of obstacles to make room for.
+     */
+    private void allocate(int capacity) {
+        int old = this.entities == null ? 0 : this.entities.length;
+        this.entities = grow(this.entities, new Entity[capacity]);
+        this.transforms = grow(this.transforms, new TransformComponent[capacity]);
+        this.velocities = grow(this.velocities, new VelocityComponent[capacity]);
+        this.hitboxes = grow(this.hitboxes, new HitboxComponent[capacity]);
+        this.sprites = grow(this.sprites, new SpriteComponent[capacity]);
+        this.movers = grow(this.movers, new MoverComponent[capacity]);
+        this.kinds = grow(this.kinds, new ObstacleComponent[capacity]);
+        this.order = grow(this.order, capacity);
+        this.freeSlots = grow(this.freeSlots, capacity);
+        // The new slots are all free, added so the lowest is used first
+        for (int slot = capacity - 1; slot >= old; slot--) {
+            Entity entity = RaceEntities.obstacle();
+            this.entities[slot] = entity;
+            this.transforms[slot] = RaceEntities.TRANSFORM.get(entity);
+            this.velocities[slot] = RaceEntities.VELOCITY.get(entity);
+            this.hitboxes[slot] = RaceEntities.HITBOX.get(entity);
+            this.sprites[slot] = RaceEntities.SPRITE.get(entity);
+            this.movers[slot] = RaceEntities.MOVER.get(entity);
+            this.kinds[slot] = RaceEntities.OBSTACLE.get(entity);
+            this.freeSlots[this.freeCount++] = slot;
+        }
+    }
+
+    /**
+     * Copy the slots of a column into a larger array.
+     *
+     * @param column The column to copy, or null for a new one.
+     * @param grown  The larger array.
+     * @param <T>    The type held in the column.
+     * @return The larger array.
+     */
+    private static <T> T[] grow(T[] column, T[] grown) {
+        if (column != null) System.arraycopy(column, 0, grown, 0, column.length);
+        return grown;
+    }
+
+    /**
+     * Copy a column into a larger array.
+     *
+     * @param column   The column to copy, or null for a new one.
+     * @param capacity The new length.
+     * @return The larger column.
+     */
+    private static int[] grow(int[] column, int capacity) {
+        int[] grown = new int[capacity];
+        if (column != null) System.arraycopy(column, 0, grown, 0, column.length);
+        return grown;
+    }
+
+    /**
+     * Add an obstacle, keeping the obstacles in order of their y-position.
+     *
+     * @param obstacleType The type of obstacle.
+     * @param posX         The in-game x-coordinate.
+     * @param posY         The in-game y-coordinate.
+     * @param velX         The x-velocity.
+     * @param velY         The y-velocity.
+     * @return The slot the obstacle was put in.
+     */
+    public int add(ObstacleType obstacleType, float posX, float posY, float velX, float velY) {
+        if (this.freeCount == 0) {
+            this.allocate(this.entities.length * 2);
+        }
+        int slot = this.freeSlots[--this.freeCount];
+        this.transforms[slot].set(posX, posY);
+        this.velocities[slot].velocity.set(velX, velY);
+        HitboxComponent hitbox = this.hitboxes[slot];
+        hitbox.hitbox.getSize().set(obstacleType.getSize());
+        hitbox.hitbox.setToPosition(posX, posY);
+        hitbox.weight = obstacleType.getWeight();
+        this.movers[slot].mover = obstacleType.getMover();
+        this.movers[slot].wanderDelay = 0;
+        this.kinds[slot].type = obstacleType;
+        this.kinds[slot].id = Obstacle.nextId();
+        // The image is filled in on the render thread
+        this.sprites[slot].region = null;
+        this.maxHeight = Math.max(this.maxHeight, obstacleType.getSize().y);
+
+        // Insert into the ordered list after everything below it
+        int index = this.findFirstAbove(posY);
+        System.arraycopy(this.order, index, this.order, index + 1, this.count - index);
+        this.order[index] = slot;
+        this.count++;
+        this.laneEntities.add(this.entities[slot]);
+        return slot;
+    }
+
+    /**
+     * Add a copy of an obstacle, for example one loaded from a save file.
+     *
+     * @param obstacle The obstacle to copy.
+     * @return The slot the obstacle was put in.
+     */
+    public int add(Obstacle obstacle) {
+        return this.add(obstacle.getType(), obstacle.getInGamePos().x, obstacle.getInGamePos().y,
+                obstacle.getConstantVel().x, obstacle.getConstantVel().y);
+    }
+
+    /**
+     * Remove the obstacle at a position in the order, putting its slot on the free list.
+     *
+     * @param index The position in the order, from 0 for the lowest obstacle.
+     */
+    public void removeAt(int index) {
+        this.free(this.order[index]);
+        System.arraycopy(this.order, index + 1, this.order, index, this.count - index - 1);
+        this.count--;
+    }
+
+    /**
+     * Remove the lowest obstacles.
+     *
+     * @param number The number of obstacles to remove from the bottom.
+     */
+    public void removeFirst(int number) {
+        for (int i = 0; i < number; i++) {
+            this.free(this.order[i]);
+        }
+        System.arraycopy(this.order, number, this.order, 0, this.count - number);
+        this.count -= number;
+    }
+
+    /**
+     * Put a slot on the free list and take its entity out of the lane.
+     *
+     * @param slot The slot.
+     */
+    private void free(int slot) {
+        this.freeSlots[this.freeCount++] = slot;
+        this.laneEntities.remove(this.entities[slot]);
+    }
+
+    /**
+     * Remove every obstacle.
+     */
+    public void clear() {
+        this.removeFirst(this.count);
+    }
+
+    /**
+     * Move every obstacle by its velocity, turning the ones that wander.
+     *
+     * @param deltaTime The length of the step.
+     * @param random    The stream to turn the obstacles with.
+     */
+    public void update(float deltaTime, Random random) {
+        this.turn(deltaTime, random);
+        this.move(deltaTime);
+    }
+
+    /**
+     * Move every obstacle by its velocity.
+     *
+     * @param deltaTime The length of the step.
+     */
+    public void move(float deltaTime) {
+        float scale = DAMPENING * deltaTime * 60;
+        for (int i = 0; i < this.count; i++) {
+            int slot = this.order[i];
+            ObstacleMovementSystem.move(this.transforms[slot], this.velocities[slot], this.hitboxes[slot], scale);
+        }
+    }
+
+    /**
+     * Turn the obstacles that wander and are due to change direction, from the lowest obstacle up so that the
+     * stream is drawn from in the same order every time.
+     *
+     * @param deltaTime The length of the step.
+     * @param random    The stream to turn the obstacles with.
+     */
+    public void turn(float deltaTime, Random random) {
+        for (int i = 0; i < this.count; i++) {
+            int slot = this.order[i];
+            MoverComponent mover = this.movers[slot];
+            if (mover.mover.turns()) {
+                mover.wanderDelay -= deltaTime;
+                if (mover.wanderDelay <= 0) {
+                    mover.wanderDelay = mover.mover.nextWanderDelay(random);
+                    int angle = mover.mover.nextTurnAngle(random);
+                    float cos = MovementCharacteristics.cosDeg(angle);
+                    float sin = MovementCharacteristics.sinDeg(angle);
+                    Vector2 velocity = this.velocities[slot].velocity;
+                    float turnedX = velocity.x * cos - velocity.y * sin;
+                    velocity.y = velocity.x * sin + velocity.y * cos;
+                    velocity.x = turnedX;
+                }
+            }
+        }
+    }
+
+    /**
+     * Put the obstacles back in order of their y-position. They are nearly always still in order after a step,
+     * so an insertion sort only has to move the few that overtook another.
+     */
+    public void sort() {
+        for (int i = 1; i < this.count; i++) {
+            int slot = this.order[i];
+            float slotY = this.getY(slot);
+            int j = i - 1;
+            while (j >= 0 && this.getY(this.order[j]) > slotY) {
+                this.order[j + 1] = this.order[j];
+                j--;
+            }
+            this.order[j + 1] = slot;
+        }
+    }
+
+    /**
+     * Find the first obstacle whose y-position is at or above a given y-coordinate using a binary search.
+     *
+     * @param posY The in-game y-coordinate to search for.
+     * @return The position in the order of the first obstacle at or above y, or the number of obstacles if none.
+     */
+    public int findFirstAbove(float posY) {
+        int low = 0;
+        int high = this.count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.getY(this.order[mid]) < posY) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Remember the position of every obstacle at the start of a simulation step.
+     */
+    public void storePreviousPositions() {
+        for (int i = 0; i < this.count; i++) {
+            TransformComponent transform = this.transforms[this.order[i]];
+            transform.previous.set(transform.position);
+        }
+    }
+
+    /**
+     * Work out where to draw every obstacle, between the previous and the current simulation step.
+     *
+     * @param alpha How far between the previous and the current step to draw, from 0 to 1.
+     */
+    public void interpolate(float alpha) {
+        for (int i = 0; i < this.count; i++) {
+            TransformComponent transform = this.transforms[this.order[i]];
+            transform.render.x = transform.previous.x + (transform.position.x - transform.previous.x) * alpha;
+            transform.render.y = transform.previous.y + (transform.position.y - transform.previous.y) * alpha;
+        }
+    }
+
+    /**
+     * Give every obstacle the texture of its type, loading the ones that haven't been yet. Must be called on the
+     * render thread.
+     */
+    public void loadTextures() {
+        for (int i = 0; i < this.count; i++) {
+            int slot = this.order[i];
+            int t = this.kinds[slot].type.ordinal();
+            if (this.images[t] == null) {
+                this.images[t] = TextureCache.obtain(TYPES[t], TYPES[t].getImageSrc());
+            }
+            this.sprites[slot].region = this.images[t];
+        }
+    }
+
+    /**
+     * Create a json string that represents an obstacle, in the same format as {@link Obstacle#save()}.
+     *
+     * @param slot The slot of the obstacle.
+     * @return A json string representing the obstacle.
+     */
+    public String save(int slot) {
+        return String.format("{type:%s, pos:{x:%f, y:%f}, vel:{x:%f, y:%f}, constantVel:{x:%f, y:%f}}",
+                this.kinds[slot].type,
+                this.getX(slot),
+                this.getY(slot),
+                this.velocities[slot].velocity.x,
+                this.velocities[slot].velocity.y,
+                this.velocities[slot].velocity.x,
+                this.velocities[slot].velocity.y
+        );
+    }
+
+    /**
+     * Write an obstacle to a binary save file, in the same format as {@link Obstacle#write(SaveWriter)}.
+     *
+     * @param slot The slot of the obstacle.
+     * @param out  The save to write to.
+     */
+    public void write(int slot, SaveWriter out) {
+        Vector2 velocity = this.velocities[slot].velocity;
+        out.putVarInt(this.kinds[slot].type.ordinal());
+        out.putFloat(this.getX(slot));
+        out.putFloat(this.getY(slot));
+        out.putFloat(velocity.x);
+        out.putFloat(velocity.y);
+        out.putFloat(velocity.x);
+        out.putFloat(velocity.y);
+        out.putFloat(this.movers[slot].wanderDelay);
+    }
+
+    /**
+     * Add an obstacle read from a binary save file, without making an obstacle object for it.
+     *
+     * @param in The save, at the start of an obstacle.
+     * @return The slot the obstacle was put in.
+     */
+    public int read(SaveReader in) {
+        ObstacleType obstacleType = in.getEnum(TYPES);
+        float posX = in.getFloat();
+        float posY = in.getFloat();
+        // Obstacles always move at their constant velocity, which is saved after the current one
+        in.getFloat();
+        in.getFloat();
+        int slot = this.add(obstacleType, posX, posY, in.getFloat(), in.getFloat());
+        this.movers[slot].wanderDelay = in.getFloat();
+        return slot;
+    }
+
+    /**
+     * Compares an object to a store and determines if it holds identical obstacles in the same order.
+     *
+     * @param obj The object being checked against.
+     * @return A boolean of weather the object is an identical store.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null || obj.getClass() != this.getClass()) {
+            return false;
+        }
+        ObstacleStore other = (ObstacleStore) obj;
+        if (other.count != this.count) {
+            return false;
+        }
+        for (int i = 0; i < this.count; i++) {
+            int a = this.order[i];
+            int b = other.order[i];
+            Vector2 velocity = this.velocities[a].velocity;
+            Vector2 otherVelocity = other.velocities[b].velocity;
+            if (this.kinds[a].type != other.kinds[b].type || this.getX(a) != other.getX(b) || this.getY(a) != other.getY(b)
+                    || velocity.x != otherVelocity.x || velocity.y != otherVelocity.y) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get a hash of the obstacles in the store, from the same values that {@link #equals(Object)} compares.
+     *
+     * @return The hash code.
+     */
+    @Override
+    public int hashCode() {
+        int hash = this.count;
+        for (int i = 0; i < this.count; i++) {
+            int slot = this.order[i];
+            Vector2 velocity = this.velocities[slot].velocity;
+            hash = 31 * hash + this.kinds[slot].type.ordinal();
+            // Adding zero turns -0 into 0, as equals treats them the same
+            hash = 31 * hash + Float.floatToIntBits(this.getX(slot) + 0f);
+            hash = 31 * hash + Float.floatToIntBits(this.getY(slot) + 0f);
+            hash = 31 * hash + Float.floatToIntBits(velocity.x + 0f);
+            hash = 31 * hash + Float.floatToIntBits(velocity.y + 0f);
+        }
+        return hash;
+    }
+
+    /**
+     * Release the store's references to the shared obstacle textures.
+     */
+    public void dispose() {
+        for (int t = 0; t < this.images.length; t++) {
+            if (this.images[t] != null) {
+                TextureCache.release(TYPES[t]);
+                this.images[t] = null;
+            }
+        }
+        for (int slot = 0; slot < this.sprites.length; slot++) {
+            this.sprites[slot].region = null;
+        }
+    }
+
+    /**
+     * Get the number of obstacles stored.
+     *
+     * @return The number of obstacles.
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Get the slot of the obstacle at a position in the order.
+     *
+     * @param index The position in the order, from 0 for the lowest obstacle.
+     * @return The slot of the obstacle.
+     */
+    public int slot(int index) {
+        return this.order[index];
+    }
+
+    /**
+     * Get the height of the tallest obstacle added.
+     *
+     * @return The height of the tallest obstacle.
+     */
+    public float getMaxHeight() {
+        return this.maxHeight;
+    }
+
+    /**
+     * Get the in-game x-coordinate of an obstacle.
+     *
+     * @param slot The slot of the obstacle.
+     * @return The x-coordinate.
+     */
+    public float getX(int slot) {
+        return this.transforms[slot].position.x;
+    }
+
+    /**
+     * Get the in-game y-coordinate of an obstacle.
+     *
+     * @param slot The slot of the obstacle.
+     * @return The y-coordinate.
+     */
+    public float getY(int slot) {
+        return this.transforms[slot].position.y;
+    }
+
+    /**
+     * Get the width of an obstacle.
+     *
+     * @param slot The slot of the obstacle.
+     * @return The width.
+     */
+    public float getWidth(int slot) {
+        return this.hitboxes[slot].hitbox.getSize().x;
+    }
+
+    /**
+     * Get the height of an obstacle.
+     *
+     * @param slot The slot of the obstacle.
+     * @return The height.
+     */
+    public float getHeight(int slot) {
+        return this.hitboxes[slot].hitbox.getSize().y;
+    }
+
+    /**
+     * Get the type of an obstacle.
+     *
+     * @param slot The slot of the obstacle.
+     * @return The obstacle type.
+     */
+    public ObstacleType getType(int slot) {
+        return this.kinds[slot].type;
+    }
+
+    /**
+     * Get the weight of an obstacle, the damage it does when hit.
+     *
+     * @param slot The slot of the obstacle.
+     * @return The weight.
+     */
+    public float getWeight(int slot) {
+        return this.hitboxes[slot].weight;
+    }
+
+    /**
+     * Get the id of an obstacle.
+     *
+     * @param slot The slot of the obstacle.
+     * @return The id.
+     */
+    public int getId(int slot) {
+        return this.kinds[slot].id;
+    }
+
+    /**
+     * Get the engine entity of an obstacle.
+     *
+     * @param slot The slot of the obstacle.
+     * @return The entity.
+     */
+    public Entity getEntity(int slot) {
+        return this.entities[slot];
+    }
+}
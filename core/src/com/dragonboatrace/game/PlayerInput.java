@@ -0,0 +1,40 @@
+package com.dragonboatrace.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+
+/**
+ * Where the player boat reads its controls from, so that it can be steered by something other than the keyboard.
+ *
+ * @author Jacob Turner
+ */
+public interface PlayerInput {
+
+    /**
+     * Reads the keyboard, for when a person is playing.
+     */
+    PlayerInput KEYBOARD = new PlayerInput() {
+        @Override
+        public boolean isKeyPressed(int key) {
+            return Gdx.input.isKeyPressed(key);
+        }
+    };
+
+    /**
+     * Holds the up key and nothing else, so the boat paddles straight ahead as fast as it can.
+     */
+    PlayerInput FORWARD = new PlayerInput() {
+        @Override
+        public boolean isKeyPressed(int key) {
+            return key == Input.Keys.UP;
+        }
+    };
+
+    /**
+     * Check if a key is being held down.
+     *
+     * @param key The key code, one of {@link Input.Keys}.
+     * @return True if the key is held down.
+     */
+    boolean isKeyPressed(int key);
+}
@@ -0,0 +1,88 @@
+package com.dragonboatrace.game;
+
+/**
+ * The clock a round is timed by, counting simulation steps rather than reading the time on the computer.
+ * <p>Each step is the same length however long it took to run, so a boat's time depends only on how far it went
+ * each step. A round run at 30 or 240 frames a second, or as fast as possible with nothing drawn, gives the same
+ * times. The moment a boat crosses the finish line is worked out from where it was at the start and the end of
+ * the step it crossed in, so times are not rounded to a whole step.</p>
+ *
+ * @author Jacob Turner
+ */
+public class RaceClock {
+
+    /**
+     * The length of a step in seconds.
+     */
+    private final float step;
+    /**
+     * The number of steps since the round started.
+     */
+    private long ticks;
+
+    /**
+     * Creates a clock at the start of a round with the default step length.
+     */
+    public RaceClock() {
+        this(FixedTimestep.STEP);
+    }
+
+    /**
+     * Creates a clock at the start of a round.
+     *
+     * @param step The length of a step in seconds.
+     */
+    public RaceClock(float step) {
+        this.step = step;
+    }
+
+    /**
+     * Count a step.
+     */
+    public void advance() {
+        this.ticks++;
+    }
+
+    /**
+     * Get the number of steps since the round started.
+     *
+     * @return The number of steps.
+     */
+    public long getTicks() {
+        return this.ticks;
+    }
+
+    /**
+     * Set the number of steps since the round started, such as when loading a save.
+     *
+     * @param ticks The number of steps.
+     */
+    public void setTicks(long ticks) {
+        this.ticks = ticks;
+    }
+
+    /**
+     * Get the time since the round started.
+     *
+     * @return The time in milliseconds.
+     */
+    public long getMillis() {
+        return Math.round(this.ticks * (double) this.step * 1000);
+    }
+
+    /**
+     * Get the time a boat crossed a line during the latest step, assuming it moved at an even speed over the step.
+     *
+     * @param before The distance of the boat at the start of the step.
+     * @param after  The distance of the boat at the end of the step.
+     * @param line   The distance of the line.
+     * @return The time since the round started in milliseconds.
+     */
+    public long getCrossingMillis(float before, float after, float line) {
+        double fraction = 1;
+        if (after > before) {
+            fraction = Math.min(1, Math.max(0, (line - before) / (double) (after - before)));
+        }
+        return Math.round((Math.max(0, this.ticks - 1) + fraction) * this.step * 1000);
+    }
+}
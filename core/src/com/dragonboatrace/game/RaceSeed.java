@@ -0,0 +1,112 @@
+package com.dragonboatrace.game;
+
+import com.badlogic.gdx.math.RandomXS128;
+
+/**
+ * The seed of a race, from which every random number in the race is drawn.
+ * <p>Each lane and each part of the game that needs random numbers gets its own stream, derived from the seed,
+ * the round, the lane and the part. No two streams share any state, so the same seed and the same player input
+ * give exactly the same race, whatever order or thread the lanes are updated on.</p>
+ *
+ * @author Jacob Turner
+ */
+public class RaceSeed {
+
+    /**
+     * The system property a seed can be given in, to replay a race.
+     */
+    public static final String SEED_PROPERTY = "dragonboatrace.seed";
+
+    /**
+     * The stream used to choose which obstacles and power ups spawn, and where.
+     */
+    public static final int SPAWNING = 0;
+    /**
+     * The stream used to turn the obstacles and power ups that wander.
+     */
+    public static final int MOVEMENT = 1;
+    /**
+     * The stream used to choose the background images.
+     */
+    public static final int SCENERY = 2;
+    /**
+     * The stream used to choose the computer boats.
+     */
+    public static final int BOATS = 3;
+    /**
+     * The number of different streams for each lane.
+     */
+    private static final int STREAMS = 4;
+
+    /**
+     * The seed itself.
+     */
+    private final long seed;
+
+    /**
+     * Creates a race seed.
+     *
+     * @param seed The seed.
+     */
+    public RaceSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Creates a race seed from the seed system property, or a random one if it is not set.
+     *
+     * @return A new race seed.
+     */
+    public static RaceSeed create() {
+        String property = System.getProperty(SEED_PROPERTY);
+        if (property != null) {
+            return new RaceSeed(Long.parseLong(property));
+        }
+        return new RaceSeed(new RandomXS128().nextLong());
+    }
+
+    /**
+     * Get the seed.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Derive the seed of another race from this one, so that a batch of races can be repeated from a single seed.
+     *
+     * @param index The index of the race in the batch.
+     * @return A new seed, the same every time for the same index.
+     */
+    public RaceSeed split(long index) {
+        return new RaceSeed(mix(this.seed ^ mix(~index)));
+    }
+
+    /**
+     * Create the random number stream for a part of a lane in a round.
+     *
+     * @param round  The round of the race.
+     * @param lane   The index of the lane, or -1 for a stream that is not tied to a lane.
+     * @param stream The part of the game the stream is for, such as {@link #SPAWNING}.
+     * @return A new generator that gives the same numbers every time it is created with the same arguments.
+     */
+    public RandomXS128 stream(int round, int lane, int stream) {
+        long index = ((long) round << 32) + (long) (lane + 1) * STREAMS + stream;
+        return new RandomXS128(mix(this.seed + mix(index)));
+    }
+
+    /**
+     * Scramble a number so that nearby inputs give unrelated outputs, using the SplitMix64 finaliser.
+     *
+     * @param value The number to scramble.
+     * @return The scrambled number.
+     */
+    private static long mix(long value) {
+        value += 0x9E3779B97F4A7C15L;
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
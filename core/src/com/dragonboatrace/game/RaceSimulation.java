@@ -0,0 +1,327 @@
+package com.dragonboatrace.game;
+
+import com.badlogic.gdx.math.Vector2;
+import com.dragonboatrace.game.entities.BoatType;
+import com.dragonboatrace.game.entities.CPUBoat;
+import com.dragonboatrace.game.entities.PlayerBoat;
+import com.dragonboatrace.game.systems.RaceEngine;
+
+/**
+ * Runs a whole race, every round, without a window, as fast as the lanes can be updated.
+ * <p>The lanes are stepped at the same fixed rate as when the race is shown, through the same systems, but nothing
+ * is drawn and no texture or screen size is ever touched. The player boat is steered by a {@link PlayerInput}
+ * rather than the keyboard. Finish times are measured in simulation steps, so a race takes the same time however
+ * fast it is run.</p>
+ *
+ * @author Jacob Turner
+ */
+public class RaceSimulation {
+
+    /**
+     * The number of rounds in a race.
+     */
+    public static final int ROUNDS = 4;
+    /**
+     * The width of the view the lanes are laid out across, that of a 1080p screen.
+     */
+    public static final float VIEW_WIDTH = Lane.DEFAULT_VIEW_WIDTH;
+    /**
+     * The height of the view the lanes spawn obstacles above, that of a 1080p screen.
+     */
+    public static final float VIEW_HEIGHT = Lane.DEFAULT_VIEW_HEIGHT;
+    /**
+     * The most steps a round is run for, five minutes, after which any boat still going did not finish.
+     */
+    public static final int MAX_ROUND_STEPS = 5 * 60 * 60;
+
+    /**
+     * The lanes of the race, the player's last if there is a player.
+     */
+    private final Lane[] lanes;
+    /**
+     * The systems that make up a simulation step.
+     */
+    private final RaceEngine engine;
+    /**
+     * The difficulty of the race, which sets the number of obstacles.
+     */
+    private final int difficulty;
+    /**
+     * The finish time of each boat in each round in milliseconds, or -1 if it did not finish.
+     */
+    private final long[][] roundTimes;
+
+    /**
+     * Creates a race that has not started yet.
+     *
+     * @param playerType The boat type of the player.
+     * @param cpuTypes   The boat type of each computer boat.
+     * @param difficulty The difficulty of the race, from 1 to 3.
+     * @param seed       The seed every random choice in the race is drawn from.
+     * @param input      Where the player boat reads its controls from.
+     * @param updater    The updater to run the lanes with.
+     */
+    public RaceSimulation(BoatType playerType, BoatType[] cpuTypes, int difficulty, RaceSeed seed, PlayerInput input, LaneUpdater updater) {
+        this.lanes = createLanes(playerType, cpuTypes, seed, VIEW_WIDTH, VIEW_HEIGHT);
+        ((PlayerBoat) this.lanes[this.lanes.length - 1].getBoat()).setInput(input);
+        this.engine = new RaceEngine(this.lanes, updater);
+        this.difficulty = difficulty;
+        this.roundTimes = new long[this.lanes.length][ROUNDS];
+    }
+
+    /**
+     * Creates a race with no player that has not started yet. The view follows the boat in the middle lane, as it
+     * would follow the player.
+     *
+     * @param types      The boat type of each boat, from the left.
+     * @param difficulty The difficulty of the race, from 1 to 3.
+     * @param seed       The seed every random choice in the race is drawn from.
+     * @param updater    The updater to run the lanes with.
+     */
+    public RaceSimulation(BoatType[] types, int difficulty, RaceSeed seed, LaneUpdater updater) {
+        this.lanes = createCpuLanes(types, seed, VIEW_WIDTH, VIEW_HEIGHT);
+        this.engine = new RaceEngine(this.lanes, updater);
+        this.difficulty = difficulty;
+        this.roundTimes = new long[this.lanes.length][ROUNDS];
+    }
+
+    /**
+     * Create the lanes of a race, with the player in the middle and the computer boats either side.
+     *
+     * @param playerType The boat type of the player.
+     * @param cpuTypes   The boat type of each computer boat.
+     * @param seed       The seed of the race.
+     * @param width      The width of the view the lanes are laid out across.
+     * @param height     The height of the view.
+     * @return The lanes, with the player's last.
+     */
+    public static Lane[] createLanes(BoatType playerType, BoatType[] cpuTypes, RaceSeed seed, float width, float height) {
+        int laneCount = cpuTypes.length + 1;
+        float laneWidth = width / laneCount;
+
+        PlayerBoat pb = new PlayerBoat(
+                playerType,
+                new Vector2(width / 2f, 10),
+                new Tuple<>(((laneCount - 1) / 2) * laneWidth, ((laneCount + 1) / 2) * laneWidth)
+        );
+
+        Lane[] lanes = new Lane[laneCount];
+        for (int i = 0; i < cpuTypes.length; i++) {
+            int xpos = i;
+            // Don't put a computer boat in the middle lane.
+            if (i >= (laneCount - 1) / 2) {
+                xpos += 1;
+            }
+            CPUBoat cpu = new CPUBoat(
+                    cpuTypes[i],
+                    new Vector2((int) (0.5 + xpos) * laneWidth, 10),
+                    new Tuple<>(xpos * laneWidth, (xpos + 1) * laneWidth)
+            );
+            lanes[i] = new Lane(cpu, pb);
+        }
+        lanes[laneCount - 1] = new Lane(pb, pb);
+
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i].setSeed(seed, i);
+            lanes[i].setViewSize(width, height);
+        }
+        return lanes;
+    }
+
+    /**
+     * Create the lanes of a race with only computer boats, followed by the view from the middle lane.
+     *
+     * @param types  The boat type of each boat, from the left.
+     * @param seed   The seed of the race.
+     * @param width  The width of the view the lanes are laid out across.
+     * @param height The height of the view.
+     * @return The lanes, from the left.
+     */
+    public static Lane[] createCpuLanes(BoatType[] types, RaceSeed seed, float width, float height) {
+        float laneWidth = width / types.length;
+        CPUBoat[] cpus = new CPUBoat[types.length];
+        for (int i = 0; i < types.length; i++) {
+            cpus[i] = new CPUBoat(types[i], new Vector2(i * laneWidth, 10), new Tuple<>(i * laneWidth, (i + 1) * laneWidth));
+        }
+
+        Lane[] lanes = new Lane[types.length];
+        for (int i = 0; i < types.length; i++) {
+            lanes[i] = new Lane(cpus[i], cpus[types.length / 2]);
+            lanes[i].setSeed(seed, i);
+            lanes[i].setViewSize(width, height);
+        }
+        return lanes;
+    }
+
+    /**
+     * Get the multiplier for the number of obstacles at a given difficulty.
+     *
+     * @param difficulty The difficulty selected.
+     * @return A float that multiplies the number of obstacles.
+     */
+    public static float getObstacleMultiplier(int difficulty) {
+        switch (difficulty) {
+            case 1:
+                return 0.5f;
+            case 2:
+                return 1f;
+            case 3:
+                return 2f;
+            default:
+                return 0f;
+        }
+    }
+
+    /**
+     * Get the distance to the finish line in a round, each round is longer than the last.
+     *
+     * @param round The round, from 0.
+     * @return The y-position of the finish line.
+     */
+    public static int getFinishLine(int round) {
+        switch (round) {
+            case 0:
+                return 10000;
+            case 1:
+                return 12000;
+            case 2:
+                return 14000;
+            case 3:
+                return 15000;
+            default:
+                return 500;
+        }
+    }
+
+    /**
+     * Run every round of the race.
+     */
+    public void run() {
+        for (int round = 0; round < ROUNDS; round++) {
+            this.runRound(round);
+        }
+    }
+
+    /**
+     * Run a single round until every boat has finished or broken, or the round has gone on too long, then move the
+     * boats back to the start.
+     *
+     * @param round The round to run, from 0.
+     * @return The number of steps the round took.
+     */
+    public int runRound(int round) {
+        float multiplier = getObstacleMultiplier(this.difficulty);
+        for (Lane lane : this.lanes) {
+            lane.updateRound(round, multiplier);
+            lane.storePreviousPositions();
+        }
+        int finishLine = getFinishLine(round);
+        this.engine.getClock().setTicks(0);
+        for (int i = 0; i < this.lanes.length; i++) {
+            this.roundTimes[i][round] = -1;
+        }
+
+        int steps = 0;
+        boolean going = true;
+        while (going && steps < MAX_ROUND_STEPS) {
+            this.engine.update(FixedTimestep.STEP);
+            steps++;
+
+            // Keep going until every boat has either finished or broken down
+            going = false;
+            for (int i = 0; i < this.lanes.length; i++) {
+                if (this.roundTimes[i][round] >= 0) {
+                    continue;
+                }
+                if (this.lanes[i].checkBoatFinished(finishLine, this.engine.getClock())) {
+                    this.roundTimes[i][round] = this.lanes[i].getBoatFinishTimeLong();
+                } else if (this.lanes[i].getBoat().getCurrentHealth() > 0) {
+                    going = true;
+                }
+            }
+        }
+
+        for (Lane lane : this.lanes) {
+            lane.moveBoatToStart();
+        }
+        return steps;
+    }
+
+    /**
+     * Get the lanes of the race.
+     *
+     * @return The lanes, with the player's last if there is a player.
+     */
+    public Lane[] getLanes() {
+        return this.lanes;
+    }
+
+    /**
+     * Get the finish time of a boat in a round, including its penalties.
+     *
+     * @param lane  The index of the boat's lane.
+     * @param round The round, from 0.
+     * @return The time in milliseconds, or -1 if the boat did not finish the round.
+     */
+    public long getRoundTime(int lane, int round) {
+        return this.roundTimes[lane][round];
+    }
+
+    /**
+     * Get the time penalties a boat has been given for leaving its lane.
+     *
+     * @param lane The index of the boat's lane.
+     * @return The penalties in milliseconds.
+     */
+    public float getPenalty(int lane) {
+        return this.lanes[lane].getBoat().getPenalty();
+    }
+
+    /**
+     * Get the number of obstacles a boat has hit.
+     *
+     * @param lane The index of the boat's lane.
+     * @return The number of collisions.
+     */
+    public int getCollisions(int lane) {
+        return this.lanes[lane].getBoat().getCollisions();
+    }
+
+    /**
+     * Get the time a boat took over every round, including its penalties.
+     *
+     * @param lane The index of the boat's lane.
+     * @return The total time in milliseconds, or -1 if the boat did not finish every round.
+     */
+    public long getTotalTime(int lane) {
+        // A round that wasn't finished adds nothing to the boat's total, which would make it look fast
+        for (int round = 0; round < ROUNDS; round++) {
+            if (this.roundTimes[lane][round] < 0) {
+                return -1;
+            }
+        }
+        return this.lanes[lane].getBoatTotalTimeLong();
+    }
+
+    /**
+     * Get a line of comma separated values for each boat: its lane, type, the time of each round, total time and
+     * penalties. A round or total that wasn't finished is given as -1.
+     *
+     * @return The results of the race.
+     */
+    public String report() {
+        StringBuilder builder = new StringBuilder("lane,type");
+        for (int round = 0; round < ROUNDS; round++) {
+            builder.append(",round").append(round);
+        }
+        builder.append(",total,penalty\n");
+        for (int i = 0; i < this.lanes.length; i++) {
+            builder.append(i).append(',').append(this.lanes[i].getBoat().getType());
+            for (int round = 0; round < ROUNDS; round++) {
+                builder.append(',').append(this.roundTimes[i][round]);
+            }
+            builder.append(',').append(this.getTotalTime(i)).append(',').append((long) this.getPenalty(i)).append('\n');
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,133 @@
+package com.dragonboatrace.game;
+
+import com.dragonboatrace.game.entities.Boat;
+import com.dragonboatrace.game.systems.RaceEngine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Finishes the round for the computer boats still racing once the player has crossed the line, so they get real
+ * times rather than a guess from how far they had got.
+ * <p>Each lane left is simulated on its own on a worker thread, as fast as it can be, with nothing drawn. The view
+ * of each lane follows its own boat, so obstacles keep spawning in front of it, and its time carries on from the
+ * round's clock. The lanes must not be touched by anything else until {@link #isReady()} returns true, after which
+ * they follow the player again.</p>
+ *
+ * @author Jacob Turner
+ */
+public class RoundFinisher {
+
+    /**
+     * The lanes that were still racing when the player finished.
+     */
+    private final Lane[] remaining;
+    /**
+     * The work of finishing the lanes, done once every lane has a time.
+     */
+    private final Future<?> work;
+
+    /**
+     * Start finishing the round for every computer boat that hasn't crossed the line yet.
+     *
+     * @param executor   The worker to simulate the lanes on.
+     * @param lanes      Every lane of the race.
+     * @param player     The player boat, which the lanes follow again once they are finished.
+     * @param finishLine The position of the finish line.
+     * @param clock      The clock of the round, at the moment the player finished.
+     */
+    public RoundFinisher(ExecutorService executor, Lane[] lanes, final Boat player, final int finishLine, RaceClock clock) {
+        List<Lane> unfinished = new ArrayList<>();
+        for (Lane lane : lanes) {
+            if (!lane.isPlayerLane && !lane.getBoat().isFinished(finishLine)) {
+                unfinished.add(lane);
+            }
+        }
+        this.remaining = unfinished.toArray(new Lane[0]);
+
+        final long ticks = clock.getTicks();
+        this.work = executor.submit(new Runnable() {
+            @Override
+            public void run() {
+                for (Lane lane : remaining) {
+                    finish(lane, finishLine, ticks);
+                    lane.setPb(player);
+                }
+            }
+        });
+    }
+
+    /**
+     * Simulate a single lane until its boat crosses the line or breaks down, or the round has gone on too long.
+     * A boat that doesn't cross the line is given a time from how far it got.
+     *
+     * @param lane       The lane to finish.
+     * @param finishLine The position of the finish line.
+     * @param ticks      The number of steps since the round started.
+     */
+    public static void finish(Lane lane, int finishLine, long ticks) {
+        Lane[] alone = {lane};
+        lane.setPb(lane.getBoat());
+        RaceEngine engine = new RaceEngine(alone, new LaneUpdater(1));
+        RaceClock clock = engine.getClock();
+        clock.setTicks(ticks);
+
+        Boat boat = lane.getBoat();
+        // Stop early if the game is closed
+        while (!boat.checkFinished(finishLine, clock) && !Thread.currentThread().isInterrupted()) {
+            if (boat.getCurrentHealth() <= 0 || clock.getTicks() >= RaceSimulation.MAX_ROUND_STEPS) {
+                float travelled = Math.max(1, boat.getDistanceTravelled());
+                lane.setBoatFinishTime((long) (clock.getMillis() * (finishLine / travelled)));
+                break;
+            }
+            engine.update(FixedTimestep.STEP);
+        }
+        engine.release();
+    }
+
+    /**
+     * Check if every lane has been finished, without waiting.
+     *
+     * @return True once every boat has a time for the round.
+     * @throws IllegalStateException If the simulation failed.
+     */
+    public boolean isReady() {
+        if (!this.work.isDone()) {
+            return false;
+        }
+        try {
+            this.work.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not finish the round", e.getCause());
+        }
+        return true;
+    }
+
+    /**
+     * Wait for every lane to be finished.
+     *
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public void await() throws InterruptedException {
+        try {
+            this.work.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not finish the round", e.getCause());
+        }
+    }
+
+    /**
+     * Get the number of lanes that were still racing when the player finished.
+     *
+     * @return The number of lanes being finished.
+     */
+    public int getRemaining() {
+        return this.remaining.length;
+    }
+}
@@ -0,0 +1,206 @@
+package com.dragonboatrace.game;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.CRC32;
+
+/**
+ * Reads the state of a game from the binary save format written by {@link SaveWriter}.
+ * <p>The header and checksum are checked as soon as the reader is created, so a damaged save or one from another
+ * version of the game is turned away before any of it is loaded.</p>
+ *
+ * @author Jacob Turner
+ */
+public class SaveReader {
+
+    /**
+     * The bytes of the save, up to but not including the checksum.
+     */
+    private final ByteBuffer buffer;
+    /**
+     * The version of the format the save was written in.
+     */
+    private final int version;
+
+    /**
+     * Creates a reader for a save, checking its header and checksum.
+     *
+     * @param bytes The bytes of the whole save.
+     * @throws GdxRuntimeException If the bytes are not a save, are damaged or are from another version.
+     */
+    public SaveReader(byte[] bytes) {
+        if (bytes.length < 9) {
+            throw new GdxRuntimeException("Save is too short");
+        }
+        this.buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length - 4);
+        if ((int) crc.getValue() != this.buffer.getInt(bytes.length - 4)) {
+            throw new GdxRuntimeException("Save is damaged, its checksum does not match");
+        }
+        this.buffer.limit(bytes.length - 4);
+
+        if (this.buffer.getInt() != SaveWriter.MAGIC) {
+            throw new GdxRuntimeException("Not a save file");
+        }
+        this.version = this.getVarInt();
+        // Only the current layout can be read, an older one would be read as garbage
+        if (this.version != SaveWriter.VERSION) {
+            throw new GdxRuntimeException("Save is from another version of the game: " + this.version);
+        }
+    }
+
+    /**
+     * Get the version of the format the save was written in.
+     *
+     * @return The version.
+     */
+    public int getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Read a whole number written by {@link SaveWriter#putVarInt(int)}.
+     *
+     * @return The number.
+     */
+    public int getVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = this.nextByte();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new GdxRuntimeException("Save is damaged, a number is too long");
+    }
+
+    /**
+     * Read a long written by {@link SaveWriter#putVarLong(long)}.
+     *
+     * @return The number.
+     */
+    public long getVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            byte b = this.nextByte();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new GdxRuntimeException("Save is damaged, a number is too long");
+    }
+
+    /**
+     * Read a whole number written by {@link SaveWriter#putInt(int)}.
+     *
+     * @return The number.
+     */
+    public int getInt() {
+        int value = this.getVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Read a long written by {@link SaveWriter#putLong(long)}.
+     *
+     * @return The number.
+     */
+    public long getLong() {
+        long value = this.getVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Read a long written by {@link SaveWriter#putFixedLong(long)}.
+     *
+     * @return The number.
+     */
+    public long getFixedLong() {
+        this.require(8);
+        return this.buffer.getLong();
+    }
+
+    /**
+     * Read a decimal written by {@link SaveWriter#putFloat(float)}.
+     *
+     * @return The number.
+     */
+    public float getFloat() {
+        this.require(4);
+        return this.buffer.getFloat();
+    }
+
+    /**
+     * Read a true or false value written by {@link SaveWriter#putBoolean(boolean)}.
+     *
+     * @return The value.
+     */
+    public boolean getBoolean() {
+        return this.nextByte() != 0;
+    }
+
+    /**
+     * Read an enum constant written by {@link SaveWriter#putEnum(Enum)}.
+     *
+     * @param values The constants of the enum, from its values method.
+     * @param <T>    The type of the enum.
+     * @return The constant.
+     * @throws GdxRuntimeException If the ordinal is not one of the constants.
+     */
+    public <T extends Enum<T>> T getEnum(T[] values) {
+        int ordinal = this.getVarInt();
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw new GdxRuntimeException("Save is damaged, unknown " + values.getClass().getComponentType().getSimpleName());
+        }
+        return values[ordinal];
+    }
+
+    /**
+     * Check if everything in the save has been read.
+     *
+     * @return True if there is nothing left before the checksum.
+     */
+    public boolean isFinished() {
+        return !this.buffer.hasRemaining();
+    }
+
+    /**
+     * Check that everything in the save has been read, as a save with bytes left over was not written by this
+     * version of the game.
+     *
+     * @throws GdxRuntimeException If there is anything left before the checksum.
+     */
+    public void finish() {
+        if (!this.isFinished()) {
+            throw new GdxRuntimeException("Save is damaged, it has " + this.buffer.remaining() + " bytes left over");
+        }
+    }
+
+    /**
+     * Read the next byte of the save.
+     *
+     * @return The byte.
+     */
+    private byte nextByte() {
+        this.require(1);
+        return this.buffer.get();
+    }
+
+    /**
+     * Check there are enough bytes left to read the next value.
+     *
+     * @param bytes The number of bytes the value takes.
+     * @throws GdxRuntimeException If the save ends before the value.
+     */
+    private void require(int bytes) {
+        if (this.buffer.remaining() < bytes) {
+            throw new GdxRuntimeException("Save is damaged, it ends too early");
+        }
+    }
+}
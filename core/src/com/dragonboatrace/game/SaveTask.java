@@ -0,0 +1,145 @@
+package com.dragonboatrace.game;
+
+import com.badlogic.gdx.utils.Json;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Writes a save that has already been captured to its slot on a worker thread, so saving never holds up a frame.
+ * <p>The save is written to a temporary file next to the slot, flushed to the disk, then renamed over the slot in
+ * one step, so a slot always holds either the old save or the new one whole, even if the game is killed part of the
+ * way through. Nothing in the game is touched once the task has started, so the race can carry on while it
+ * runs.</p>
+ *
+ * @author Jacob Turner
+ */
+public class SaveTask {
+
+    /**
+     * The slot being saved to.
+     */
+    private final int slot;
+    /**
+     * The work of writing the save, done once the save is in its slot or has failed.
+     */
+    private final Future<?> work;
+
+    /**
+     * Start writing a save to its slot.
+     *
+     * @param executor The worker to write the save on.
+     * @param slot     The slot being saved to.
+     * @param save     The bytes of the save, which must not be changed after this.
+     * @param file     The file of the slot.
+     * @param json     A json copy of the save to write as well, or null for none.
+     * @param jsonFile The file to write the json copy to, or null for none.
+     */
+    public SaveTask(ExecutorService executor, int slot, final byte[] save, final File file, final String json,
+                    final File jsonFile) {
+        this.slot = slot;
+        this.work = executor.submit(new Callable<Void>() {
+            @Override
+            public Void call() throws IOException {
+                writeAtomically(file, save);
+                if (json != null) {
+                    writeAtomically(jsonFile, new Json().prettyPrint(json).getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Replace the contents of a file so that it is never left part written, making the folder it is in if needed.
+     *
+     * @param file  The file to write.
+     * @param bytes The new contents of the file.
+     * @throws IOException If the file could not be written, in which case it is left as it was.
+     */
+    public static void writeAtomically(File file, byte[] bytes) throws IOException {
+        File folder = file.getAbsoluteFile().getParentFile();
+        if (!folder.isDirectory() && !folder.mkdirs()) {
+            throw new IOException("Could not make the folder " + folder);
+        }
+
+        File temp = File.createTempFile(file.getName(), ".tmp", folder);
+        try {
+            try (FileOutputStream stream = new FileOutputStream(temp)) {
+                stream.write(bytes);
+                // Make sure the bytes are on the disk before the old save is replaced
+                stream.getFD().sync();
+            }
+            try {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            // Only still there if something went wrong
+            Files.deleteIfExists(temp.toPath());
+        }
+    }
+
+    /**
+     * Get the slot being saved to.
+     *
+     * @return The slot.
+     */
+    public int getSlot() {
+        return this.slot;
+    }
+
+    /**
+     * Check if the save has finished, without waiting.
+     *
+     * @return True once the save is in its slot or has failed.
+     */
+    public boolean isDone() {
+        return this.work.isDone();
+    }
+
+    /**
+     * Check if the save made it into its slot. Should only be called once {@link #isDone()} returns true, or after
+     * {@link #await()}.
+     *
+     * @return True if the save was written, false if it failed or hasn't finished.
+     */
+    public boolean isSaved() {
+        if (!this.work.isDone()) {
+            return false;
+        }
+        try {
+            this.work.get();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Wait for the save to finish.
+     *
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public void await() throws InterruptedException {
+        try {
+            this.work.get();
+        } catch (ExecutionException e) {
+            // The slot is left as it was, which isSaved reports
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.dragonboatrace.game;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Writes the state of a game in the binary save format, read back by {@link SaveReader}.
+ * <p>A save starts with a header of {@link #MAGIC} and the format {@link #VERSION}, and ends with a CRC32 of
+ * everything before it, so a save that was cut short or damaged is caught before anything is loaded from it.
+ * Whole numbers are written as variable length integers, small ones taking a single byte, enums as their ordinal
+ * and decimals as their four raw bytes, all little-endian.</p>
+ *
+ * @author Jacob Turner
+ */
+public class SaveWriter {
+
+    /**
+     * The first four bytes of every save, "DBRS".
+     */
+    public static final int MAGIC = 0x53524244;
+    /**
+     * The version of the format written. Bump this whenever the layout of anything saved changes.
+     */
+    public static final int VERSION = 2;
+
+    /**
+     * The bytes written so far, grown when it fills.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * Creates a writer and writes the header.
+     */
+    public SaveWriter() {
+        this.buffer = ByteBuffer.allocate(4096).order(ByteOrder.LITTLE_ENDIAN);
+        this.buffer.putInt(MAGIC);
+        this.putVarInt(VERSION);
+    }
+
+    /**
+     * Write a whole number that is never negative, seven bits a byte.
+     *
+     * @param value The number, treated as unsigned.
+     */
+    public void putVarInt(int value) {
+        this.ensure(5);
+        while ((value & ~0x7F) != 0) {
+            this.buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        this.buffer.put((byte) value);
+    }
+
+    /**
+     * Write a long that is never negative, seven bits a byte.
+     *
+     * @param value The number, treated as unsigned.
+     */
+    public void putVarLong(long value) {
+        this.ensure(10);
+        while ((value & ~0x7FL) != 0) {
+            this.buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        this.buffer.put((byte) value);
+    }
+
+    /**
+     * Write a whole number that may be negative, small negative numbers taking as little room as small positive
+     * ones.
+     *
+     * @param value The number.
+     */
+    public void putInt(int value) {
+        this.putVarInt((value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * Write a long that may be negative, small negative numbers taking as little room as small positive ones.
+     *
+     * @param value The number.
+     */
+    public void putLong(long value) {
+        this.putVarLong((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Write a long as its eight raw bytes, for numbers such as seeds that are as likely to be large as small.
+     *
+     * @param value The number.
+     */
+    public void putFixedLong(long value) {
+        this.ensure(8);
+        this.buffer.putLong(value);
+    }
+
+    /**
+     * Write a decimal as its four raw bytes, so it is read back exactly.
+     *
+     * @param value The number.
+     */
+    public void putFloat(float value) {
+        this.ensure(4);
+        this.buffer.putFloat(value);
+    }
+
+    /**
+     * Write a true or false value as a single byte.
+     *
+     * @param value The value.
+     */
+    public void putBoolean(boolean value) {
+        this.ensure(1);
+        this.buffer.put((byte) (value ? 1 : 0));
+    }
+
+    /**
+     * Write an enum constant as its ordinal.
+     *
+     * @param value The constant.
+     */
+    public void putEnum(Enum<?> value) {
+        this.putVarInt(value.ordinal());
+    }
+
+    /**
+     * Finish the save by writing the checksum.
+     *
+     * @return The bytes of the whole save.
+     */
+    public byte[] toBytes() {
+        CRC32 crc = new CRC32();
+        crc.update(this.buffer.array(), 0, this.buffer.position());
+        this.ensure(4);
+        int end = this.buffer.position();
+        this.buffer.putInt((int) crc.getValue());
+        byte[] bytes = Arrays.copyOf(this.buffer.array(), this.buffer.position());
+        // Leave the writer as it was, so more can still be written
+        this.buffer.position(end);
+        return bytes;
+    }
+
+    /**
+     * Make sure there is room for a number of bytes, doubling the buffer if there isn't.
+     *
+     * @param bytes The number of bytes about to be written.
+     */
+    private void ensure(int bytes) {
+        if (this.buffer.remaining() < bytes) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(this.buffer.capacity() * 2, this.buffer.position() + bytes))
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            this.buffer.flip();
+            grown.put(this.buffer);
+            this.buffer = grown;
+        }
+    }
+}
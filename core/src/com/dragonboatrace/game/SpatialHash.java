@@ -0,0 +1,235 @@
+package com.dragonboatrace.game;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * A uniform grid that buckets rectangles by the cells they overlap, so that only the rectangles near an area need
+ * to be checked against it.
+ * <p>Each rectangle is stored as an int handle given by the caller, for example its index in a list. The grid is
+ * meant to be cleared and filled again every tick. The cells live in an open-addressing table whose buckets are
+ * reused from tick to tick, so once the table has grown to fit the busiest tick, filling it does not allocate.</p>
+ *
+ * @author Jacob Turner
+ */
+public class SpatialHash {
+
+    /**
+     * The width and height of a cell.
+     */
+    private final float cellSize;
+    /**
+     * The packed coordinates of the cell in each table entry.
+     */
+    private long[] keys;
+    /**
+     * The handles in the cell of each table entry. Kept between ticks so they can be reused.
+     */
+    private IntArray[] buckets;
+    /**
+     * The fill the cell of each table entry belongs to. Entries from older fills count as empty.
+     */
+    private int[] entryFill;
+    /**
+     * The current fill, increased by {@link #clear()} so that every entry becomes empty at once.
+     */
+    private int fill;
+    /**
+     * The number of entries in use in the current fill.
+     */
+    private int occupied;
+    /**
+     * The query each handle was last returned by, so a handle in several cells is only returned once.
+     */
+    private int[] lastQuery;
+    /**
+     * The number of queries made, used to mark the handles returned by the current query.
+     */
+    private int queryCount;
+
+    /**
+     * Creates an empty grid.
+     *
+     * @param cellSize The width and height of a cell. Works best a little larger than the rectangles put in it.
+     */
+    public SpatialHash(float cellSize) {
+        this.cellSize = cellSize;
+        this.keys = new long[64];
+        this.buckets = newBuckets(64);
+        this.entryFill = new int[64];
+        this.fill = 1;
+        this.occupied = 0;
+        this.lastQuery = new int[16];
+        this.queryCount = 0;
+    }
+
+    /**
+     * Remove every rectangle from the grid.
+     */
+    public void clear() {
+        this.fill++;
+        this.occupied = 0;
+    }
+
+    /**
+     * Add a rectangle to every cell it overlaps.
+     *
+     * @param handle The non-negative handle to return from queries.
+     * @param x      The x-coordinate of the bottom left of the rectangle.
+     * @param y      The y-coordinate of the bottom left of the rectangle.
+     * @param width  The width of the rectangle.
+     * @param height The height of the rectangle.
+     */
+    public void insert(int handle, float x, float y, float width, float height) {
+        if (handle >= this.lastQuery.length) {
+            int[] grown = new int[Math.max(handle + 1, this.lastQuery.length * 2)];
+            System.arraycopy(this.lastQuery, 0, grown, 0, this.lastQuery.length);
+            this.lastQuery = grown;
+        }
+        int minX = this.cellOf(x);
+        int maxX = this.cellOf(x + width);
+        int minY = this.cellOf(y);
+        int maxY = this.cellOf(y + height);
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cy = minY; cy <= maxY; cy++) {
+                this.claim(key(cx, cy)).add(handle);
+            }
+        }
+    }
+
+    /**
+     * Find the handles of the rectangles in the cells an area overlaps. These are only candidates, they still
+     * need an exact overlap check.
+     *
+     * @param x      The x-coordinate of the bottom left of the area.
+     * @param y      The y-coordinate of the bottom left of the area.
+     * @param width  The width of the area.
+     * @param height The height of the area.
+     * @param out    The array to add the handles to. Each handle is added at most once.
+     */
+    public void query(float x, float y, float width, float height, IntArray out) {
+        this.queryCount++;
+        int minX = this.cellOf(x);
+        int maxX = this.cellOf(x + width);
+        int minY = this.cellOf(y);
+        int maxY = this.cellOf(y + height);
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cy = minY; cy <= maxY; cy++) {
+                int entry = this.find(key(cx, cy));
+                if (this.entryFill[entry] != this.fill) {
+                    continue;
+                }
+                IntArray bucket = this.buckets[entry];
+                for (int i = 0; i < bucket.size; i++) {
+                    int handle = bucket.get(i);
+                    if (this.lastQuery[handle] != this.queryCount) {
+                        this.lastQuery[handle] = this.queryCount;
+                        out.add(handle);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the number of cells that hold at least one rectangle.
+     *
+     * @return The number of occupied cells.
+     */
+    public int getOccupiedCellCount() {
+        return this.occupied;
+    }
+
+    /**
+     * Find the table entry of a cell, or the empty entry where it would go, using linear probing.
+     *
+     * @param key The key of the cell.
+     * @return The index of the entry.
+     */
+    private int find(long key) {
+        int mask = this.keys.length - 1;
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        int entry = (int) (mixed ^ (mixed >>> 32)) & mask;
+        while (this.entryFill[entry] == this.fill && this.keys[entry] != key) {
+            entry = (entry + 1) & mask;
+        }
+        return entry;
+    }
+
+    /**
+     * Get the bucket of a cell, taking an empty entry for it if it has none in the current fill.
+     *
+     * @param key The key of the cell.
+     * @return The bucket of the cell.
+     */
+    private IntArray claim(long key) {
+        int entry = this.find(key);
+        if (this.entryFill[entry] == this.fill) {
+            return this.buckets[entry];
+        }
+        // Keep the table at most half full so probes stay short
+        if (this.occupied + 1 > this.keys.length / 2) {
+            this.growTable();
+            entry = this.find(key);
+        }
+        this.keys[entry] = key;
+        this.entryFill[entry] = this.fill;
+        this.buckets[entry].clear();
+        this.occupied++;
+        return this.buckets[entry];
+    }
+
+    /**
+     * Double the size of the table, moving the cells of the current fill across.
+     */
+    private void growTable() {
+        long[] oldKeys = this.keys;
+        IntArray[] oldBuckets = this.buckets;
+        int[] oldFill = this.entryFill;
+        this.keys = new long[oldKeys.length * 2];
+        this.buckets = newBuckets(oldKeys.length * 2);
+        this.entryFill = new int[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldFill[i] == this.fill) {
+                int entry = this.find(oldKeys[i]);
+                this.keys[entry] = oldKeys[i];
+                this.buckets[entry] = oldBuckets[i];
+                this.entryFill[entry] = this.fill;
+            }
+        }
+    }
+
+    /**
+     * Create a bucket for every entry of a table up front, so claiming an entry never allocates.
+     *
+     * @param length The number of entries.
+     * @return The buckets.
+     */
+    private static IntArray[] newBuckets(int length) {
+        IntArray[] buckets = new IntArray[length];
+        for (int i = 0; i < length; i++) {
+            buckets[i] = new IntArray();
+        }
+        return buckets;
+    }
+
+    /**
+     * Get the cell coordinate of a position along one axis.
+     *
+     * @param value The x or y-coordinate.
+     * @return The cell coordinate.
+     */
+    private int cellOf(float value) {
+        return (int) Math.floor(value / this.cellSize);
+    }
+
+    /**
+     * Pack the coordinates of a cell into a single key.
+     *
+     * @param cx The x cell coordinate.
+     * @param cy The y cell coordinate.
+     * @return The key of the cell.
+     */
+    private static long key(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xffffffffL);
+    }
+}
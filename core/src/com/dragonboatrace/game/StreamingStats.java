@@ -0,0 +1,156 @@
+package com.dragonboatrace.game;
+
+/**
+ * Summary statistics of a stream of times, kept in a fixed amount of memory however many times are added.
+ * <p>Every value is held exactly as a whole number of milliseconds, so two sets of statistics built from the same
+ * times give exactly the same results whatever order the times were added or merged in. Percentiles are read from
+ * a histogram of one second wide bins, so they are accurate to the nearest second.</p>
+ *
+ * @author Jacob Turner
+ */
+public class StreamingStats {
+
+    /**
+     * The width of each bin of the histogram in milliseconds.
+     */
+    public static final long BIN_WIDTH = 1000;
+    /**
+     * The number of bins in the histogram, enough for twenty minutes. Any time past the last bin is counted in it.
+     */
+    public static final int BINS = 1200;
+
+    /**
+     * The number of times added.
+     */
+    private long count;
+    /**
+     * The sum of every time added.
+     */
+    private long sum;
+    /**
+     * The sum of the square of every time added.
+     */
+    private long sumSquares;
+    /**
+     * The smallest time added.
+     */
+    private long min;
+    /**
+     * The largest time added.
+     */
+    private long max;
+    /**
+     * The number of times that fall in each bin.
+     */
+    private final long[] histogram;
+
+    /**
+     * Creates an empty set of statistics.
+     */
+    public StreamingStats() {
+        this.histogram = new long[BINS];
+        this.min = Long.MAX_VALUE;
+        this.max = Long.MIN_VALUE;
+    }
+
+    /**
+     * Add a time to the statistics.
+     *
+     * @param time The time in milliseconds, must not be negative.
+     */
+    public void add(long time) {
+        this.count++;
+        this.sum += time;
+        this.sumSquares += time * time;
+        this.min = Math.min(this.min, time);
+        this.max = Math.max(this.max, time);
+        this.histogram[(int) Math.min(time / BIN_WIDTH, BINS - 1)]++;
+    }
+
+    /**
+     * Add every time from another set of statistics to this one.
+     *
+     * @param other The statistics to add, which are left unchanged.
+     */
+    public void merge(StreamingStats other) {
+        this.count += other.count;
+        this.sum += other.sum;
+        this.sumSquares += other.sumSquares;
+        this.min = Math.min(this.min, other.min);
+        this.max = Math.max(this.max, other.max);
+        for (int i = 0; i < BINS; i++) {
+            this.histogram[i] += other.histogram[i];
+        }
+    }
+
+    /**
+     * Get the number of times added.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Get the smallest time added.
+     *
+     * @return The time in milliseconds, or 0 if nothing has been added.
+     */
+    public long getMin() {
+        return this.count == 0 ? 0 : this.min;
+    }
+
+    /**
+     * Get the largest time added.
+     *
+     * @return The time in milliseconds, or 0 if nothing has been added.
+     */
+    public long getMax() {
+        return this.count == 0 ? 0 : this.max;
+    }
+
+    /**
+     * Get the mean of the times added.
+     *
+     * @return The mean in milliseconds, or 0 if nothing has been added.
+     */
+    public double getMean() {
+        return this.count == 0 ? 0 : this.sum / (double) this.count;
+    }
+
+    /**
+     * Get the standard deviation of the times added.
+     *
+     * @return The standard deviation in milliseconds, or 0 if fewer than two times have been added.
+     */
+    public double getStandardDeviation() {
+        if (this.count < 2) {
+            return 0;
+        }
+        double mean = this.getMean();
+        double variance = (this.sumSquares - this.count * mean * mean) / (this.count - 1);
+        return Math.sqrt(Math.max(0, variance));
+    }
+
+    /**
+     * Get the time that a fraction of the times added are below, to the nearest bin.
+     *
+     * @param fraction The fraction, from 0 to 1, so 0.5 is the median.
+     * @return The middle of the bin the percentile falls in, in milliseconds, or 0 if nothing has been added.
+     */
+    public long getPercentile(double fraction) {
+        if (this.count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(fraction * this.count);
+        long seen = 0;
+        for (int i = 0; i < BINS; i++) {
+            seen += this.histogram[i];
+            if (seen >= rank && this.histogram[i] > 0) {
+                return i * BIN_WIDTH + BIN_WIDTH / 2;
+            }
+        }
+        return (BINS - 1) * BIN_WIDTH + BIN_WIDTH / 2;
+    }
+}
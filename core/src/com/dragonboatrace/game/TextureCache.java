@@ -0,0 +1,175 @@
+package com.dragonboatrace.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.util.HashMap;
+
+/**
+ * A shared, reference counted store of the textures used by the entities.
+ * <p>Each texture is keyed by the template it belongs to (an {@link com.dragonboatrace.game.entities.ObstacleType},
+ * {@link com.dragonboatrace.game.entities.PowerUpType} or {@link com.dragonboatrace.game.entities.BoatType}),
+ * so every entity of the same type borrows the same texture rather than decoding its own copy.</p>
+ * <p>When the packed entity atlas is present (built by the desktop {@code packTextures} task) the regions are taken
+ * from it, so every entity is drawn from the same texture. Images missing from the atlas fall back to being loaded
+ * on their own.</p>
+ *
+ * @author Benji Garment
+ */
+public final class TextureCache {
+
+    /**
+     * The path of the packed entity atlas.
+     */
+    public static final String ATLAS_PATH = "atlas/entities.atlas";
+
+    /**
+     * A texture region together with the number of entities currently borrowing it.
+     */
+    private static final class Entry {
+        /**
+         * The shared region to draw.
+         */
+        final TextureRegion region;
+        /**
+         * The texture loaded just for this entry, null if the region is from the atlas.
+         */
+        final Texture ownTexture;
+        /**
+         * The number of borrowers still holding the region.
+         */
+        int references;
+
+        Entry(TextureRegion region, Texture ownTexture) {
+            this.region = region;
+            this.ownTexture = ownTexture;
+            this.references = 0;
+        }
+    }
+
+    /**
+     * The loaded regions, by the key they were requested with.
+     */
+    private static final HashMap<Object, Entry> entries = new HashMap<>();
+    /**
+     * The packed entity atlas, null if it is not loaded.
+     */
+    private static TextureAtlas atlas;
+    /**
+     * The number of entries currently using a region from the atlas.
+     */
+    private static int atlasEntries;
+
+    private TextureCache() {
+    }
+
+    /**
+     * Borrow the region for a key, loading it the first time it is requested.
+     *
+     * @param key      The template the texture belongs to.
+     * @param imageSrc The path of the image, used to find the region in the atlas or to load it on its own.
+     * @return The shared region for the key.
+     */
+    public static synchronized TextureRegion obtain(Object key, String imageSrc) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = load(imageSrc);
+            entries.put(key, entry);
+        }
+        entry.references++;
+        return entry.region;
+    }
+
+    /**
+     * Give back a region borrowed with {@link #obtain(Object, String)}. The texture is disposed once nothing holds it.
+     *
+     * @param key The template the region was borrowed for.
+     */
+    public static synchronized void release(Object key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return;
+        }
+        entry.references--;
+        if (entry.references <= 0) {
+            entries.remove(key);
+            if (entry.ownTexture != null) {
+                entry.ownTexture.dispose();
+            } else if (--atlasEntries == 0) {
+                atlas.dispose();
+                atlas = null;
+            }
+        }
+    }
+
+    /**
+     * Get the number of entities currently borrowing the region for a key.
+     *
+     * @param key The template to check.
+     * @return The number of references, 0 if the region is not loaded.
+     */
+    public static synchronized int getReferenceCount(Object key) {
+        Entry entry = entries.get(key);
+        return entry == null ? 0 : entry.references;
+    }
+
+    /**
+     * Get the number of distinct regions currently loaded.
+     *
+     * @return The number of entries in the cache.
+     */
+    public static synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Dispose every cached texture regardless of how many references are still held. Used when the game closes.
+     */
+    public static synchronized void clear() {
+        for (Entry entry : entries.values()) {
+            if (entry.ownTexture != null) {
+                entry.ownTexture.dispose();
+            }
+        }
+        entries.clear();
+        if (atlas != null) {
+            atlas.dispose();
+            atlas = null;
+        }
+        atlasEntries = 0;
+    }
+
+    /**
+     * Create a new entry for an image, taking it from the atlas if possible.
+     *
+     * @param imageSrc The path of the image.
+     * @return A new entry with no references.
+     */
+    private static Entry load(String imageSrc) {
+        if (atlas == null && Gdx.files.internal(ATLAS_PATH).exists()) {
+            atlas = new TextureAtlas(ATLAS_PATH);
+        }
+        if (atlas != null) {
+            TextureRegion region = atlas.findRegion(getRegionName(imageSrc));
+            if (region != null) {
+                atlasEntries++;
+                return new Entry(region, null);
+            }
+        }
+        Texture texture = new Texture(imageSrc);
+        return new Entry(new TextureRegion(texture), texture);
+    }
+
+    /**
+     * Get the name of the region an image is packed as, which is its path without the extension.
+     *
+     * @param imageSrc The path of the image.
+     * @return The name of the region in the atlas.
+     */
+    public static String getRegionName(String imageSrc) {
+        int extension = imageSrc.lastIndexOf('.');
+        return extension < 0 ? imageSrc : imageSrc.substring(0, extension);
+    }
+}
@@ -1,14 +1,17 @@
 package com.dragonboatrace.game.entities;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntSet;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
+import com.dragonboatrace.game.RaceClock;
+import com.dragonboatrace.game.SaveReader;
+import com.dragonboatrace.game.SaveWriter;
+import com.dragonboatrace.game.TextureCache;
 import com.dragonboatrace.game.Tuple;
 
-import java.util.ArrayList;
-
 /**
  * Represents a generic Boat.
  *
@@ -29,9 +32,17 @@ public abstract class Boat extends Entity {
      */
     protected float currentMaxSpeed;
     /**
-     * The list of obstacles recently collided with. Means there is only one collision per obstacle.
+     * The ids of the obstacles currently touching the boat. Means there is only one collision per obstacle.
+     */
+    protected IntSet collided;
+    /**
+     * The ids of the obstacles found touching the boat in the current collision pass.
+     */
+    private IntSet stillTouching;
+    /**
+     * The number of obstacles in the current collision pass that were already touching the boat.
      */
-    protected ArrayList<Obstacle> collided;
+    private int keptContacts;
     /**
      * The current stamina of the boat.
      */
@@ -52,6 +63,14 @@ public abstract class Boat extends Entity {
      * The base handling of the boat, used to reset the handling at the beginning of each round.
      */
     protected float defaultHandling;
+    /**
+     * The handling of the boat, which power ups can raise until the end of the round.
+     */
+    protected float currentHandling;
+    /**
+     * The number of obstacles the boat has hit in the race.
+     */
+    protected int collisions;
     /**
      * The time at which the boat finished the race.
      */
@@ -64,6 +83,10 @@ public abstract class Boat extends Entity {
      * The distance travelled in the current round.
      */
     protected float distanceTravelled;
+    /**
+     * The distance travelled at the start of the latest simulation step.
+     */
+    protected float prevDistanceTravelled;
     /**
      * The cumulative time from all the rounds.
      */
@@ -78,10 +101,14 @@ public abstract class Boat extends Entity {
      * <p>True is when it is not able to collide</p>
      */
     private boolean noCollide = false;
+    /**
+     * The timed effects from power ups running on the boat.
+     */
+    protected EffectScheduler effects;
     /**
      * The texture of boat.
      */
-    protected Texture image;
+    protected TextureRegion image;
     /**
      * Stores the position of where to reset the boat to at the beginning of each round.
      */
@@ -99,12 +126,15 @@ public abstract class Boat extends Entity {
         super(pos.cpy(), boatType.getSize().cpy(), boatType.getWeight());
         this.startPos = this.pos.cpy();
         this.boatType = boatType;
+        this.effects = new EffectScheduler();
         this.currentHealth = this.boatType.getMaxHealth();
-        this.currentMaxSpeed = this.boatType.getSpeed();
-        this.collided = new ArrayList<>();
+        this.currentMaxSpeed = this.getTopSpeed();
+        this.collided = new IntSet();
+        this.stillTouching = new IntSet();
         this.currentStamina = this.boatType.getStamina();
         this.maxStamina = this.boatType.getStamina();
         this.defaultHandling = boatType.handling;
+        this.currentHandling = this.defaultHandling;
         this.distanceTravelled = 0;
         this.totalTime = 0;
         this.laneBounds = laneBounds;
@@ -122,6 +152,7 @@ public abstract class Boat extends Entity {
                 new Json().fromJson(BoatType.class, jsonString.getString("type")).getSize().cpy(),
                 new Json().fromJson(BoatType.class, jsonString.getString("type")).getWeight());
         this.boatType = new Json().fromJson(BoatType.class, jsonString.getString("type"));
+        this.effects = new EffectScheduler();
         this.startPos = new Vector2();
         this.startPos.x = jsonString.get("startPos").getFloat("x");
         this.startPos.y = jsonString.get("startPos").getFloat("y");
@@ -130,19 +161,73 @@ public abstract class Boat extends Entity {
         this.distanceTravelled = jsonString.getFloat("distance");
         this.totalTime = jsonString.getInt("totalTime");
         this.laneBounds = new Tuple<>(jsonString.get("laneBounds").getFloat("x"), jsonString.get("laneBounds").getFloat("y"));
-        this.currentMaxSpeed = this.boatType.getSpeed();
+        this.currentMaxSpeed = this.getTopSpeed();
         this.maxStamina = this.boatType.getStamina();
-        this.collided = new ArrayList<>();
+        this.collided = new IntSet();
+        this.stillTouching = new IntSet();
         this.defaultHandling = boatType.getHandling();
+        this.currentHandling = this.defaultHandling;
+        if (jsonString.has("effects")) {
+            this.effects.load(jsonString.get("effects"));
+            this.applyEffects();
+        }
         this.inGamePos.x = jsonString.get("inGamePos").getFloat("x");
         this.inGamePos.y = jsonString.get("inGamePos").getFloat("y");
         this.hitbox.setToPosition(this.inGamePos);
     }
 
+    /**
+     * Creates a generic boat from a binary save file.
+     *
+     * @param in The save, at the start of a boat.
+     */
+    public Boat(SaveReader in) {
+        this(in.getEnum(BoatType.values()), in);
+    }
+
+    /**
+     * Creates a generic boat from a binary save file, once its type has been read.
+     *
+     * @param boatType The type of the boat.
+     * @param in       The save, just after the type of the boat.
+     */
+    private Boat(BoatType boatType, SaveReader in) {
+        super(new Vector2(in.getFloat(), in.getFloat()), new Vector2(in.getFloat(), in.getFloat()),
+                boatType.getSize().cpy(), boatType.getWeight());
+        this.boatType = boatType;
+        this.effects = new EffectScheduler();
+        this.inGamePos.set(in.getFloat(), in.getFloat());
+        this.startPos = new Vector2(in.getFloat(), in.getFloat());
+        this.laneBounds = new Tuple<>(in.getFloat(), in.getFloat());
+        this.currentHealth = in.getFloat();
+        this.currentStamina = in.getFloat();
+        this.distanceTravelled = in.getFloat();
+        this.totalTime = in.getLong();
+        this.currentMaxSpeed = this.getTopSpeed();
+        this.maxStamina = this.boatType.getStamina();
+        this.collided = new IntSet();
+        this.stillTouching = new IntSet();
+        this.defaultHandling = boatType.getHandling();
+        this.currentHandling = this.defaultHandling;
+        this.effects.read(in);
+        this.applyEffects();
+        // Still slowed if it was saved while touching an obstacle
+        this.currentMaxSpeed = in.getFloat();
+        this.timePenalties = in.getFloat();
+        this.penaltyResetDelay = in.getFloat();
+        this.collisions = in.getVarInt();
+        this.hitbox.setToPosition(this.inGamePos);
+    }
+
     // THIS IS NEW
+    /**
+     * Borrow the shared texture for the boat type. Is required before rendering.
+     */
     @Override
     public void loadTexture() {
-        this.image = new Texture(this.boatType.imageSrc);
+        if (this.image == null) {
+            this.image = TextureCache.obtain(this.boatType, this.boatType.imageSrc);
+        }
     }
 
     // THIS IS NEW
@@ -180,7 +265,7 @@ public abstract class Boat extends Entity {
      * @return A string of the attributes formatted for a JSON.
      */
     public String save() {
-        return String.format("{type:%s, health:%f, stamina:%f, distance:%f, totalTime:%d, laneBounds:{x:%f, y:%f}, inGamePos:{x:%f, y:%f}, pos:{x:%f, y:%f}, vel:{x:%f, y:%f}, startPos:{x:%f, y:%f}}",
+        return String.format("{type:%s, health:%f, stamina:%f, distance:%f, totalTime:%d, laneBounds:{x:%f, y:%f}, inGamePos:{x:%f, y:%f}, pos:{x:%f, y:%f}, vel:{x:%f, y:%f}, startPos:{x:%f, y:%f}, effects:%s}",
                 this.boatType,
                 this.currentHealth,
                 this.currentStamina,
@@ -195,10 +280,39 @@ public abstract class Boat extends Entity {
                 this.vel.x,
                 this.vel.y,
                 this.startPos.x,
-                this.startPos.y
+                this.startPos.y,
+                this.effects.save()
         );
     }
 
+    /**
+     * Write the boat to a binary save file.
+     *
+     * @param out The save to write to.
+     */
+    public void write(SaveWriter out) {
+        out.putEnum(this.boatType);
+        out.putFloat(this.pos.x);
+        out.putFloat(this.pos.y);
+        out.putFloat(this.vel.x);
+        out.putFloat(this.vel.y);
+        out.putFloat(this.inGamePos.x);
+        out.putFloat(this.inGamePos.y);
+        out.putFloat(this.startPos.x);
+        out.putFloat(this.startPos.y);
+        out.putFloat(this.laneBounds.a);
+        out.putFloat(this.laneBounds.b);
+        out.putFloat(this.currentHealth);
+        out.putFloat(this.currentStamina);
+        out.putFloat(this.distanceTravelled);
+        out.putLong(this.totalTime);
+        this.effects.write(out);
+        out.putFloat(this.currentMaxSpeed);
+        out.putFloat(this.timePenalties);
+        out.putFloat(this.penaltyResetDelay);
+        out.putVarInt(this.collisions);
+    }
+
     // THIS IS CHANGED
     /**
      * Perform the collision logic after the check of if an obstacle is actually colliding.
@@ -209,20 +323,56 @@ public abstract class Boat extends Entity {
     public void doCollision(boolean colliding, Obstacle o) {
         // Check if there is a collision occurring between an obstacle and the boat.
         if (colliding) {
-            if (!this.collided.contains(o)) {
-                // Don't allow more than one collision per obstacle.
-                this.collided.add(o);
-                this.currentHealth -= o.weight;
-                this.currentMaxSpeed = this.boatType.getSpeed() / o.weight;
-                this.currentStamina = Math.max(this.currentStamina - 100 * o.weight, 0);
+            // Don't allow more than one collision per obstacle.
+            if (this.collided.add(o.getId())) {
+                this.hit(o.weight);
             }
-        } else if (this.collided.contains(o)) {
-            // Remove the obstacle from the list of currently colliding obstacles.
-            this.collided.remove(o);
-            this.currentMaxSpeed = this.boatType.getSpeed();
+        } else if (this.collided.remove(o.getId())) {
+            // The obstacle has stopped colliding.
+            this.currentMaxSpeed = this.getTopSpeed();
         }
     }
 
+    /**
+     * Take the damage and slow down from hitting an obstacle.
+     *
+     * @param weight The weight of the obstacle that was hit.
+     */
+    private void hit(float weight) {
+        this.collisions++;
+        this.currentHealth -= weight;
+        this.currentMaxSpeed = this.getTopSpeed() / weight;
+        this.currentStamina = Math.max(this.currentStamina - 100 * weight, 0);
+    }
+
+    /**
+     * Check if an obstacle is touching the boat, having already hit it.
+     *
+     * @param obstacleId The id of the obstacle.
+     * @return True if the boat is touching the obstacle.
+     */
+    public boolean isTouching(int obstacleId) {
+        return this.collided.contains(obstacleId);
+    }
+
+    /**
+     * Record that an obstacle loaded from a save was already touching the boat, so it isn't hit again.
+     *
+     * @param obstacleId The id the obstacle was given when it was loaded.
+     */
+    public void restoreContact(int obstacleId) {
+        this.collided.add(obstacleId);
+    }
+
+    /**
+     * Forget any collision with an obstacle, for when the obstacle is removed from the game.
+     *
+     * @param obstacleId The id of the obstacle being removed.
+     */
+    public void endContact(int obstacleId) {
+        this.collided.remove(obstacleId);
+    }
+
     // THIS IS CHANGED
     /**
      * Check if there is a collision between an obstacle o and the boat.
@@ -231,23 +381,60 @@ public abstract class Boat extends Entity {
      */
     public void checkForCollision(Obstacle o) {
         // Don't bother checking for collisions if no-collide is enabled.
-        if (!this.noCollide) {
+        if (!this.getNoCollide()) {
             doCollision(super.checkCollision(o), o);
         }
     }
 
     /**
-     * Renders the boat to a spritebatch and relative to the y-coordinate of relPos
+     * Start a collision pass, in which every obstacle touching the boat is given to {@link #touch(int, float)}.
+     *
+     * @see com.dragonboatrace.game.CollisionWorld
+     */
+    public void beginContacts() {
+        this.keptContacts = 0;
+        this.stillTouching.clear();
+    }
+
+    /**
+     * Record that an obstacle is touching the boat in the current collision pass, hitting it if it wasn't before.
+     *
+     * @param obstacleId The id of the obstacle.
+     * @param weight     The weight of the obstacle.
+     */
+    public void touch(int obstacleId, float weight) {
+        if (this.stillTouching.add(obstacleId)) {
+            if (this.collided.contains(obstacleId)) {
+                this.keptContacts++;
+            } else {
+                this.hit(weight);
+            }
+        }
+    }
+
+    /**
+     * Finish a collision pass. Any obstacle that was touching before but not in this pass, including obstacles
+     * that have since been removed, has stopped colliding.
+     */
+    public void endContacts() {
+        if (this.keptContacts < this.collided.size) {
+            this.currentMaxSpeed = this.getTopSpeed();
+        }
+        IntSet previous = this.collided;
+        this.collided = this.stillTouching;
+        this.stillTouching = previous;
+    }
+
+    /**
+     * Adds the boat to a spritebatch relative to the y-coordinate of relPos. The batch must already have begun.
      *
      * @param batch  The spritebatch to be added to.
      * @param relPos The position to be drawn relative to.
      */
     public void render(SpriteBatch batch, Vector2 relPos) {
-        batch.begin();
         batch.draw(this.image,
-                (this.pos.x), (this.pos.y - relPos.y),
+                (this.renderPos.x), (this.renderPos.y - relPos.y),
                 this.size.x, this.size.y);
-        batch.end();
     }
 
     /**
@@ -257,22 +444,32 @@ public abstract class Boat extends Entity {
      */
     @Override
     public void update(float deltaTime) {
-        this.currentMaxSpeed = this.boatType.getSpeed();
+        this.currentMaxSpeed = this.getTopSpeed();
         super.update(deltaTime);
     }
 
     /**
-     * Check if the boat has crossed the finish line.
+     * Store the position and the distance travelled at the start of a simulation step.
+     */
+    @Override
+    public void storePreviousPosition() {
+        super.storePreviousPosition();
+        this.prevDistanceTravelled = this.distanceTravelled;
+    }
+
+    /**
+     * Check if the boat has crossed the finish line, timing it to the moment it crossed during the latest step.
      *
      * @param finishLine The position of the finish line.
-     * @param startTime  The time the round started.
+     * @param clock      The clock of the round, at the end of the latest step.
      * @return If the boat has finished or not.
      */
-    public boolean checkFinished(int finishLine, long startTime) {
+    public boolean checkFinished(int finishLine, RaceClock clock) {
         if (this.finished) {
             return true;
         } else if (this.isFinished(finishLine)) {
-            this.setFinishTime(System.currentTimeMillis() - startTime + (long) this.timePenalties);
+            long crossed = clock.getCrossingMillis(this.prevDistanceTravelled, this.distanceTravelled, finishLine);
+            this.setFinishTime(crossed + (long) this.timePenalties);
             this.finished = true;
         }
         return this.finished;
@@ -336,24 +533,102 @@ public abstract class Boat extends Entity {
      */
     public void moveToStart() {
         //Reset all values for the beginning of a round.
-        this.inGamePos = startPos.cpy();
-        this.pos = startPos.cpy();
+        this.inGamePos.set(startPos);
+        this.pos.set(startPos);
         this.hitbox.setToPosition(this.inGamePos);
-        this.vel = new Vector2();
+        this.vel.setZero();
         this.currentStamina = maxStamina;
         this.distanceTravelled = 0;
         this.totalTime += finishTime;
         this.finishTime = 0;
-        this.boatType.handling = defaultHandling;
+        this.effects.clear();
+        this.currentHandling = this.defaultHandling;
         this.finished = false;
-        this.currentMaxSpeed = this.boatType.getSpeed();
+        this.currentMaxSpeed = this.getTopSpeed();
+        this.collided.clear();
+        this.resetInterpolation();
+    }
+
+    /**
+     * Start a timed effect from a power up, which ends on its own once it has run for its duration.
+     *
+     * @param type     The type of effect.
+     * @param amount   How much the effect changes the boat by.
+     * @param duration The number of seconds the effect lasts, 0 if it lasts until the boat is moved to the start.
+     */
+    public void addEffect(EffectType type, float amount, float duration) {
+        this.effects.add(type, amount, duration > 0 ? EffectScheduler.toTicks(duration) : EffectScheduler.UNTIL_CLEARED);
+        this.applyEffects();
+    }
+
+    /**
+     * Run a simulation step of the boat, remembering where it started and counting down its timed effects before
+     * moving it.
+     *
+     * @param deltaTime The length of the step in seconds.
+     */
+    public void advance(float deltaTime) {
+        this.storePreviousPosition();
+        this.updateEffects();
+        this.move(deltaTime);
+        this.update(deltaTime);
+    }
+
+    /**
+     * Count a simulation step towards the end of every timed effect, taking away any that have ended.
+     */
+    public void updateEffects() {
+        if (this.effects.advance()) {
+            this.applyEffects();
+        }
     }
 
     /**
-     * Dispose the boat texture.
+     * Set the handling and top speed of the boat from the effects running.
+     */
+    private void applyEffects() {
+        this.currentHandling = this.defaultHandling + this.effects.getTotal(EffectType.AGILITY);
+        // Hitting an obstacle slows the boat until it is clear of it
+        if (this.collided.size == 0) {
+            this.currentMaxSpeed = this.getTopSpeed();
+        }
+    }
+
+    /**
+     * Get the fastest the boat can go when it isn't touching an obstacle, including any speed effect.
+     *
+     * @return The top speed.
+     */
+    public float getTopSpeed() {
+        return this.boatType.getSpeed() + this.effects.getTotal(EffectType.SPEED);
+    }
+
+    /**
+     * Get the timed effects running on the boat.
+     *
+     * @return The effects.
+     */
+    public EffectScheduler getEffects() {
+        return this.effects;
+    }
+
+    /**
+     * Get the texture of the boat.
+     *
+     * @return The texture, or null if it has not been loaded.
+     */
+    public TextureRegion getImage() {
+        return this.image;
+    }
+
+    /**
+     * Release the boat's reference to the shared texture.
      */
     public void dispose() {
-        this.image.dispose();
+        if (this.image != null) {
+            TextureCache.release(this.boatType);
+            this.image = null;
+        }
     }
 
     /**
@@ -375,6 +650,15 @@ public abstract class Boat extends Entity {
         this.finishTime = finishTime;
     }
 
+    /**
+     * Get the number of obstacles the boat has hit in the race.
+     *
+     * @return The number of collisions.
+     */
+    public int getCollisions() {
+        return this.collisions;
+    }
+
     /**
      * Get the total time penalty.
      *
@@ -462,7 +746,7 @@ public abstract class Boat extends Entity {
      * @return A float of the boats current handling.
      */
     public float getCurrentHandling() {
-        return this.boatType.handling;
+        return this.currentHandling;
     }
 
     /**
@@ -471,7 +755,7 @@ public abstract class Boat extends Entity {
      * @return A boolean of if the boat is currently no collide or not.
      */
     public boolean getNoCollide() {
-        return noCollide;
+        return noCollide || this.effects.isActive(EffectType.NOCOLLIDE);
     }
 
     /**
@@ -492,15 +776,6 @@ public abstract class Boat extends Entity {
         this.vel.y += speedToAdd;
     }
 
-    /**
-     * Add to the handling of the boat.
-     *
-     * @param speedToAdd The amount to add to the handling.
-     */
-    public void increaseHandling(float speedToAdd) {
-        this.boatType.handling += speedToAdd;
-    }
-
     /**
      * Set the current value for stamina.
      *
@@ -2,10 +2,11 @@ package com.dragonboatrace.game.entities;
 
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.JsonValue;
+import com.dragonboatrace.game.ObstacleStore;
+import com.dragonboatrace.game.SaveReader;
+import com.dragonboatrace.game.SaveWriter;
 import com.dragonboatrace.game.Tuple;
 
-import java.util.ArrayList;
-
 /**
  * A boat controlled by the computer.
  *
@@ -55,6 +56,28 @@ public class CPUBoat extends Boat {
 
     }
 
+    /**
+     * Creates a boat controlled by the computer from a binary save file.
+     *
+     * @param in The save, at the start of the boat.
+     */
+    public CPUBoat(SaveReader in) {
+        super(in);
+        this.dir = in.getInt();
+        this.areaChecker = new EntityHitbox(new Vector2(this.inGamePos.x - this.size.x * (this.areaMulti / 2f), this.inGamePos.y), new Vector2(this.size.x + this.size.x * this.areaMulti, this.size.y));
+    }
+
+    /**
+     * Write the boat to a binary save file, with the direction it is steering in.
+     *
+     * @param out The save to write to.
+     */
+    @Override
+    public void write(SaveWriter out) {
+        super.write(out);
+        out.putInt(this.dir);
+    }
+
     // THIS IS CHANGED
     /**
      * Performs the movement of the boat given the time since the previous frame.
@@ -66,17 +89,17 @@ public class CPUBoat extends Boat {
 
         //Always accelerate.
         if (this.vel.y < this.currentMaxSpeed) {
-            this.vel.add(0, ((this.boatType.getAcceleration() / 100) / (deltaTime * 60)));
+            this.vel.add(0, ((this.boatType.getAcceleration() / 100) * (deltaTime * 60)));
         } else if (this.vel.y > this.currentMaxSpeed) {
-            this.vel.add(0, -((this.boatType.getAcceleration() / 100) / (deltaTime * 60)));
+            this.vel.add(0, -((this.boatType.getAcceleration() / 100) * (deltaTime * 60)));
         }
 
         // Choose an x direction based on the direction set with dir.
-        this.vel.add((dir * this.boatType.getHandling() / (deltaTime * 60)), 0);
+        this.vel.add((dir * this.currentHandling * (deltaTime * 60)), 0);
 
         //this part stops them if they break
         if (this.currentHealth <= 0) {
-            this.vel = new Vector2();
+            this.vel.setZero();
         }
 
         //this part adds on a penalty if they pass the barrier
@@ -94,18 +117,19 @@ public class CPUBoat extends Boat {
     /**
      * Decides which direction to move (left/right) given the position of the obstacles around the boat.
      *
-     * @param obstacles A list of the obstacles in the boat's lane.
+     * @param obstacles The obstacles in the boat's lane.
      */
-    public void decideMovement(ArrayList<Obstacle> obstacles) {
+    public void decideMovement(ObstacleStore obstacles) {
 
         boolean obstacleInZone = false;
         // The center of the boat.
         float thisCenter = this.size.x / 2f + this.inGamePos.x;
 
         // Find an obstacle in the area being checked.
-        for (Obstacle obstacle : obstacles) {
-            if (this.areaChecker.checkCollision(obstacle.getHitbox())) {
-                float obstacleCenter = obstacle.size.x / 2f + obstacle.inGamePos.x;
+        for (int i = 0; i < obstacles.size(); i++) {
+            int slot = obstacles.slot(i);
+            if (this.areaChecker.overlaps(obstacles.getX(slot), obstacles.getY(slot), obstacles.getWidth(slot), obstacles.getHeight(slot))) {
+                float obstacleCenter = obstacles.getWidth(slot) / 2f + obstacles.getX(slot);
                 obstacleInZone = true;
                 // Choose a direction based on the position of the center of the obstacle relative to the boats center.
                 this.dir = decideDirection(thisCenter, obstacleCenter);
@@ -189,14 +213,14 @@ public class CPUBoat extends Boat {
             this.distanceTravelled += deltaY;
         }
         // Move the hit box using a fixed mover, but move the area checker relative as it has an x offset.
-        this.areaChecker.movePosition(new Vector2(deltaX, deltaY));
+        this.areaChecker.movePosition(deltaX, deltaY);
         this.hitbox.setToPosition(this.inGamePos);
     }
 
     // THIS IS NEW
     public void moveToStart() {
         super.moveToStart();
-        this.areaChecker.setToPosition(new Vector2(this.inGamePos.x - this.size.x * (this.areaMulti / 2f), this.inGamePos.y));
+        this.areaChecker.setToPosition(this.inGamePos.x - this.size.x * (this.areaMulti / 2f), this.inGamePos.y);
     }
 
 }
@@ -0,0 +1,290 @@
+package com.dragonboatrace.game.entities;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import com.dragonboatrace.game.FixedTimestep;
+import com.dragonboatrace.game.SaveReader;
+import com.dragonboatrace.game.SaveWriter;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps track of the timed effects on a boat, counted in simulation steps rather than time on the clock.
+ * <p>The effects are kept in a queue ordered by the step they end on, so each step only the front of the queue is
+ * looked at, and nothing at all is done when there are no effects. As the steps are only counted while the race is
+ * being simulated, the effects are paused with the game, and end at the same point of a race every time it is
+ * played.</p>
+ *
+ * @author Benji Garment
+ */
+public class EffectScheduler {
+
+    /**
+     * The number of steps given to an effect that lasts until the scheduler is cleared at the start of the next
+     * round.
+     */
+    public static final int UNTIL_CLEARED = Integer.MAX_VALUE;
+
+    /**
+     * The effects running, the one that ends first at the front.
+     */
+    private final PriorityQueue<Effect> effects;
+    /**
+     * The sum of the amounts of the running effects of each type, by the ordinal of the type.
+     */
+    private final float[] totals;
+    /**
+     * The number of running effects of each type, by the ordinal of the type.
+     */
+    private final int[] counts;
+    /**
+     * The number of steps counted so far.
+     */
+    private long tick;
+    /**
+     * The number of effects added so far, used to end effects that end on the same step in the order they began.
+     */
+    private long added;
+
+    /**
+     * Creates a scheduler with no effects.
+     */
+    public EffectScheduler() {
+        this.effects = new PriorityQueue<>();
+        this.totals = new float[EffectType.values().length];
+        this.counts = new int[EffectType.values().length];
+    }
+
+    /**
+     * Get the number of steps an effect lasting a given time runs for.
+     *
+     * @param seconds The length of the effect in seconds.
+     * @return The number of steps, at least one.
+     */
+    public static int toTicks(float seconds) {
+        return Math.max(1, Math.round(seconds / FixedTimestep.STEP));
+    }
+
+    /**
+     * Start an effect. If the type does not stack, any effect of the same type is replaced.
+     *
+     * @param type     The type of effect.
+     * @param amount   How much the effect changes the boat by.
+     * @param duration The number of steps the effect lasts.
+     */
+    public void add(EffectType type, float amount, int duration) {
+        if (!type.stacks && this.counts[type.ordinal()] > 0) {
+            for (Effect effect : this.effects.toArray(new Effect[0])) {
+                if (effect.type == type) {
+                    this.effects.remove(effect);
+                    this.end(effect);
+                }
+            }
+        }
+        this.effects.add(new Effect(type, amount, this.tick + duration, this.added++));
+        this.totals[type.ordinal()] += amount;
+        this.counts[type.ordinal()]++;
+    }
+
+    /**
+     * Count a step and end any effects that have run their course.
+     *
+     * @return True if any effect ended.
+     */
+    public boolean advance() {
+        this.tick++;
+        boolean ended = false;
+        while (!this.effects.isEmpty() && this.effects.peek().expiry <= this.tick) {
+            this.end(this.effects.poll());
+            ended = true;
+        }
+        return ended;
+    }
+
+    /**
+     * End every effect and start counting steps from zero again.
+     */
+    public void clear() {
+        this.effects.clear();
+        Arrays.fill(this.totals, 0);
+        Arrays.fill(this.counts, 0);
+        this.tick = 0;
+    }
+
+    /**
+     * Check if any effect of a type is running.
+     *
+     * @param type The type of effect.
+     * @return True if the effect is running.
+     */
+    public boolean isActive(EffectType type) {
+        return this.counts[type.ordinal()] > 0;
+    }
+
+    /**
+     * Get the sum of the amounts of every running effect of a type.
+     *
+     * @param type The type of effect.
+     * @return The total amount, 0 if none are running.
+     */
+    public float getTotal(EffectType type) {
+        return this.totals[type.ordinal()];
+    }
+
+    /**
+     * Get the number of steps until the last running effect of a type ends.
+     *
+     * @param type The type of effect.
+     * @return The number of steps left, 0 if none are running.
+     */
+    public long getRemaining(EffectType type) {
+        long remaining = 0;
+        for (Effect effect : this.effects) {
+            if (effect.type == type) {
+                remaining = Math.max(remaining, effect.expiry - this.tick);
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * Get the number of effects running.
+     *
+     * @return The number of effects.
+     */
+    public int size() {
+        return this.effects.size();
+    }
+
+    /**
+     * Creates a json list of the running effects, with the steps each has left.
+     *
+     * @return A json string representing the effects.
+     */
+    public String save() {
+        Effect[] running = this.effects.toArray(new Effect[0]);
+        Arrays.sort(running);
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < running.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(String.format("{type:%s, amount:%f, ticks:%d}",
+                    running[i].type, running[i].amount, running[i].expiry - this.tick));
+        }
+        return builder.append(']').toString();
+    }
+
+    /**
+     * Replace the running effects with those from a save file.
+     *
+     * @param jsonString The json list of effects, as written by {@link #save()}.
+     */
+    public void load(JsonValue jsonString) {
+        this.clear();
+        for (JsonValue effect : jsonString) {
+            EffectType type = new Json().fromJson(EffectType.class, effect.getString("type"));
+            this.effects.add(new Effect(type, effect.getFloat("amount"), this.tick + effect.getLong("ticks"), this.added++));
+            this.totals[type.ordinal()] += effect.getFloat("amount");
+            this.counts[type.ordinal()]++;
+        }
+    }
+
+    /**
+     * Write the running effects to a binary save file, with the steps each has left.
+     *
+     * @param out The save to write to.
+     */
+    public void write(SaveWriter out) {
+        Effect[] running = this.effects.toArray(new Effect[0]);
+        Arrays.sort(running);
+        out.putVarInt(running.length);
+        for (Effect effect : running) {
+            out.putEnum(effect.type);
+            out.putFloat(effect.amount);
+            out.putVarLong(effect.expiry - this.tick);
+        }
+    }
+
+    /**
+     * Replace the running effects with those from a binary save file.
+     *
+     * @param in The save, at the start of the effects.
+     */
+    public void read(SaveReader in) {
+        this.clear();
+        int count = in.getVarInt();
+        for (int i = 0; i < count; i++) {
+            EffectType type = in.getEnum(EffectType.values());
+            float amount = in.getFloat();
+            this.effects.add(new Effect(type, amount, this.tick + in.getVarLong(), this.added++));
+            this.totals[type.ordinal()] += amount;
+            this.counts[type.ordinal()]++;
+        }
+    }
+
+    /**
+     * Take an effect that has been removed from the queue off the totals.
+     *
+     * @param effect The effect that has ended.
+     */
+    private void end(Effect effect) {
+        int type = effect.type.ordinal();
+        this.counts[type]--;
+        // Don't let rounding leave a little of the effect behind
+        this.totals[type] = this.counts[type] == 0 ? 0 : this.totals[type] - effect.amount;
+    }
+
+    /**
+     * A single running effect.
+     */
+    private static class Effect implements Comparable<Effect> {
+
+        /**
+         * The type of effect.
+         */
+        private final EffectType type;
+        /**
+         * How much the effect changes the boat by.
+         */
+        private final float amount;
+        /**
+         * The step the effect ends on.
+         */
+        private final long expiry;
+        /**
+         * The order the effect was added in.
+         */
+        private final long order;
+
+        /**
+         * Creates an effect.
+         *
+         * @param type   The type of effect.
+         * @param amount How much the effect changes the boat by.
+         * @param expiry The step the effect ends on.
+         * @param order  The order the effect was added in.
+         */
+        private Effect(EffectType type, float amount, long expiry, long order) {
+            this.type = type;
+            this.amount = amount;
+            this.expiry = expiry;
+            this.order = order;
+        }
+
+        /**
+         * Order effects by the step they end on, then by the order they were added in.
+         *
+         * @param other The effect to compare to.
+         * @return Negative if this effect ends first.
+         */
+        @Override
+        public int compareTo(Effect other) {
+            if (this.expiry != other.expiry) {
+                return this.expiry < other.expiry ? -1 : 1;
+            }
+            return this.order < other.order ? -1 : (this.order == other.order ? 0 : 1);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.dragonboatrace.game.entities;
+
+/**
+ * The kinds of timed effect a power up can have on a boat.
+ *
+ * @author Benji Garment
+ */
+public enum EffectType {
+
+    // Whether more pickups stack or refresh the one already running
+    NOCOLLIDE(false),
+    SPEED(true),
+    AGILITY(true);
+
+    /**
+     * Whether each pickup adds its own effect alongside any already running, or restarts the running one.
+     */
+    final boolean stacks;
+
+    /**
+     * Creates an effect type.
+     *
+     * @param stacks True if each pickup adds its own effect, false if a pickup restarts the running effect.
+     */
+    EffectType(boolean stacks) {
+        this.stacks = stacks;
+    }
+
+    /**
+     * Check if each pickup of the effect adds to any already running.
+     *
+     * @return True if the effect stacks, false if it refreshes.
+     */
+    public boolean stacks() {
+        return stacks;
+    }
+}
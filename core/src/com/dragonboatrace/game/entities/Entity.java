@@ -44,6 +44,26 @@ public abstract class Entity {
      * The hit box of the entity.
      */
     protected EntityHitbox hitbox;
+    /**
+     * The actual position at the start of the latest simulation step.
+     */
+    protected Vector2 prevPos;
+    /**
+     * The in-game position at the start of the latest simulation step.
+     */
+    protected Vector2 prevInGamePos;
+    /**
+     * The actual position to draw at, between the previous and current positions.
+     */
+    protected Vector2 renderPos;
+    /**
+     * The in-game position to draw relative to, between the previous and current in-game positions.
+     */
+    protected Vector2 renderInGamePos;
+    /**
+     * The engine entity made from the components of this entity, or null if it has not been raced.
+     */
+    private com.badlogic.ashley.core.Entity engineEntity;
 
     // THIS IS CHANGED
     /**
@@ -61,6 +81,10 @@ public abstract class Entity {
         this.size = size;
         this.weight = weight;
         this.hitbox = new EntityHitbox(this.inGamePos, this.size);
+        this.prevPos = new Vector2(pos);
+        this.prevInGamePos = new Vector2(pos);
+        this.renderPos = new Vector2(pos);
+        this.renderInGamePos = new Vector2(pos);
     }
 
     // THIS IS NEW
@@ -79,6 +103,10 @@ public abstract class Entity {
         this.size = size;
         this.weight = weight;
         this.hitbox = new EntityHitbox(this.inGamePos, this.size);
+        this.prevPos = new Vector2(pos);
+        this.prevInGamePos = new Vector2(pos);
+        this.renderPos = new Vector2(pos);
+        this.renderInGamePos = new Vector2(pos);
     }
 
     // THIS IS NEW
@@ -111,8 +139,8 @@ public abstract class Entity {
      */
     public void update(float deltaTime) {
         // Dampen velocity
-        float deltaX = this.vel.x * this.dampening / (deltaTime * 60);
-        float deltaY = this.vel.y * this.dampening / (deltaTime * 60);
+        float deltaX = this.vel.x * this.dampening * (deltaTime * 60);
+        float deltaY = this.vel.y * this.dampening * (deltaTime * 60);
 
         if (deltaX != 0) {
             this.pos.add(deltaX, 0);
@@ -129,6 +157,32 @@ public abstract class Entity {
         this.hitbox.setToPosition(this.inGamePos);
     }
 
+    /**
+     * Remember the current positions as the start of a new simulation step.
+     */
+    public void storePreviousPosition() {
+        this.prevPos.set(this.pos);
+        this.prevInGamePos.set(this.inGamePos);
+    }
+
+    /**
+     * Work out the positions to draw at, between the start and the end of the latest simulation step.
+     *
+     * @param alpha How far between the previous and the current step to draw, from 0 to 1.
+     */
+    public void interpolate(float alpha) {
+        this.renderPos.set(this.prevPos).lerp(this.pos, alpha);
+        this.renderInGamePos.set(this.prevInGamePos).lerp(this.inGamePos, alpha);
+    }
+
+    /**
+     * Stop interpolating from an old position, for when the entity has been moved rather than simulated.
+     */
+    public void resetInterpolation() {
+        this.storePreviousPosition();
+        this.interpolate(1);
+    }
+
     // THIS IS CHANGED
     /**
      * Check if an obstacle and an entity are colliding.
@@ -141,12 +195,12 @@ public abstract class Entity {
     }
 
     /**
-     * Adds the entity to the given spritebatch to be rendered.
+     * Adds the entity to the given spritebatch to be rendered. The batch must already have begun.
      *
      * @param batch The spritebatch to be added to.
      */
     public void render(SpriteBatch batch) {
-        this.render(batch, new Vector2());
+        this.render(batch, Vector2.Zero);
     }
 
     /**
@@ -156,7 +210,18 @@ public abstract class Entity {
      * @return The relative position to relPos.
      */
     public Vector2 getRelPos(Vector2 relPos) {
-        return new Vector2((this.pos.x), (this.pos.y - relPos.y));
+        return this.getRelPos(relPos, new Vector2());
+    }
+
+    /**
+     * Get the position of the entity relative to the y-coordinate of relPos, without allocating.
+     *
+     * @param relPos The position to be relative to.
+     * @param out    The vector to set to the relative position.
+     * @return The out vector, for chaining.
+     */
+    public Vector2 getRelPos(Vector2 relPos, Vector2 out) {
+        return out.set(this.pos.x, this.pos.y - relPos.y);
     }
 
     // THIS IS NEW
@@ -191,6 +256,15 @@ public abstract class Entity {
         return this.inGamePos;
     }
 
+    /**
+     * Get the in-game position to draw relative to this frame.
+     *
+     * @return A vector2d of the interpolated in-game position.
+     */
+    public Vector2 getRenderInGamePos() {
+        return this.renderInGamePos;
+    }
+
     /**
      * Gets the current velocity of the entity.
      *
@@ -200,6 +274,24 @@ public abstract class Entity {
         return this.vel;
     }
 
+    /**
+     * Get the actual position at the start of the latest simulation step.
+     *
+     * @return A vector2d of the previous actual position.
+     */
+    public Vector2 getPrevPos() {
+        return this.prevPos;
+    }
+
+    /**
+     * Get the actual position to draw at this frame.
+     *
+     * @return A vector2d of the interpolated actual position.
+     */
+    public Vector2 getRenderPos() {
+        return this.renderPos;
+    }
+
     /**
      * Get the actual position of the entity.
      *
@@ -227,6 +319,24 @@ public abstract class Entity {
         return weight;
     }
 
+    /**
+     * Get the engine entity made from the components of this entity.
+     *
+     * @return The engine entity, or null if the entity has not been raced.
+     */
+    public com.badlogic.ashley.core.Entity getEngineEntity() {
+        return this.engineEntity;
+    }
+
+    /**
+     * Set the engine entity made from the components of this entity.
+     *
+     * @param engineEntity The engine entity.
+     */
+    public void setEngineEntity(com.badlogic.ashley.core.Entity engineEntity) {
+        this.engineEntity = engineEntity;
+    }
+
     public abstract void render(SpriteBatch batch, Vector2 relPos);
 
     public abstract void move(float deltaTime);
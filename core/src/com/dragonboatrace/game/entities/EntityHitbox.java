@@ -26,7 +26,7 @@ public class EntityHitbox {
      * @param size The size of the hit box.
      */
     public EntityHitbox(Vector2 pos, Vector2 size) {
-        this.position = pos;
+        this.position = pos.cpy();
         this.size = size;
     }
 
@@ -36,7 +36,17 @@ public class EntityHitbox {
      * @param newPos The position to be set to.
      */
     public void setToPosition(Vector2 newPos) {
-        this.position = newPos.cpy();
+        this.position.set(newPos);
+    }
+
+    /**
+     * Set the hit box to a position.
+     *
+     * @param x The x-coordinate to be set to.
+     * @param y The y-coordinate to be set to.
+     */
+    public void setToPosition(float x, float y) {
+        this.position.set(x, y);
     }
 
     /**
@@ -48,6 +58,16 @@ public class EntityHitbox {
         this.position.add(addPos);
     }
 
+    /**
+     * Move the hit box relative to where it is currently.
+     *
+     * @param x The amount to move along the x-axis.
+     * @param y The amount to move along the y-axis.
+     */
+    public void movePosition(float x, float y) {
+        this.position.add(x, y);
+    }
+
     /**
      * Check if two hit boxes are colliding.
      *
@@ -55,7 +75,20 @@ public class EntityHitbox {
      * @return A boolean of if the hit boxes are colliding.
      */
     public boolean checkCollision(EntityHitbox otherEntity) {
-        return this.position.x + this.size.x > otherEntity.getPosition().x && this.position.x < otherEntity.getPosition().x + otherEntity.getSize().x && this.position.y < otherEntity.getPosition().y + otherEntity.getSize().y && this.position.y + this.size.y > otherEntity.getPosition().y;
+        return this.overlaps(otherEntity.getPosition().x, otherEntity.getPosition().y, otherEntity.getSize().x, otherEntity.getSize().y);
+    }
+
+    /**
+     * Check if the hit box overlaps a rectangle.
+     *
+     * @param x      The x-coordinate of the bottom left of the rectangle.
+     * @param y      The y-coordinate of the bottom left of the rectangle.
+     * @param width  The width of the rectangle.
+     * @param height The height of the rectangle.
+     * @return A boolean of if the hit box and the rectangle overlap.
+     */
+    public boolean overlaps(float x, float y, float width, float height) {
+        return this.position.x + this.size.x > x && this.position.x < x + width && this.position.y < y + height && this.position.y + this.size.y > y;
     }
 
     /**
@@ -1,12 +1,18 @@
 package com.dragonboatrace.game.entities;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
 import com.dragonboatrace.game.MovementCharacteristics;
+import com.dragonboatrace.game.SaveReader;
+import com.dragonboatrace.game.SaveWriter;
+import com.dragonboatrace.game.TextureCache;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Represents an obstacle.
@@ -14,6 +20,14 @@ import com.dragonboatrace.game.MovementCharacteristics;
  * @author Jacob Turner
  */
 public class Obstacle extends Entity {
+    /**
+     * The id to give the next obstacle created.
+     */
+    private static final AtomicInteger nextId = new AtomicInteger();
+    /**
+     * A number unique to this obstacle for as long as the game runs, used to track collisions with it.
+     */
+    private final int id;
     /**
      * The kind of obstacle, used as a template.
      */
@@ -25,11 +39,19 @@ public class Obstacle extends Entity {
     /**
      * The texture of the obstacle, used for rendering.
      */
-    protected Texture image;
+    protected TextureRegion image;
     /**
      * The characteristic that defines how the obstacle will move.
      */
     protected MovementCharacteristics mover;
+    /**
+     * The time until the obstacle next changes direction, if its characteristic wanders.
+     */
+    protected float wanderDelay;
+    /**
+     * The stream the obstacle turns with. Its own unseeded stream until it is given one by a lane.
+     */
+    protected Random random;
 
     /**
      * Creates a new obstacle of a specific type and at a position.
@@ -44,6 +66,8 @@ public class Obstacle extends Entity {
         this.constantVel = vel.cpy();
         this.obstacleType = obstacleType;
         this.mover = obstacleType.getMover();
+        this.id = nextId();
+        this.random = new RandomXS128();
     }
 
     // THIS IS NEW
@@ -60,6 +84,53 @@ public class Obstacle extends Entity {
         this.constantVel = new Vector2(jsonString.get("constantVel").getFloat("x"), jsonString.get("constantVel").getFloat("y"));
         this.obstacleType = new Json().fromJson(ObstacleType.class, jsonString.getString("type"));
         this.mover = obstacleType.getMover();
+        this.id = nextId();
+        this.random = new RandomXS128();
+    }
+
+    /**
+     * Creates a new obstacle from a binary save file.
+     *
+     * @param in The save, at the start of an obstacle.
+     */
+    public Obstacle(SaveReader in) {
+        this(in.getEnum(ObstacleType.values()), in);
+    }
+
+    /**
+     * Creates a new obstacle from a binary save file, once its type has been read.
+     *
+     * @param obstacleType The type of obstacle.
+     * @param in           The save, just after the type of the obstacle.
+     */
+    private Obstacle(ObstacleType obstacleType, SaveReader in) {
+        super(new Vector2(in.getFloat(), in.getFloat()), obstacleType.getSize(), obstacleType.getWeight());
+        this.vel = new Vector2(in.getFloat(), in.getFloat());
+        this.constantVel = new Vector2(in.getFloat(), in.getFloat());
+        this.wanderDelay = in.getFloat();
+        this.obstacleType = obstacleType;
+        this.mover = obstacleType.getMover();
+        this.id = nextId();
+        this.random = new RandomXS128();
+    }
+
+    /**
+     * Get the id of the obstacle. Ids are never reused, so an id can outlive its obstacle safely.
+     *
+     * @return The id of the obstacle.
+     */
+    public int getId() {
+        return this.id;
+    }
+
+    /**
+     * Reserve a new obstacle id, for obstacles that are stored without an obstacle object.
+     *
+     * @return An id that has not been given out before.
+     * @see com.dragonboatrace.game.ObstacleStore
+     */
+    public static int nextId() {
+        return nextId.getAndIncrement();
     }
 
     // THIS IS NEW
@@ -68,7 +139,9 @@ public class Obstacle extends Entity {
      */
     @Override
     public void loadTexture() {
-        this.image = new Texture(Gdx.files.local(this.obstacleType.imageSrc));
+        if (this.image == null) {
+            this.image = TextureCache.obtain(this.obstacleType, this.obstacleType.imageSrc);
+        }
     }
 
     // THIS IS NEW
@@ -89,6 +162,22 @@ public class Obstacle extends Entity {
         );
     }
 
+    /**
+     * Write the obstacle to a binary save file.
+     *
+     * @param out The save to write to.
+     */
+    public void write(SaveWriter out) {
+        out.putEnum(this.obstacleType);
+        out.putFloat(this.inGamePos.x);
+        out.putFloat(this.inGamePos.y);
+        out.putFloat(this.vel.x);
+        out.putFloat(this.vel.y);
+        out.putFloat(this.constantVel.x);
+        out.putFloat(this.constantVel.y);
+        out.putFloat(this.wanderDelay);
+    }
+
     // THIS IS NEW
     /**
      * Compares an object to an obstacle and determines if the object is an identical obstacle.
@@ -110,6 +199,24 @@ public class Obstacle extends Entity {
         }
     }
 
+    /**
+     * Set the stream the obstacle turns with, so that its movement can be repeated.
+     *
+     * @param random The stream to turn with.
+     */
+    public void setRandom(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * Set the width the obstacle is drawn at, without changing the size of its type.
+     *
+     * @param width The new width.
+     */
+    public void setWidth(float width) {
+        this.size = new Vector2(width, this.size.y);
+    }
+
     /**
      * Get the obstacles constant velocity.
      *
@@ -125,29 +232,30 @@ public class Obstacle extends Entity {
      * @param deltaTime The time since the previous frame.
      */
     public void move(float deltaTime) {
-        this.obstacleType.getMover().updateVel(deltaTime, this.constantVel);
-        this.vel = constantVel.cpy();
+        this.wanderDelay = this.obstacleType.getMover().updateVel(deltaTime, this.wanderDelay, this.constantVel, this.random);
+        this.vel.set(this.constantVel);
     }
 
     /**
-     * Add the obstacle's texture to the spritebatch given and draw it.
+     * Add the obstacle's texture to the spritebatch given. The batch must already have begun.
      *
      * @param batch  The SpriteBatch to be added to.
      * @param relPos The position to be rendered relative to.
      */
     public void render(SpriteBatch batch, Vector2 relPos) {
-        batch.begin();
         batch.draw(this.image,
-                (this.pos.x), (this.pos.y - relPos.y),
-                this.obstacleType.getSize().x, this.obstacleType.getSize().y);
-        batch.end();
+                (this.renderPos.x), (this.renderPos.y - relPos.y),
+                this.size.x, this.size.y);
     }
 
     /**
-     * Dispose the obstacle's texture.
+     * Release the obstacle's reference to the shared texture.
      */
     public void dispose() {
-        this.image.dispose();
+        if (this.image != null) {
+            TextureCache.release(this.obstacleType);
+            this.image = null;
+        }
     }
 
     /**
@@ -1,10 +1,11 @@
 package com.dragonboatrace.game.entities;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input.Keys;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.JsonValue;
+import com.dragonboatrace.game.PlayerInput;
+import com.dragonboatrace.game.SaveReader;
 import com.dragonboatrace.game.Tuple;
 
 /**
@@ -14,6 +15,11 @@ import com.dragonboatrace.game.Tuple;
  */
 public class PlayerBoat extends Boat {
 
+    /**
+     * Where the boat reads its controls from.
+     */
+    private PlayerInput input = PlayerInput.KEYBOARD;
+
     /**
      * Creates a new player boat of a specific type at an initial position and with lane bounds.
      *
@@ -36,6 +42,24 @@ public class PlayerBoat extends Boat {
         super(jsonString);
     }
 
+    /**
+     * Creates a boat from a binary save file.
+     *
+     * @param in The save, at the start of the boat.
+     */
+    public PlayerBoat(SaveReader in) {
+        super(in);
+    }
+
+    /**
+     * Set where the boat reads its controls from.
+     *
+     * @param input The controls, the keyboard by default.
+     */
+    public void setInput(PlayerInput input) {
+        this.input = input;
+    }
+
     /**
      * Get the input of the player to update the velocity, stamina and if any penalties need to be applied.
      *
@@ -45,24 +69,24 @@ public class PlayerBoat extends Boat {
     public void move(float deltaTime) {
         // The player can't move if they don't have stamina.
         if (this.currentStamina > 0 && this.currentHealth > 0) {
-            if (Gdx.input.isKeyPressed(Keys.LEFT)) {
-                this.vel.add(-(1 * this.boatType.getHandling() / (deltaTime * 60)), 0);
-                this.currentStamina -= 2 / (60 * deltaTime);
-            } else if (Gdx.input.isKeyPressed(Keys.RIGHT)) {
-                this.vel.add((1 * this.boatType.getHandling() / (deltaTime * 60)), 0);
-                this.currentStamina -= 2 / (60 * deltaTime);
+            if (this.input.isKeyPressed(Keys.LEFT)) {
+                this.vel.add(-(1 * this.currentHandling * (deltaTime * 60)), 0);
+                this.currentStamina -= 2 * (60 * deltaTime);
+            } else if (this.input.isKeyPressed(Keys.RIGHT)) {
+                this.vel.add((1 * this.currentHandling * (deltaTime * 60)), 0);
+                this.currentStamina -= 2 * (60 * deltaTime);
             }
-            if (Gdx.input.isKeyPressed(Keys.UP) && (this.vel.y < this.currentMaxSpeed) || (this.vel.y < 0)) {
-                this.vel.add(0, ((this.boatType.getAcceleration() / 100) / (deltaTime * 60)));
-                this.currentStamina -= 2 / (60 * deltaTime);
-            } else if (Gdx.input.isKeyPressed(Keys.DOWN) && (this.vel.y > 0) || this.vel.y > this.currentMaxSpeed) {
-                this.vel.add(0, -((this.boatType.getAcceleration() / 100) / (deltaTime * 60)));
-                this.currentStamina -= 2 / (60 * deltaTime);
+            if (this.input.isKeyPressed(Keys.UP) && (this.vel.y < this.currentMaxSpeed) || (this.vel.y < 0)) {
+                this.vel.add(0, ((this.boatType.getAcceleration() / 100) * (deltaTime * 60)));
+                this.currentStamina -= 2 * (60 * deltaTime);
+            } else if (this.input.isKeyPressed(Keys.DOWN) && (this.vel.y > 0) || this.vel.y > this.currentMaxSpeed) {
+                this.vel.add(0, -((this.boatType.getAcceleration() / 100) * (deltaTime * 60)));
+                this.currentStamina -= 2 * (60 * deltaTime);
             }
         }
         // Regain stamina.
         if (this.currentStamina < this.maxStamina) {
-            this.currentStamina += 1 / (60 * deltaTime);
+            this.currentStamina += 1 * (60 * deltaTime);
         }
         // Check if the boat is within the bounds and the time since the previous penalty is enough
         if (this.penaltyResetDelay <= 0) {
@@ -95,13 +119,13 @@ public class PlayerBoat extends Boat {
     }
 
     /**
-     * Adds the boats texture to a given SpriteBatch and renders it.
+     * Adds the boats texture to a given SpriteBatch. The batch must already have begun.
      *
      * @param batch  The spritebatch to be added to.
      * @param relPos The position to be drawn relative to.
      */
     public void render(SpriteBatch batch, Vector2 relPos) {
-        super.render(batch, new Vector2());
+        super.render(batch, Vector2.Zero);
     }
 
     /**
@@ -1,11 +1,16 @@
 package com.dragonboatrace.game.entities;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
-import com.badlogic.gdx.utils.Timer;
+import com.dragonboatrace.game.SaveReader;
+import com.dragonboatrace.game.SaveWriter;
+import com.dragonboatrace.game.TextureCache;
+
+import java.util.Random;
 
 // THIS WHOLE CLASS IS NEW
 /**
@@ -26,7 +31,15 @@ public class PowerUp extends Entity {
     /**
      * The texture of the power up.
      */
-    protected Texture image;
+    protected TextureRegion image;
+    /**
+     * The time until the power up next changes direction, if its characteristic wanders.
+     */
+    protected float wanderDelay;
+    /**
+     * The stream the power up turns with. Its own unseeded stream until it is given one by a lane.
+     */
+    protected Random random;
 
     /**
      * Creates a new power up given a power up type as a template, an initial position and an initial velocity.
@@ -36,10 +49,24 @@ public class PowerUp extends Entity {
      * @param velocity The initial velocity of the power up.
      */
     public PowerUp(PowerUpType type, Vector2 pos, Vector2 velocity) {
+        this(type, pos, velocity, new RandomXS128());
+    }
+
+    /**
+     * Creates a new power up given a power up type as a template, an initial position, an initial velocity and the
+     * stream it turns with.
+     *
+     * @param type     The power up type used as a template.
+     * @param pos      The initial position of the power up.
+     * @param velocity The initial velocity of the power up.
+     * @param random   The stream to turn with.
+     */
+    public PowerUp(PowerUpType type, Vector2 pos, Vector2 velocity, Random random) {
         super(pos, type.getSize(), type.getWeight());
         this.type = type;
         this.constantVel = velocity.cpy();
         this.vel = velocity;
+        this.random = random;
     }
 
     /**
@@ -54,6 +81,31 @@ public class PowerUp extends Entity {
         this.vel = new Vector2(jsonString.get("vel").getFloat("x"), jsonString.get("vel").getFloat("y"));
         this.constantVel = new Vector2(jsonString.get("constantVel").getFloat("x"), jsonString.get("constantVel").getFloat("y"));
         this.type = new Json().fromJson(PowerUpType.class, jsonString.getString("type"));
+        this.random = new RandomXS128();
+    }
+
+    /**
+     * Creates a new power up from a binary save file.
+     *
+     * @param in The save, at the start of a power up.
+     */
+    public PowerUp(SaveReader in) {
+        this(in.getEnum(PowerUpType.values()), in);
+    }
+
+    /**
+     * Creates a new power up from a binary save file, once its type has been read.
+     *
+     * @param type The power up type.
+     * @param in   The save, just after the type of the power up.
+     */
+    private PowerUp(PowerUpType type, SaveReader in) {
+        super(new Vector2(in.getFloat(), in.getFloat()), type.getSize(), type.getWeight());
+        this.vel = new Vector2(in.getFloat(), in.getFloat());
+        this.constantVel = new Vector2(in.getFloat(), in.getFloat());
+        this.wanderDelay = in.getFloat();
+        this.type = type;
+        this.random = new RandomXS128();
     }
 
     /**
@@ -61,7 +113,9 @@ public class PowerUp extends Entity {
      */
     @Override
     public void loadTexture() {
-        this.image = new Texture(this.type.imageSrc);
+        if (this.image == null) {
+            this.image = TextureCache.obtain(this.type, this.type.imageSrc);
+        }
     }
 
     /**
@@ -81,6 +135,22 @@ public class PowerUp extends Entity {
         );
     }
 
+    /**
+     * Write the power up to a binary save file.
+     *
+     * @param out The save to write to.
+     */
+    public void write(SaveWriter out) {
+        out.putEnum(this.type);
+        out.putFloat(this.inGamePos.x);
+        out.putFloat(this.inGamePos.y);
+        out.putFloat(this.vel.x);
+        out.putFloat(this.vel.y);
+        out.putFloat(this.constantVel.x);
+        out.putFloat(this.constantVel.y);
+        out.putFloat(this.wanderDelay);
+    }
+
     /**
      * Apply the effect of the power up to the boat given.
      *
@@ -125,6 +195,9 @@ public class PowerUp extends Entity {
     public float applySpeed(Boat boatAffected) {
         float velBefore = boatAffected.vel.y;
         boatAffected.increaseYVelocity(type.effect);
+        if (type.duration > 0) {
+            boatAffected.addEffect(EffectType.SPEED, type.effect, type.duration);
+        }
         return boatAffected.vel.y - velBefore;
     }
 
@@ -148,7 +221,7 @@ public class PowerUp extends Entity {
      */
     public float applyAgility(Boat boatAffected) {
         float handlingBefore = boatAffected.getCurrentHandling();
-        boatAffected.increaseHandling(type.effect);
+        boatAffected.addEffect(EffectType.AGILITY, type.effect, type.duration);
         return boatAffected.getCurrentHandling() - handlingBefore;
     }
 
@@ -182,17 +255,8 @@ public class PowerUp extends Entity {
      * @param timedBoat The boat being timed to removed the effect after the desired time.
      * @return A boolean of the status of the no collide of the boat affected.
      */
-    private boolean applyCollide(final Boat timedBoat) {
-        //TODO: Run this when the player loads the game
-        timedBoat.setNoCollide(true);
-        Timer.Task countDown = new Timer.Task() {
-            @Override
-            public void run() {
-                timedBoat.setNoCollide(false);
-            }
-        };
-        Timer timer = new Timer();
-        timer.scheduleTask(countDown, this.type.effect);
+    private boolean applyCollide(Boat timedBoat) {
+        timedBoat.addEffect(EffectType.NOCOLLIDE, 1, this.type.duration);
         return timedBoat.getNoCollide();
     }
 
@@ -226,22 +290,20 @@ public class PowerUp extends Entity {
      * @param deltaTime The time since the previous frame.
      */
     public void move(float deltaTime) {
-        this.type.getMover().updateVel(deltaTime, this.constantVel);
-        this.vel = constantVel.cpy();
+        this.wanderDelay = this.type.getMover().updateVel(deltaTime, this.wanderDelay, this.constantVel, this.random);
+        this.vel.set(this.constantVel);
     }
 
     /**
-     * Add the power up texture to the given SpriteBatch and render it.
+     * Add the power up texture to the given SpriteBatch. The batch must already have begun.
      *
      * @param batch  The SpriteBatch to be added to.
      * @param relPos The position to be rendered relative to.
      */
     public void render(SpriteBatch batch, Vector2 relPos) {
-        batch.begin();
         batch.draw(this.image,
-                (this.pos.x), (this.pos.y - relPos.y),
+                (this.renderPos.x), (this.renderPos.y - relPos.y),
                 this.type.getSize().x, this.type.getSize().y);
-        batch.end();
     }
 
     /**
@@ -280,14 +342,64 @@ public class PowerUp extends Entity {
      * @param newVel The new velocity to set the power up to.
      */
     public void setVel(Vector2 newVel) {
-        this.vel = newVel.cpy();
+        this.vel.set(newVel);
+    }
+
+    /**
+     * Start the power up again as if it had just been created with the same type, so a dropped power up can be
+     * reused rather than a new one made. The vectors are copied, not kept.
+     *
+     * @param pos      The new position of the power up.
+     * @param velocity The new velocity of the power up.
+     * @param random   The stream to turn with.
+     */
+    public void reset(Vector2 pos, Vector2 velocity, Random random) {
+        this.pos.set(pos);
+        this.inGamePos.set(pos);
+        this.vel.set(velocity);
+        this.acc.setZero();
+        this.constantVel.set(velocity);
+        this.wanderDelay = 0;
+        this.random = random;
+        this.hitbox.setToPosition(this.inGamePos);
+        this.resetInterpolation();
+    }
+
+    /**
+     * Check if the power up is holding a reference to its texture.
+     *
+     * @return True if the texture has been loaded and not yet given back.
+     */
+    public boolean hasTexture() {
+        return this.image != null;
     }
 
     /**
-     * Dispose the power up texture.
+     * Get the texture of the power up.
+     *
+     * @return The texture, or null if it has not been loaded.
+     */
+    public TextureRegion getImage() {
+        return this.image;
+    }
+
+    /**
+     * Set the stream the power up turns with, so that its movement can be repeated.
+     *
+     * @param random The stream to turn with.
+     */
+    public void setRandom(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * Release the power up's reference to the shared texture.
      */
     @Override
     public void dispose() {
-        this.image.dispose();
+        if (this.image != null) {
+            TextureCache.release(this.type);
+            this.image = null;
+        }
     }
 }
@@ -3,7 +3,7 @@ package com.dragonboatrace.game.entities;
 import com.badlogic.gdx.math.Vector2;
 import com.dragonboatrace.game.MovementCharacteristics;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Random;
 
 // THIS WHOLE CLASS IS NEW
 /**
@@ -13,21 +13,25 @@ import java.util.concurrent.ThreadLocalRandom;
  */
 public enum PowerUpType {
 
-    // Health to add, weight, speed of obstacle, size of obstacle, MovementCharacteristic, Path to image
-    HEALTH(5, 0, 0, new Vector2(40, 40), MovementCharacteristics.STATIC, "PowerUps/health.png"),
-    // Speed to add, weight, speed of obstacle, size of obstacle, MovementCharacteristic, Path to image
-    SPEED(20, 0, 4, new Vector2(30, 30), MovementCharacteristics.CONSTANT, "PowerUps/speed.png"),
-    // Stamina to add, weight, speed of obstacle, size of obstacle, MovementCharacteristic, Path to image
-    STAMINA(100, 0, 4, new Vector2(35, 35), MovementCharacteristics.CONSTANT, "PowerUps/stamina.png"),
-    // Milliseconds to take away, weight, speed of obstacle, size of obstacle, MovementCharacteristic, Path to image
-    TIMER(500, 0, 10, new Vector2(20, 20), MovementCharacteristics.CONSTANT, "PowerUps/timer.png"),
-    // Seconds spent invulnerable, weight, speed of obstacle, size of obstacle, MovementCharacteristic, Path to image
-    NOCOLLIDE(5, 0, 10, new Vector2(20, 20), MovementCharacteristics.CONSTANT, "PowerUps/nocollide.png"),
-    // Agility to add, weight, speed of obstacle, size of obstacle, MovementCharacteristic, Path to image
-    AGILITY(3, 0, 3, new Vector2(25, 25), MovementCharacteristics.CONSTANT, "PowerUps/agility.png"),
-    // Test Effect, weight, speed of obstacle, size of obstacle, MovementCharacteristic, Path to image
-    TESTING(3, 0, 3, new Vector2(25, 25), MovementCharacteristics.CONSTANT, "Testing");
+    // Health to add, seconds it lasts, weight, speed of obstacle, size of obstacle, MovementCharacteristic, Path to image
+    HEALTH(5, 0, 0, 0, new Vector2(40, 40), MovementCharacteristics.STATIC, "PowerUps/health.png"),
+    // Speed to add, no duration as the boost is instant, weight, speed of obstacle, size of obstacle, MovementCharacteristic, Path to image
+    SPEED(20, 0, 0, 4, new Vector2(30, 30), MovementCharacteristics.CONSTANT, "PowerUps/speed.png"),
+    // Stamina to add, seconds it lasts, weight, speed of obstacle, size of obstacle, MovementCharacteristic, Path to image
+    STAMINA(100, 0, 0, 4, new Vector2(35, 35), MovementCharacteristics.CONSTANT, "PowerUps/stamina.png"),
+    // Milliseconds to take away, seconds it lasts, weight, speed of obstacle, size of obstacle, MovementCharacteristic, Path to image
+    TIMER(500, 0, 0, 10, new Vector2(20, 20), MovementCharacteristics.CONSTANT, "PowerUps/timer.png"),
+    // No amount, seconds spent invulnerable, weight, speed of obstacle, size of obstacle, MovementCharacteristic, Path to image
+    NOCOLLIDE(0, 5, 0, 10, new Vector2(20, 20), MovementCharacteristics.CONSTANT, "PowerUps/nocollide.png"),
+    // Agility to add, no duration as it lasts the rest of the round, weight, speed of obstacle, size of obstacle, MovementCharacteristic, Path to image
+    AGILITY(3, 0, 0, 3, new Vector2(25, 25), MovementCharacteristics.CONSTANT, "PowerUps/agility.png"),
+    // Test Effect, seconds it lasts, weight, speed of obstacle, size of obstacle, MovementCharacteristic, Path to image
+    TESTING(3, 0, 0, 3, new Vector2(25, 25), MovementCharacteristics.CONSTANT, "Testing");
 
+    /**
+     * All the power up types, kept so that choosing one does not copy them each time.
+     */
+    private static final PowerUpType[] TYPES = values();
     /**
      * The size of the power up.
      */
@@ -48,6 +52,10 @@ public enum PowerUpType {
      * The amount of the desired effect.
      */
     float effect;
+    /**
+     * The number of seconds the effect lasts, 0 if it is applied once and never taken away.
+     */
+    float duration;
     /**
      * The path to the image.
      */
@@ -57,14 +65,16 @@ public enum PowerUpType {
      * Creates a power up template with a given effect, speed, size, and movement characteristics.
      *
      * @param effect    The amount of the desired effect.
+     * @param duration  The number of seconds the effect lasts, 0 if it is never taken away.
      * @param weight    The weight of the power up.
      * @param speed     The y-velocity of the power up.
      * @param size      The size of the power up.
      * @param mover     How the power up will move.
      * @param imagePath A string of the path to the image of the power up.
      */
-    PowerUpType(float effect, float weight, float speed, Vector2 size, MovementCharacteristics mover, String imagePath) {
+    PowerUpType(float effect, float duration, float weight, float speed, Vector2 size, MovementCharacteristics mover, String imagePath) {
         this.effect = effect;
+        this.duration = duration;
         this.weight = weight;
         this.speed = speed;
         this.size = size;
@@ -75,13 +85,13 @@ public enum PowerUpType {
     /**
      * Chooses a random type of Power Up Type.
      *
+     * @param random The stream to choose from.
      * @return A random {@link PowerUpType}
      */
-    public static PowerUpType chooseRandomType() {
+    public static PowerUpType chooseRandomType(Random random) {
         // -1 is so that the TESTING power-up is never chosen in a game.
-        int length = PowerUpType.values().length - 1;
-        int random = ThreadLocalRandom.current().nextInt(length);
-        return PowerUpType.values()[random];
+        int length = TYPES.length - 1;
+        return TYPES[random.nextInt(length)];
     }
 
     /**
@@ -137,4 +147,13 @@ public enum PowerUpType {
     public float getEffect() {
         return effect;
     }
+
+    /**
+     * Get the number of seconds the effect lasts.
+     *
+     * @return A float of the length of the effect, 0 if it is never taken away.
+     */
+    public float getDuration() {
+        return duration;
+    }
 }
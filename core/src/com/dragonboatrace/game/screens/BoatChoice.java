@@ -5,19 +5,20 @@ import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.dragonboatrace.game.DragonBoatRace;
+import com.dragonboatrace.game.FontRegistry;
 import com.dragonboatrace.game.Lane;
-import com.dragonboatrace.game.Tuple;
+import com.dragonboatrace.game.RaceSeed;
+import com.dragonboatrace.game.RaceSimulation;
+import com.dragonboatrace.game.SaveReader;
 import com.dragonboatrace.game.entities.Boat;
 import com.dragonboatrace.game.entities.BoatType;
-import com.dragonboatrace.game.entities.CPUBoat;
 import com.dragonboatrace.game.entities.PlayerBoat;
 
 import java.util.ArrayList;
@@ -56,9 +57,9 @@ public class BoatChoice extends ScreenAdapter {
      */
     BitmapFont font;
     /**
-     * The background texture.
+     * The background image.
      */
-    Texture background;
+    MenuBackground background;
 
     /**
      * Creates a new screen for the boat choice of the user.
@@ -70,7 +71,7 @@ public class BoatChoice extends ScreenAdapter {
         this.selection = 0;
         this.boatScale = 7;
         this.BoatTypes = availableBoats(null);
-        this.background = new Texture("menus/boatSelection.png");
+        this.background = new MenuBackground("menus/boatSelection.png");
         this.game.toDispose.add(this);
 
         // Initialise the list of boats to display as options to the user.
@@ -89,12 +90,8 @@ public class BoatChoice extends ScreenAdapter {
             this.boats[i].loadTexture();
         }
 
-        // Initialise the font.
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("fonts/FreeMono.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size *= 3;
-        parameter.color = Color.BLACK;
-        this.font = generator.generateFont(parameter);
+        // Get the shared font.
+        this.font = game.fonts.get(48, FontRegistry.Style.DARK);
     }
 
     // THIS IS NEW
@@ -117,55 +114,24 @@ public class BoatChoice extends ScreenAdapter {
         // The number of lanes.
         int laneCount = 7;
 
-        // Make n-1 cpu boats as one lane is for the player.
-        CPUBoat[] CPUs = new CPUBoat[laneCount - 1];
-        ArrayList<BoatType> cpuBoatTypes = availableBoats(BoatTypes.get(selection));
-        // Width of each lane.
-        float laneWidth = Gdx.graphics.getWidth() / (float) laneCount;
-
-        for (int i = 0; i < laneCount - 1; i++) {
-            int xpos = i;
-            // Don't choose the middle lane.
-            if (i >= (laneCount - 1) / 2) {
-                xpos += 1;
-            }
+        // Every random choice in the race comes from this seed
+        RaceSeed seed = RaceSeed.create();
+        RandomXS128 boatRandom = seed.stream(0, -1, RaceSeed.BOATS);
 
-            // Choose a random boat type for a given cpu boat.
-            BoatType cpuBoatType = cpuBoatTypes.get((int) (Math.random() * cpuBoatTypes.size()));
-            CPUs[i] = new CPUBoat(
-                    cpuBoatType,
-                    new Vector2(
-                            (int) (0.5 + xpos) * (Gdx.graphics.getWidth() / (float) laneCount),
-                            10
-                    ),
-                    new Tuple<>(
-                            (xpos + 0) * laneWidth,
-                            (xpos + 1) * laneWidth
-                    )
-            );
-            CPUs[i].loadTexture();
+        // Choose a random boat type for each cpu boat, as one lane is for the player.
+        BoatType[] cpuTypes = new BoatType[laneCount - 1];
+        ArrayList<BoatType> cpuBoatTypes = availableBoats(BoatTypes.get(selection));
+        for (int i = 0; i < cpuTypes.length; i++) {
+            cpuTypes[i] = cpuBoatTypes.get(boatRandom.nextInt(cpuBoatTypes.size()));
         }
 
-        // Make the player's boat
-        PlayerBoat pb = new PlayerBoat(
-                BoatTypes.get(selection),
-                new Vector2(
-                        Gdx.graphics.getWidth() / 2f,
-                        10
-                ), new Tuple<>(
-                ((laneCount - 1) / 2) * laneWidth,
-                ((laneCount + 1) / 2) * laneWidth
-        )
-        );
-        pb.loadTexture();
-
-        // Make the lanes for the boats.
-        // Order here doesn't matter as the position of the lane is defined separately
-        Lane[] lanes = new Lane[laneCount];
-        for (int i = 0; i < laneCount - 1; i++) {
-            lanes[i] = new Lane(CPUs[i], pb);
+        // Make the lanes for the boats, the same way as a race run without a window
+        Lane[] lanes = RaceSimulation.createLanes(BoatTypes.get(selection), cpuTypes, seed,
+                Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        for (Lane lane : lanes) {
+            lane.loadTexture();
         }
-        lanes[laneCount - 1] = new Lane(pb, pb);
+        PlayerBoat pb = (PlayerBoat) lanes[laneCount - 1].getBoat();
 
         game.setScreen(new GameScreen(game, 0, lanes, pb, difficulty));
     }
@@ -176,6 +142,7 @@ public class BoatChoice extends ScreenAdapter {
      */
     @Override
     public void show() {
+        this.background.load();
         Gdx.input.setInputProcessor(new InputAdapter() {
             @Override
             public boolean keyDown(int keyCode) {
@@ -217,9 +184,23 @@ public class BoatChoice extends ScreenAdapter {
         // Offset is the start F key - 1 as they are indexed from 1
         int keyCodeOffset = Input.Keys.F1 - 1;
         int fileNum = keyCode - keyCodeOffset;
+        // Load the binary save if there is one, otherwise or if it cannot be read fall back to a json save
+        FileHandle save = Gdx.files.local("bin/save" + fileNum + ".sav");
+        if (save.exists()) {
+            try {
+                game.setScreen(new GameScreen(game, new SaveReader(save.readBytes())));
+                return;
+            } catch (GdxRuntimeException e) {
+                Gdx.app.error("BoatChoice", "Could not load " + save.path(), e);
+            }
+        }
         // Catch if no such save file
         try {
             FileHandle file = Gdx.files.local("bin/save" + fileNum + ".json");
+            if (!file.exists()) {
+                System.out.println("No Such file");
+                return;
+            }
             JsonValue jsonString = new JsonReader().parse(file);
             game.setScreen(new GameScreen(game, jsonString));
         } catch (NullPointerException e) {
@@ -235,13 +216,10 @@ public class BoatChoice extends ScreenAdapter {
     @Override
     public void render(float deltaTime) {
         game.batch.begin();
-        game.batch.draw(this.background, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-
-        game.batch.end();
+        this.background.draw(game.batch);
 
         this.boats[this.selection].render(game.batch);
 
-        game.batch.begin();
         // Render the boat information for the currently selected boat.
         this.font.draw(game.batch,
                 String.format("Current Selection: %s BOAT",
@@ -293,13 +271,16 @@ public class BoatChoice extends ScreenAdapter {
     public void hide() {
         //Removed the input processor
         Gdx.input.setInputProcessor(null);
+        this.background.dispose();
     }
 
     /**
-     * Dispose the screen's background and font.
+     * Dispose the screen's background and the preview boats' textures.
      */
     public void dispose() {
         this.background.dispose();
-        this.font.dispose();
+        for (Boat boat : this.boats) {
+            boat.dispose();
+        }
     }
 }
@@ -4,7 +4,6 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.ScreenAdapter;
-import com.badlogic.gdx.graphics.Texture;
 import com.dragonboatrace.game.DragonBoatRace;
 
 /**
@@ -18,6 +17,10 @@ public class BoatDeathScreen extends ScreenAdapter {
      * The instance of the DragonBoatRace.
      */
     DragonBoatRace game;
+    /**
+     * The image shown behind the text.
+     */
+    MenuBackground background;
 
     /**
      * Creates a new screen to display.
@@ -26,6 +29,7 @@ public class BoatDeathScreen extends ScreenAdapter {
      */
     public BoatDeathScreen(DragonBoatRace game) {
         this.game = game;
+        this.background = new MenuBackground("menus/boat broke.png");
     }
 
     /**
@@ -33,6 +37,7 @@ public class BoatDeathScreen extends ScreenAdapter {
      */
     @Override
     public void show() {
+        this.background.load();
         Gdx.input.setInputProcessor(new InputAdapter() {
             @Override
             public boolean keyDown(int keyCode) {
@@ -53,8 +58,17 @@ public class BoatDeathScreen extends ScreenAdapter {
     @Override
     public void render(float deltaTime) {
         game.batch.begin();
-        game.batch.draw(new Texture("menus/boat broke.png"), 0, 0);
+        this.background.draw(game.batch);
         game.font.draw(game.batch, "Press SPACE to restart :(", Gdx.graphics.getWidth() * .1f, Gdx.graphics.getHeight() * .5f);
         game.batch.end();
     }
+
+    /**
+     * Hide the screen.
+     */
+    @Override
+    public void hide() {
+        Gdx.input.setInputProcessor(null);
+        this.background.dispose();
+    }
 }
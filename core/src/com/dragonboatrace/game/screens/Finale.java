@@ -5,9 +5,9 @@ import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
 import com.dragonboatrace.game.DragonBoatRace;
 import com.dragonboatrace.game.Lane;
+import com.dragonboatrace.game.RoundFinisher;
 import com.dragonboatrace.game.entities.PlayerBoat;
 
 /**
@@ -30,22 +30,58 @@ public class Finale extends ScreenAdapter {
      */
     PlayerBoat pb;
     /**
-     * The race positions of all the boats.
+     * The race positions of all the boats, null until every boat has finished the round.
      */
     int[] playerPositions;
+    /**
+     * Finishes the final round for the cpu boats that hadn't crossed the line when the player did, null if every
+     * boat already has a time.
+     */
+    RoundFinisher finisher;
+    /**
+     * The image shown behind the results, which depends on if the player won a medal, null until the positions
+     * are known.
+     */
+    MenuBackground background;
 
     /**
-     * Creates a new screen to display.
+     * Creates a new screen to display once every boat has a time.
      *
      * @param game  The instance of the DragonBoatRace.
      * @param lanes The array of lanes of the boats.
      * @param pb    The instance of the player boat.
      */
     public Finale(DragonBoatRace game, Lane[] lanes, PlayerBoat pb) {
+        this(game, lanes, pb, null);
+    }
+
+    /**
+     * Creates a new screen to display straight after the final round, which waits for the cpu boats still racing.
+     *
+     * @param game     The instance of the DragonBoatRace.
+     * @param lanes    The array of lanes of the boats.
+     * @param pb       The instance of the player boat.
+     * @param finisher Finishes the round for the cpu boats still racing, the lanes are left alone until it has.
+     */
+    public Finale(DragonBoatRace game, Lane[] lanes, PlayerBoat pb, RoundFinisher finisher) {
         this.game = game;
         this.lanes = lanes;
         this.pb = pb;
-        this.playerPositions = getPlayerPositions();
+        this.finisher = finisher;
+        this.updatePositions();
+    }
+
+    /**
+     * Work out the positions and choose the background as soon as every boat has a time.
+     *
+     * @return True if the positions are known.
+     */
+    boolean updatePositions() {
+        if (this.playerPositions == null && (this.finisher == null || this.finisher.isReady())) {
+            this.playerPositions = getPlayerPositions();
+            this.background = new MenuBackground(playerPositions[1] > 3 ? "menus/didnt quailfy.png" : "menus/victory.png");
+        }
+        return this.playerPositions != null;
     }
 
     /**
@@ -53,11 +89,15 @@ public class Finale extends ScreenAdapter {
      */
     @Override
     public void show() {
+        if (this.background != null) {
+            this.background.load();
+        }
         Gdx.input.setInputProcessor(new InputAdapter() {
             @Override
             public boolean keyDown(int keyCode) {
                 // User options for when the game ends
-                if (keyCode == Input.Keys.SPACE) {
+                // The race can't be left while the cpu boats are still being raced
+                if (keyCode == Input.Keys.SPACE && playerPositions != null) {
                     // To go again
                     game.setScreen(new TitleScreen(game));
                 }
@@ -80,12 +120,21 @@ public class Finale extends ScreenAdapter {
     public void render(float deltaTime) {
         Gdx.gl.glClearColor(0, 0, 1, 0);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        if (this.background == null && this.updatePositions()) {
+            this.background.load();
+        }
+
         game.batch.begin();
+        if (playerPositions == null) {
+            game.font.draw(game.batch, "You took " + pb.getFinishTimeString() + ", waiting for the other boats to finish...", Gdx.graphics.getWidth() * .1f, Gdx.graphics.getHeight() * .5f);
+            game.batch.end();
+            return;
+        }
+        this.background.draw(game.batch);
         if (playerPositions[1] > 3) {
-            game.batch.draw(new Texture("menus/didnt qualify.png"), 0, 0);
             game.font.draw(game.batch, "You didn't win a medal :(", Gdx.graphics.getWidth() * .1f, Gdx.graphics.getHeight() * .4f);
         } else {
-            game.batch.draw(new Texture("menus/victory.png"), 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
             String medal = getPlayerMedal(playerPositions[1]);
             String text = "Congratulations you won a " + medal + " medal!";
             game.font.draw(game.batch, text, Gdx.graphics.getWidth() * .1f, Gdx.graphics.getHeight() * .4f);
@@ -142,6 +191,9 @@ public class Finale extends ScreenAdapter {
     @Override
     public void hide() {
         Gdx.input.setInputProcessor(null);
+        if (this.background != null) {
+            this.background.dispose();
+        }
     }
 
 }
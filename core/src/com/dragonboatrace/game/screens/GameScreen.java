@@ -1,26 +1,33 @@
 package com.dragonboatrace.game.screens;
 
+import com.badlogic.gdx.Application;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
 import com.dragonboatrace.game.Background;
 import com.dragonboatrace.game.DragonBoatRace;
+import com.dragonboatrace.game.FixedTimestep;
+import com.dragonboatrace.game.FontRegistry;
 import com.dragonboatrace.game.Lane;
 import com.dragonboatrace.game.LaneMarker;
+import com.dragonboatrace.game.RaceSeed;
+import com.dragonboatrace.game.RaceSimulation;
+import com.dragonboatrace.game.RoundFinisher;
+import com.dragonboatrace.game.SaveReader;
+import com.dragonboatrace.game.SaveTask;
+import com.dragonboatrace.game.SaveWriter;
 import com.dragonboatrace.game.entities.Obstacle;
 import com.dragonboatrace.game.entities.ObstacleType;
 import com.dragonboatrace.game.entities.PlayerBoat;
+import com.dragonboatrace.game.systems.RaceEngine;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -32,6 +39,11 @@ import java.util.Arrays;
  */
 public class GameScreen extends ScreenAdapter {
 
+    /**
+     * How long in seconds to show the result of a save for once it has finished.
+     */
+    private static final float SAVED_MESSAGE_SECONDS = 2;
+
     /**
      * The instance of the DragonBoatRace.
      */
@@ -61,9 +73,9 @@ public class GameScreen extends ScreenAdapter {
      */
     LaneMarker[] laneMarkers;
     /**
-     * The array of available backgrounds to display.
+     * The scrolling background behind the lanes.
      */
-    Background[] backgrounds; //TODO: Check this.
+    Background background;
     /**
      * The array of the lanes that are in the game.
      */
@@ -72,10 +84,6 @@ public class GameScreen extends ScreenAdapter {
      * The number of lanes, including the player lane.
      */
     int laneCount;
-    /**
-     * The time at which the race started. Used to calculate the time it took for each boat.
-     */
-    long raceStartTime;
     /**
      * The difficulty of the race chosen by the player.
      */
@@ -84,6 +92,34 @@ public class GameScreen extends ScreenAdapter {
      * The multiplier that increases the number of obstacles for a given difficulty.
      */
     float obstacleMultiplier;
+    /**
+     * The bars showing the player's distance, health, stamina and speed.
+     */
+    Hud hud;
+    /**
+     * The values shown on the HUD this frame.
+     */
+    HudData hudData;
+    /**
+     * Splits the time between frames into fixed simulation steps.
+     */
+    FixedTimestep timestep;
+    /**
+     * Runs the systems that make up a simulation step, moving the lanes then colliding the boats.
+     */
+    RaceEngine engine;
+    /**
+     * The number of steps run since the system times were last logged.
+     */
+    int stepsSinceProfile;
+    /**
+     * The save most recently started, or null if the game hasn't been saved yet.
+     */
+    SaveTask saving;
+    /**
+     * How long in seconds the result of the last save has been shown for.
+     */
+    float savedMessageTime;
 
     /**
      * Creates a new screen.
@@ -101,6 +137,7 @@ public class GameScreen extends ScreenAdapter {
         this.difficulty = difficulty;
         this.game.toDispose.add(this);
         this.finishLineObstacle = new Obstacle(ObstacleType.FINISHLINE, new Vector2(0, 0), new Vector2(0, 0));
+        this.finishLineObstacle.setWidth(Gdx.graphics.getWidth());
         this.finishLineObstacle.loadTexture();
         this.round = round;
         this.obstacleMultiplier = 1;
@@ -116,34 +153,71 @@ public class GameScreen extends ScreenAdapter {
      */
     public GameScreen(DragonBoatRace game, JsonValue jsonString) {
         this.game = game;
-        this.round = jsonString.getInt("round");
-        this.difficulty = jsonString.getInt("difficulty");
-        this.obstacleMultiplier = 1;
-        this.game.toDispose.add(this);
-        this.finishLineObstacle = new Obstacle(ObstacleType.FINISHLINE, new Vector2(0, 0), new Vector2(0, 0));
-        this.finishLineObstacle.loadTexture();
-
         // Create a temporary list of lanes to be dynamically loaded in.
         ArrayList<Lane> tempLanes = new ArrayList<>();
         // Each lane has a json string an just needs to be loaded in.
         for (JsonValue lane : jsonString.get("lanes")) {
             // Each lane is able to create the boat, obstacles and its position from the string.
-            Lane tempLane = new Lane(lane);
-            tempLanes.add(tempLane);
-            // Find which one is the player's lane
-            if (tempLane.isPlayerLane) {
-                this.pb = (PlayerBoat) tempLane.getBoat();
-            }
+            tempLanes.add(new Lane(lane));
         }
         // Convert to a static length array
-        this.lanes = tempLanes.toArray(new Lane[0]);
+        this.restore(jsonString.getInt("round"), jsonString.getInt("difficulty"), tempLanes.toArray(new Lane[0]),
+                jsonString.getLong("ticks", 0));
+    }
+
+    /**
+     * Creates a new screen from a binary save file.
+     *
+     * @param game The instance of the DragonBoatRace.
+     * @param in   The save file, just after its header.
+     * @throws GdxRuntimeException If the save is cut short or has anything left over.
+     */
+    public GameScreen(DragonBoatRace game, SaveReader in) {
+        this.game = game;
+        int savedRound = in.getVarInt();
+        int savedDifficulty = in.getVarInt();
+        long ticks = in.getVarLong();
+        Lane[] savedLanes = new Lane[in.getVarInt()];
+        for (int i = 0; i < savedLanes.length; i++) {
+            savedLanes[i] = new Lane(in);
+        }
+        in.finish();
+        this.restore(savedRound, savedDifficulty, savedLanes, ticks);
+    }
+
+    /**
+     * Set up the screen with the lanes loaded from a save file.
+     *
+     * @param savedRound      The round the game was saved in.
+     * @param savedDifficulty The difficulty chosen by the player.
+     * @param savedLanes      The lanes loaded from the save, which have no player boat set yet.
+     * @param ticks           The number of steps the round had been running for.
+     */
+    private void restore(int savedRound, int savedDifficulty, Lane[] savedLanes, long ticks) {
+        this.round = savedRound;
+        this.difficulty = savedDifficulty;
+        this.obstacleMultiplier = 1;
+        this.game.toDispose.add(this);
+        this.finishLineObstacle = new Obstacle(ObstacleType.FINISHLINE, new Vector2(0, 0), new Vector2(0, 0));
+        this.finishLineObstacle.setWidth(Gdx.graphics.getWidth());
+        this.finishLineObstacle.loadTexture();
+
+        this.lanes = savedLanes;
+        // Find which one is the player's lane
+        for (Lane lane : this.lanes) {
+            if (lane.isPlayerLane) {
+                this.pb = (PlayerBoat) lane.getBoat();
+            }
+        }
 
         // Set the player boat for all the lanes.
-        for (Lane lane : lanes) {
+        for (Lane lane : this.lanes) {
             lane.setPb(this.pb);
             lane.loadTexture();
         }
         this.create(this.round);
+        // Carry on timing the round from where it was saved
+        this.engine.getClock().setTicks(ticks);
     }
 
     // THIS IS CHANGED
@@ -162,21 +236,63 @@ public class GameScreen extends ScreenAdapter {
                 if (keyCode == Input.Keys.F1 || keyCode == Input.Keys.F2 || keyCode == Input.Keys.F3) {
                     // 243 is keycode of F1 - 1
                     makeSave(keyCode - 243);
-                    Gdx.app.exit();
                 }
                 return true;
             }
         });
     }
 
-    // THIS IS NEW
+    // THIS IS CHANGED
     /**
-     * Save the current game state to a file.
+     * Save the current game state to a file. A json copy is also saved when debug logging is on.
+     * <p>Only the state of the game is captured here, the file is written on the save worker while the race
+     * carries on.</p>
      *
      * @param saveSlot The slot to save in.
      */
     public void makeSave(int saveSlot) {
-        FileHandle file = Gdx.files.local("bin/save" + saveSlot + ".json");
+        String json = null;
+        if (Gdx.app.getLogLevel() >= Application.LOG_DEBUG) {
+            json = this.captureJson();
+        }
+        this.saving = new SaveTask(game.saveWorker, saveSlot, this.writeSave(),
+                Gdx.files.local("bin/save" + saveSlot + ".sav").file(), json,
+                Gdx.files.local("bin/save" + saveSlot + ".json").file());
+        this.savedMessageTime = 0;
+    }
+
+    /**
+     * Write the current game state in the binary save format.
+     *
+     * @return The bytes of the save file.
+     */
+    public byte[] writeSave() {
+        SaveWriter out = new SaveWriter();
+        out.putVarInt(this.round);
+        out.putVarInt(this.difficulty);
+        out.putVarLong(this.engine.getClock().getTicks());
+        out.putVarInt(this.lanes.length);
+        for (Lane lane : this.lanes) {
+            lane.write(out);
+        }
+        return out.toBytes();
+    }
+
+    /**
+     * Save the current game state to a json file, which is easier to read when debugging than the binary save.
+     *
+     * @param saveSlot The slot to save in.
+     */
+    public void exportJson(int saveSlot) {
+        saveJSONString(this.captureJson(), Gdx.files.local("bin/save" + saveSlot + ".json"));
+    }
+
+    /**
+     * Get the current game state as a json string.
+     *
+     * @return The json string of the game state.
+     */
+    public String captureJson() {
         String[] laneStrings = new String[this.lanes.length];
 
         // Convert each lane to a string containing the boat and obstacles.
@@ -185,13 +301,12 @@ public class GameScreen extends ScreenAdapter {
         }
 
         // Format the total string with all the lanes and include the elected difficulty and current round
-        String saveString = String.format("{round:%d, difficulty:%d, lanes:%s}",
+        return String.format("{round:%d, difficulty:%d, ticks:%d, lanes:%s}",
                 this.round,
                 this.difficulty,
+                this.engine.getClock().getTicks(),
                 Arrays.toString(laneStrings)
         );
-
-        saveJSONString(saveString, file);
     }
 
     // THIS IS NEW
@@ -221,17 +336,7 @@ public class GameScreen extends ScreenAdapter {
      * @return A float that multiplies the number of obstacles.
      */
     public static float getObstacleMultiplier(int difficulty) {
-        // Given the difficulty choose a multiplier
-        switch (difficulty) {
-            case 1:
-                return 0.5f;
-            case 2:
-                return 1f;
-            case 3:
-                return 2f;
-            default:
-                return 0f;
-        }
+        return RaceSimulation.getObstacleMultiplier(difficulty);
     }
 
     // THIS IS CHANGED
@@ -244,8 +349,6 @@ public class GameScreen extends ScreenAdapter {
 
         this.obstacleMultiplier = getObstacleMultiplier(difficulty);
 
-        raceStartTime = System.currentTimeMillis();
-
         // Setup the lanes
         laneCount = 7;
         laneMarkers = new LaneMarker[laneCount + 1];
@@ -254,45 +357,36 @@ public class GameScreen extends ScreenAdapter {
             laneMarkers[i] = new LaneMarker(new Vector2(i * laneWidth, 0));
         }
 
-        // Setup the backgrounds
-        int backgroundCount = 5;
-        backgrounds = new Background[backgroundCount];
-        for (int i = 0; i < backgroundCount; i++) {
-            backgrounds[i] = new Background(new Vector2(Gdx.graphics.getWidth() / 2f, i * 1080));
-        }
+        // Setup the background, its images are shared between rounds
+        background = new Background(game.backgroundPool, Gdx.graphics.getWidth(), Gdx.graphics.getHeight(),
+                lanes[0].getSeed().stream(this.round, -1, RaceSeed.SCENERY));
 
         // Update each of the lanes with the new multiplier and round number
         for (Lane lane : lanes) {
+            lane.setViewSize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
             lane.updateRound(this.round, this.obstacleMultiplier);
         }
 
         // Each round has a different length
-        switch (round) {
-            case 0:
-                finishLine = 10000;
-                break;
-            case 1:
-                finishLine = 12000;
-                break;
-            case 2:
-                finishLine = 14000;
-                break;
-            case 3:
-                finishLine = 15000;
-                break;
-            default:
-                finishLine = 500;
-                break;
-        }
+        finishLine = RaceSimulation.getFinishLine(round);
+
+        // Get the shared font
+        this.font = game.fonts.get(24, FontRegistry.Style.BORDERED);
+
+        this.hud = new Hud(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        this.hudData = new HudData();
 
-        // Initialise the font
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("fonts/FreeMono.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 24;
-        parameter.color = Color.WHITE;
-        parameter.borderColor = Color.BLACK;
-        parameter.borderWidth = 1;
-        this.font = generator.generateFont(parameter);
+        // The finish line never moves, so it is drawn where it is
+        this.finishLineObstacle.getPos().y = finishLine;
+        this.finishLineObstacle.resetInterpolation();
+
+        // Start the race with no time owed and nothing to interpolate from
+        this.timestep = new FixedTimestep();
+        this.engine = new RaceEngine(lanes, game.laneUpdater);
+        for (Lane lane : lanes) {
+            lane.storePreviousPositions();
+            lane.interpolate(1);
+        }
     }
 
     // THIS IS CHANGED
@@ -305,68 +399,112 @@ public class GameScreen extends ScreenAdapter {
         Gdx.gl.glClearColor(0, 0, 1, 0);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        // Render the backgrounds
-        for (Background b : backgrounds) {
-            b.render(game.batch, pb.getInGamePos());
+        // Run the simulation in fixed steps, stopping if a step moved the game to another screen
+        int steps = this.timestep.advance(deltaTime);
+        for (int i = 0; i < steps && game.getScreen() == this; i++) {
+            this.tick(this.timestep.getStep());
+        }
+        if (game.getScreen() != this) {
+            return;
         }
 
-        // Render the lane markers
+        // Draw everything part of the way between the last two steps
+        float alpha = this.timestep.getAlpha();
+        for (Lane lane : lanes) {
+            lane.interpolate(alpha);
+            lane.prepareSprites();
+        }
+
+        // Draw the whole race field in one batch, back to front
+        Vector2 relPos = pb.getRenderInGamePos();
+        game.batch.begin();
+        background.render(game.batch, relPos);
         for (LaneMarker l : laneMarkers) {
-            l.render(game.batch, pb.getInGamePos());
+            l.render(game.batch, relPos);
         }
+        this.engine.render(game.batch, relPos.y, Gdx.graphics.getHeight());
+        finishLineObstacle.render(game.batch, relPos);
+        game.batch.end();
 
-        // Render each lane, which contains the boats and the obstacles
-        for (Lane lane : lanes) {
-            lane.render(game.batch);
-            lane.update(deltaTime);
+        this.showHUD();
+        this.showSaveStatus(deltaTime);
+    }
+
+    /**
+     * Show how the last save is getting on, and whether it worked once it has finished.
+     *
+     * @param deltaTime The time since the previous frame.
+     */
+    private void showSaveStatus(float deltaTime) {
+        if (this.saving == null) {
+            return;
+        }
+        String message;
+        if (!this.saving.isDone()) {
+            message = "Saving to slot " + this.saving.getSlot() + "...";
+        } else if (this.savedMessageTime < SAVED_MESSAGE_SECONDS) {
+            this.savedMessageTime += deltaTime;
+            message = this.saving.isSaved() ? "Saved to slot " + this.saving.getSlot()
+                    : "Could not save to slot " + this.saving.getSlot();
+        } else {
+            return;
+        }
+        game.batch.begin();
+        game.font.draw(game.batch, message, Gdx.graphics.getWidth() * .8f, Gdx.graphics.getHeight() * .98f);
+        game.batch.end();
+    }
+
+    /**
+     * Run a single fixed step of the race simulation.
+     *
+     * @param step The length of the step in seconds.
+     */
+    private void tick(float step) {
+        // Move everything in the lanes, then collide the boats with the obstacles near them
+        this.engine.update(step);
+
+        // Log how long each system takes every ten seconds of racing, if debug logging is on
+        if (++this.stepsSinceProfile >= 600) {
+            if (Gdx.app.getLogLevel() >= Application.LOG_DEBUG) {
+                Gdx.app.debug("RaceEngine", "\n" + this.engine.profile());
+            }
+            this.engine.resetTimes();
+            this.stepsSinceProfile = 0;
         }
 
         // Check the current health of the players boat only
         if (pb.getCurrentHealth() == 0) {
             game.setScreen(new BoatDeathScreen(game));
+            return;
         }
 
         checkAllBoatsForFinished();
-
-        finishLineObstacle.render(game.batch, pb.getInGamePos());
-
-        this.showHUD();
     }
 
     /**
-     * Check if any boats have finished, and if the player boat estimate the finish times of the cpu boats.
+     * Check if any boats have finished, and once the player has, finish the round for the cpu boats in the
+     * background.
      */
     private void checkAllBoatsForFinished() {
 
-        finishLineObstacle.getPos().y = finishLine; //this will make the finish line appear on the screen
-
         // Check all but the player being finished
         for (Lane lane : lanes) {
             if (!lane.isPlayerLane) {
-                lane.checkBoatFinished(finishLine, this.raceStartTime);
+                lane.checkBoatFinished(finishLine, this.engine.getClock());
             }
         }
 
         // Check if the player has finished
-        if (pb.checkFinished(finishLine, this.raceStartTime)) {
-            //calculate the times it would have taken or did take the cpus to finish
-            //send every boats finishing time to the next screen along w the current round
-
-            for (Lane lane : lanes) {
-                if (!lane.isPlayerLane) {
-                    if (!lane.checkBoatFinished(finishLine, this.raceStartTime)) {
-                        long timeEstimate = (long) ((pb.getFinishTimeLong()) * (finishLine / lane.getBoatGamePos().y));
-                        lane.setBoatFinishTime(timeEstimate);
-                    }
-                }
-            }
-
+        if (pb.checkFinished(finishLine, this.engine.getClock())) {
+            // Race the cpus that are still going to the line on another thread, the next screen waits for them
+            this.engine.release();
+            RoundFinisher finisher = new RoundFinisher(game.simulationWorker, this.lanes, this.pb, finishLine,
+                    this.engine.getClock());
             if (round != 3) {
-                //go to mid round screen
-                game.setScreen(new midRoundScreen(game, round, this.lanes, this.pb, this.difficulty));
+                game.setScreen(new midRoundScreen(game, round, this.lanes, this.pb, this.difficulty, finisher));
             } else {
                 //go to final results screen
-                game.setScreen(new Finale(game, this.lanes, pb));
+                game.setScreen(new Finale(game, this.lanes, pb, finisher));
             }
 
         }
@@ -376,161 +514,19 @@ public class GameScreen extends ScreenAdapter {
      * Render the UI.
      */
     private void showHUD() {
-        // Distance bar background
-        this.game.shapeRenderer.begin(ShapeType.Filled);
-        this.game.shapeRenderer.setColor(Color.DARK_GRAY);
-        this.game.shapeRenderer.rect(
-                0.02f * Gdx.graphics.getWidth(),
-                0.96f * Gdx.graphics.getHeight(),
-                0.2f * Gdx.graphics.getWidth(),
-                0.02f * Gdx.graphics.getHeight()
-        );
-        this.game.shapeRenderer.end();
-        // Distance bar progress
-        this.game.shapeRenderer.begin(ShapeType.Filled);
-        this.game.shapeRenderer.setColor(Color.LIGHT_GRAY);
-        this.game.shapeRenderer.rect(
-                0.02f * Gdx.graphics.getWidth(),
-                0.96f * Gdx.graphics.getHeight(),
-                0.2f * Gdx.graphics.getWidth() * (pb.getDistanceTravelled() / this.finishLine),
-                0.02f * Gdx.graphics.getHeight()
-        );
-        this.game.shapeRenderer.end();
-        // Distance bar outline
-        this.game.shapeRenderer.begin(ShapeType.Line);
-        this.game.shapeRenderer.setColor(Color.BLACK);
-        this.game.shapeRenderer.rect(
-                0.02f * Gdx.graphics.getWidth(),
-                0.96f * Gdx.graphics.getHeight(),
-                0.2f * Gdx.graphics.getWidth(),
-                0.02f * Gdx.graphics.getHeight()
-        );
-        this.game.shapeRenderer.end();
-        // Distance bar text
-        this.game.batch.begin();
-        this.font.draw(
-                this.game.batch,
-                "Distance",
-                0.022f * Gdx.graphics.getWidth(),
-                0.975f * Gdx.graphics.getHeight());
-        this.game.batch.end();
-
-        // Health bar background
-        this.game.shapeRenderer.begin(ShapeType.Filled);
-        this.game.shapeRenderer.setColor(Color.valueOf("#800f0f"));
-        this.game.shapeRenderer.rect(
-                0.02f * Gdx.graphics.getWidth(),
-                0.92f * Gdx.graphics.getHeight(),
-                0.2f * Gdx.graphics.getWidth(),
-                0.02f * Gdx.graphics.getHeight()
-        );
-        this.game.shapeRenderer.end();
-        // Health bar amount
-        this.game.shapeRenderer.begin(ShapeType.Filled);
-        this.game.shapeRenderer.setColor(Color.RED);
-        this.game.shapeRenderer.rect(
-                0.02f * Gdx.graphics.getWidth(),
-                0.92f * Gdx.graphics.getHeight(),
-                0.2f * Gdx.graphics.getWidth() * (pb.getCurrentHealth() / pb.getType().getMaxHealth()),
-                0.02f * Gdx.graphics.getHeight()
-        );
-        this.game.shapeRenderer.end();
-        // Health bar outline
-        this.game.shapeRenderer.begin(ShapeType.Line);
-        this.game.shapeRenderer.setColor(Color.BLACK);
-        this.game.shapeRenderer.rect(
-                0.02f * Gdx.graphics.getWidth(),
-                0.92f * Gdx.graphics.getHeight(),
-                0.2f * Gdx.graphics.getWidth(),
-                0.02f * Gdx.graphics.getHeight()
-        );
-        this.game.shapeRenderer.end();
-        // Health bar text
-        this.game.batch.begin();
-        this.font.draw(
-                this.game.batch,
-                "Health",
-                0.022f * Gdx.graphics.getWidth(),
-                0.935f * Gdx.graphics.getHeight());
-        this.game.batch.end();
-
-        // Stamina bar background
-        this.game.shapeRenderer.begin(ShapeType.Filled);
-        this.game.shapeRenderer.setColor(Color.NAVY);
-        this.game.shapeRenderer.rect(
-                0.02f * Gdx.graphics.getWidth(),
-                0.88f * Gdx.graphics.getHeight(),
-                0.2f * Gdx.graphics.getWidth(),
-                0.02f * Gdx.graphics.getHeight()
-        );
-        this.game.shapeRenderer.end();
-        // Stamina bar amount
-        this.game.shapeRenderer.begin(ShapeType.Filled);
-        this.game.shapeRenderer.setColor(Color.BLUE);
-        this.game.shapeRenderer.rect(
-                0.02f * Gdx.graphics.getWidth(),
-                0.88f * Gdx.graphics.getHeight(),
-                0.2f * Gdx.graphics.getWidth() * (pb.getCurrentStamina() / pb.getMaxStamina()),
-                0.02f * Gdx.graphics.getHeight()
-        );
-        this.game.shapeRenderer.end();
-        // Stamina bar outline
-        this.game.shapeRenderer.begin(ShapeType.Line);
-        this.game.shapeRenderer.setColor(Color.BLACK);
-        this.game.shapeRenderer.rect(
-                0.02f * Gdx.graphics.getWidth(),
-                0.88f * Gdx.graphics.getHeight(),
-                0.2f * Gdx.graphics.getWidth(),
-                0.02f * Gdx.graphics.getHeight()
-        );
-        this.game.shapeRenderer.end();
-        // Stamina bar text
-        this.game.batch.begin();
-        this.font.draw(
-                this.game.batch,
-                "Stamina",
-                0.022f * Gdx.graphics.getWidth(),
-                0.895f * Gdx.graphics.getHeight());
-        this.game.batch.end();
-
-        // Speed bar background
-        this.game.shapeRenderer.begin(ShapeType.Filled);
-        this.game.shapeRenderer.setColor(Color.valueOf("#838510"));
-        this.game.shapeRenderer.rect(
-                0.02f * Gdx.graphics.getWidth(),
-                0.84f * Gdx.graphics.getHeight(),
-                0.2f * Gdx.graphics.getWidth(),
-                0.02f * Gdx.graphics.getHeight()
-        );
-        this.game.shapeRenderer.end();
-        // Speed bar amount
-        this.game.shapeRenderer.begin(ShapeType.Filled);
-        this.game.shapeRenderer.setColor(Color.YELLOW);
-        this.game.shapeRenderer.rect(
-                0.02f * Gdx.graphics.getWidth(),
-                0.84f * Gdx.graphics.getHeight(),
-                0.2f * Gdx.graphics.getWidth() * Math.min((pb.getCurrentSpeed() / pb.getType().getSpeed()), 1),
-                0.02f * Gdx.graphics.getHeight()
-        );
-        this.game.shapeRenderer.end();
-        // Speed bar outline
-        this.game.shapeRenderer.begin(ShapeType.Line);
-        this.game.shapeRenderer.setColor(Color.BLACK);
-        this.game.shapeRenderer.rect(
-                0.02f * Gdx.graphics.getWidth(),
-                0.84f * Gdx.graphics.getHeight(),
-                0.2f * Gdx.graphics.getWidth(),
-                0.02f * Gdx.graphics.getHeight()
-        );
-        this.game.shapeRenderer.end();
-        // Speed bar text
-        this.game.batch.begin();
-        this.font.draw(
-                this.game.batch,
-                "Speed",
-                0.022f * Gdx.graphics.getWidth(),
-                0.857f * Gdx.graphics.getHeight());
-        this.game.batch.end();
+        this.hudData.update(this.pb, this.finishLine);
+        this.hud.render(this.game.shapeRenderer, this.game.batch, this.font, this.hudData);
+    }
+
+    /**
+     * Lay the HUD out again for the new screen size.
+     *
+     * @param width  The new width of the screen.
+     * @param height The new height of the screen.
+     */
+    @Override
+    public void resize(int width, int height) {
+        this.hud.resize(width, height);
     }
 
     /**
@@ -538,7 +534,6 @@ public class GameScreen extends ScreenAdapter {
      *
      * @see Lane
      * @see com.dragonboatrace.game.entities.Boat
-     * @see Background
      */
     @Override
     public void dispose() {
@@ -548,8 +543,6 @@ public class GameScreen extends ScreenAdapter {
         for (LaneMarker l : this.laneMarkers) {
             l.dispose();
         }
-        for (Background b : this.backgrounds) {
-            b.dispose();
-        }
+        this.finishLineObstacle.dispose();
     }
 }
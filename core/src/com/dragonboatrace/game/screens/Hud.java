@@ -0,0 +1,169 @@
+package com.dragonboatrace.game.screens;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
+
+/**
+ * Draws the distance, health, stamina and speed bars shown during a race.
+ * <p>The bar geometry is only worked out when the screen is resized. Each frame draws every filled bar in one
+ * ShapeRenderer pass, every outline in a second pass and every label in one batch.</p>
+ *
+ * @author Jacob Turner
+ */
+public class Hud {
+
+    /**
+     * The number of bars on the HUD.
+     */
+    private static final int BAR_COUNT = 4;
+    /**
+     * The text shown on each bar, from top to bottom.
+     */
+    private static final String[] LABELS = {"Distance", "Health", "Stamina", "Speed"};
+    /**
+     * The height of the bottom of each bar as a fraction of the screen height.
+     */
+    private static final float[] BAR_HEIGHTS = {0.96f, 0.92f, 0.88f, 0.84f};
+    /**
+     * The height of the baseline of each label as a fraction of the screen height.
+     */
+    private static final float[] LABEL_HEIGHTS = {0.975f, 0.935f, 0.895f, 0.857f};
+    /**
+     * The colour of the empty part of each bar.
+     */
+    private static final Color[] BACKGROUND_COLOURS = {Color.DARK_GRAY, Color.valueOf("#800f0f"), Color.NAVY, Color.valueOf("#838510")};
+    /**
+     * The colour of the filled part of each bar.
+     */
+    private static final Color[] FILL_COLOURS = {Color.LIGHT_GRAY, Color.RED, Color.BLUE, Color.YELLOW};
+
+    /**
+     * The x-coordinate of the left of the bars.
+     */
+    private float barX;
+    /**
+     * The full width of a bar.
+     */
+    private float barWidth;
+    /**
+     * The height of a bar.
+     */
+    private float barHeight;
+    /**
+     * The y-coordinate of the bottom of each bar.
+     */
+    private final float[] barY;
+    /**
+     * The x-coordinate of the start of the labels.
+     */
+    private float labelX;
+    /**
+     * The y-coordinate of each label.
+     */
+    private final float[] labelY;
+    /**
+     * The fraction each bar is filled by in the frame being drawn.
+     */
+    private final float[] fractions;
+
+    /**
+     * Creates a new HUD laid out for a screen size.
+     *
+     * @param width  The width of the screen.
+     * @param height The height of the screen.
+     */
+    public Hud(int width, int height) {
+        this.barY = new float[BAR_COUNT];
+        this.labelY = new float[BAR_COUNT];
+        this.fractions = new float[BAR_COUNT];
+        this.resize(width, height);
+    }
+
+    /**
+     * Work out the position of the bars and labels for a new screen size.
+     *
+     * @param width  The width of the screen.
+     * @param height The height of the screen.
+     */
+    public void resize(int width, int height) {
+        this.barX = 0.02f * width;
+        this.barWidth = 0.2f * width;
+        this.barHeight = 0.02f * height;
+        this.labelX = 0.022f * width;
+        for (int i = 0; i < BAR_COUNT; i++) {
+            this.barY[i] = BAR_HEIGHTS[i] * height;
+            this.labelY[i] = LABEL_HEIGHTS[i] * height;
+        }
+    }
+
+    /**
+     * Draw the HUD. Neither the shape renderer nor the batch may have begun.
+     *
+     * @param shapeRenderer The shape renderer used for the bars.
+     * @param batch         The spritebatch used for the labels.
+     * @param font          The font used for the labels.
+     * @param data          The values to show.
+     */
+    public void render(ShapeRenderer shapeRenderer, SpriteBatch batch, BitmapFont font, HudData data) {
+        this.fractions[0] = data.distance;
+        this.fractions[1] = data.health;
+        this.fractions[2] = data.stamina;
+        this.fractions[3] = data.speed;
+
+        // The background and the amount of every bar
+        shapeRenderer.begin(ShapeType.Filled);
+        for (int i = 0; i < BAR_COUNT; i++) {
+            shapeRenderer.setColor(BACKGROUND_COLOURS[i]);
+            shapeRenderer.rect(this.barX, this.barY[i], this.barWidth, this.barHeight);
+            shapeRenderer.setColor(FILL_COLOURS[i]);
+            shapeRenderer.rect(this.barX, this.barY[i], this.barWidth * this.fractions[i], this.barHeight);
+        }
+        shapeRenderer.end();
+
+        // The outline of every bar
+        shapeRenderer.begin(ShapeType.Line);
+        shapeRenderer.setColor(Color.BLACK);
+        for (int i = 0; i < BAR_COUNT; i++) {
+            shapeRenderer.rect(this.barX, this.barY[i], this.barWidth, this.barHeight);
+        }
+        shapeRenderer.end();
+
+        // The label of every bar
+        batch.begin();
+        for (int i = 0; i < BAR_COUNT; i++) {
+            font.draw(batch, LABELS[i], this.labelX, this.labelY[i]);
+        }
+        batch.end();
+    }
+
+    /**
+     * Get the x-coordinate of the left of the bars.
+     *
+     * @return The x-coordinate of the bars.
+     */
+    public float getBarX() {
+        return this.barX;
+    }
+
+    /**
+     * Get the full width of a bar.
+     *
+     * @return The width of a bar.
+     */
+    public float getBarWidth() {
+        return this.barWidth;
+    }
+
+    /**
+     * Get the y-coordinate of the bottom of a bar.
+     *
+     * @param bar The index of the bar, from the top.
+     * @return The y-coordinate of the bar.
+     */
+    public float getBarY(int bar) {
+        return this.barY[bar];
+    }
+}
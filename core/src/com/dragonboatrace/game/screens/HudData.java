@@ -0,0 +1,51 @@
+package com.dragonboatrace.game.screens;
+
+import com.dragonboatrace.game.entities.Boat;
+
+/**
+ * The values shown by the {@link Hud}, each as a fraction of how full its bar is.
+ *
+ * @author Jacob Turner
+ */
+public class HudData {
+
+    /**
+     * The fraction of the round's distance the boat has travelled.
+     */
+    public float distance;
+    /**
+     * The fraction of the boat's maximum health remaining.
+     */
+    public float health;
+    /**
+     * The fraction of the boat's maximum stamina remaining.
+     */
+    public float stamina;
+    /**
+     * The boat's current speed as a fraction of its type's top speed.
+     */
+    public float speed;
+
+    /**
+     * Take the values to show from a boat.
+     *
+     * @param boat       The boat being shown, usually the player's.
+     * @param finishLine The length of the current round.
+     */
+    public void update(Boat boat, int finishLine) {
+        this.distance = clamp(boat.getDistanceTravelled() / finishLine);
+        this.health = clamp(boat.getCurrentHealth() / boat.getType().getMaxHealth());
+        this.stamina = clamp(boat.getCurrentStamina() / boat.getMaxStamina());
+        this.speed = clamp(boat.getCurrentSpeed() / boat.getType().getSpeed());
+    }
+
+    /**
+     * Keep a fraction between 0 and 1 so a bar never draws outside its outline.
+     *
+     * @param fraction The fraction to clamp.
+     * @return The fraction, limited to the range 0 to 1.
+     */
+    private static float clamp(float fraction) {
+        return Math.max(0, Math.min(fraction, 1));
+    }
+}
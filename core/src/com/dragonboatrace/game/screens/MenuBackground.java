@@ -0,0 +1,75 @@
+package com.dragonboatrace.game.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+/**
+ * A full-screen menu image that is loaded once when its screen is shown and disposed when it is hidden.
+ *
+ * @author Jacob Turner
+ */
+public class MenuBackground {
+
+    /**
+     * The number of menu textures currently loaded across all the screens.
+     */
+    private static int liveTextures = 0;
+    /**
+     * The path of the image to load.
+     */
+    private final String imageSrc;
+    /**
+     * The loaded texture, null while the screen is hidden.
+     */
+    private Texture texture;
+
+    /**
+     * Creates a new menu background for an image. Nothing is loaded until {@link #load()} is called.
+     *
+     * @param imageSrc The path of the image.
+     */
+    public MenuBackground(String imageSrc) {
+        this.imageSrc = imageSrc;
+        this.texture = null;
+    }
+
+    /**
+     * Load the texture if it is not already loaded.
+     */
+    public void load() {
+        if (this.texture == null) {
+            this.texture = new Texture(this.imageSrc);
+            liveTextures++;
+        }
+    }
+
+    /**
+     * Add the image to a spritebatch, stretched over the whole screen. The batch must already have begun.
+     *
+     * @param batch The spritebatch to be added to.
+     */
+    public void draw(SpriteBatch batch) {
+        batch.draw(this.texture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+    }
+
+    /**
+     * Dispose the texture if it is loaded.
+     */
+    public void dispose() {
+        if (this.texture != null) {
+            this.texture.dispose();
+            this.texture = null;
+            liveTextures--;
+        }
+    }
+
+    /**
+     * Get the number of menu textures currently loaded, used to check that the menus do not leak textures.
+     *
+     * @return The number of live menu textures.
+     */
+    public static int getLiveTextureCount() {
+        return liveTextures;
+    }
+}
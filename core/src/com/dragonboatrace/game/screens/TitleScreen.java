@@ -5,7 +5,6 @@ import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
 import com.dragonboatrace.game.DragonBoatRace;
 
 /**
@@ -19,6 +18,10 @@ public class TitleScreen extends ScreenAdapter {
      * The instance of the DragonBoatRace.
      */
     DragonBoatRace game;
+    /**
+     * The title image shown behind the text.
+     */
+    MenuBackground background;
 
     /**
      * Creates a new screen.
@@ -27,6 +30,7 @@ public class TitleScreen extends ScreenAdapter {
      */
     public TitleScreen(DragonBoatRace game) {
         this.game = game;
+        this.background = new MenuBackground("menus/title.png");
     }
 
     /**
@@ -34,6 +38,7 @@ public class TitleScreen extends ScreenAdapter {
      */
     @Override
     public void show() {
+        this.background.load();
         Gdx.input.setInputProcessor(new InputAdapter() {
             @Override
             public boolean keyDown(int keyCode) {
@@ -59,7 +64,7 @@ public class TitleScreen extends ScreenAdapter {
         Gdx.gl.glClearColor(0, 0, 1, 0);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
         game.batch.begin();
-        game.batch.draw(new Texture("menus/title.png"), 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        this.background.draw(game.batch);
         game.font.draw(game.batch, "Title Screen!", Gdx.graphics.getWidth() * .1f, Gdx.graphics.getHeight() * .5f);
         game.font.draw(game.batch, "Press SPACE to choose a boat.", Gdx.graphics.getWidth() * .1f, Gdx.graphics.getHeight() * .4f);
         game.font.draw(game.batch, "Press ESC to exit.", Gdx.graphics.getWidth() * .1f, Gdx.graphics.getHeight() * .3f);
@@ -72,5 +77,6 @@ public class TitleScreen extends ScreenAdapter {
     @Override
     public void hide() {
         Gdx.input.setInputProcessor(null);
+        this.background.dispose();
     }
 }
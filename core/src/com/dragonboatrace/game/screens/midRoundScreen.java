@@ -5,9 +5,9 @@ import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
 import com.dragonboatrace.game.DragonBoatRace;
 import com.dragonboatrace.game.Lane;
+import com.dragonboatrace.game.RoundFinisher;
 import com.dragonboatrace.game.entities.PlayerBoat;
 
 /**
@@ -30,9 +30,13 @@ public class midRoundScreen extends ScreenAdapter {
      */
     PlayerBoat pb;
     /**
-     * The current positions of the boats in the overall race.
+     * The current positions of the boats in the overall race, null until every boat has finished the round.
      */
     int[] playerPositions;
+    /**
+     * Finishes the round for the cpu boats that hadn't crossed the line when the player did.
+     */
+    RoundFinisher finisher;
     /**
      * The array of lanes.
      */
@@ -41,6 +45,10 @@ public class midRoundScreen extends ScreenAdapter {
      * The difficulty chosen by the player.
      */
     int difficulty;
+    /**
+     * The image shown behind the results.
+     */
+    MenuBackground background;
 
     /**
      * Creates a new screen.
@@ -50,15 +58,17 @@ public class midRoundScreen extends ScreenAdapter {
      * @param lanes      The array of lanes.
      * @param playerBoat The instance of the player boat.
      * @param difficulty The difficulty chosen by the player.
+     * @param finisher   Finishes the round for the cpu boats still racing, the lanes are left alone until it has.
      */
-    public midRoundScreen(DragonBoatRace game, int round, Lane[] lanes, PlayerBoat playerBoat, int difficulty) {
+    public midRoundScreen(DragonBoatRace game, int round, Lane[] lanes, PlayerBoat playerBoat, int difficulty, RoundFinisher finisher) {
         this.game = game;
         this.lanes = lanes;
         this.round = round;
         this.pb = playerBoat;
         this.difficulty = difficulty;
+        this.finisher = finisher;
         this.game.toDispose.add(this);
-        this.playerPositions = getPlayerPositions(lanes, playerBoat);
+        this.background = new MenuBackground("menus/between rounds.png");
 
     }
 
@@ -68,10 +78,12 @@ public class midRoundScreen extends ScreenAdapter {
      */
     @Override
     public void show() {
+        this.background.load();
         Gdx.input.setInputProcessor(new InputAdapter() {
             @Override
             public boolean keyDown(int keyCode) {
-                if (keyCode == Input.Keys.SPACE) {
+                // The lanes can't be reset while the cpu boats are still being raced
+                if (keyCode == Input.Keys.SPACE && playerPositions != null) {
                     // Reset all the boats to the start of the round.
                     for (Lane lane : lanes) {
                         lane.moveBoatToStart();
@@ -105,10 +117,19 @@ public class midRoundScreen extends ScreenAdapter {
         Gdx.gl.glClearColor(0, 0, 1, 0);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
+        // Work out the standings as soon as every boat has a time
+        if (playerPositions == null && finisher.isReady()) {
+            playerPositions = getPlayerPositions(lanes, pb);
+        }
 
         game.batch.begin();
-        game.batch.draw(new Texture("menus/between rounds.png"), 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        this.background.draw(game.batch);
 
+        if (playerPositions == null) {
+            game.font.draw(game.batch, "You took " + pb.getFinishTimeString() + ", waiting for the other boats to finish...", Gdx.graphics.getWidth() * .1f, Gdx.graphics.getHeight() * .5f);
+            game.batch.end();
+            return;
+        }
         game.font.draw(game.batch, "You came #" + playerPositions[0] + " in that leg! You took " + pb.getFinishTimeString(), Gdx.graphics.getWidth() * .1f, Gdx.graphics.getHeight() * .5f);
         game.font.draw(game.batch, "Overall you are #" + playerPositions[1] + " in the dragon boat race!", Gdx.graphics.getWidth() * .1f, Gdx.graphics.getHeight() * .4f);
 
@@ -160,6 +181,7 @@ public class midRoundScreen extends ScreenAdapter {
     @Override
     public void hide() {
         Gdx.input.setInputProcessor(null);
+        this.background.dispose();
     }
 
 }
@@ -0,0 +1,64 @@
+package com.dragonboatrace.game.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.utils.ImmutableArray;
+
+/**
+ * Counts down the timed effects on every boat and moves it.
+ * <p>The player and the computer boats move differently, so each boat moves the vectors of its own entity's
+ * components.</p>
+ *
+ * @author Jacob Turner
+ */
+public class BoatMovementSystem extends TimedSystem {
+
+    /**
+     * The default priority, once every boat knows which way to steer.
+     */
+    public static final int PRIORITY = 3;
+
+    /**
+     * The boats in the engine.
+     */
+    private ImmutableArray<Entity> boats;
+
+    /**
+     * Creates a system that moves the boats.
+     */
+    public BoatMovementSystem() {
+        super("boats", PRIORITY);
+    }
+
+    /**
+     * Find the boats when added to an engine.
+     *
+     * @param engine The engine the system was added to.
+     */
+    @Override
+    public void addedToEngine(Engine engine) {
+        this.boats = engine.getEntitiesFor(RaceEntities.BOATS);
+    }
+
+    /**
+     * Forget the boats when removed from an engine.
+     *
+     * @param engine The engine the system was removed from.
+     */
+    @Override
+    public void removedFromEngine(Engine engine) {
+        this.boats = null;
+    }
+
+    /**
+     * Move every boat.
+     *
+     * @param deltaTime The length of the step in seconds.
+     */
+    @Override
+    protected void step(float deltaTime) {
+        for (int i = 0; i < this.boats.size(); i++) {
+            RaceEntities.BOAT_STATS.get(this.boats.get(i)).boat.advance(deltaTime);
+        }
+    }
+}
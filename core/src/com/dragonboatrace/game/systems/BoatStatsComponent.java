@@ -0,0 +1,28 @@
+package com.dragonboatrace.game.systems;
+
+import com.badlogic.ashley.core.Component;
+import com.dragonboatrace.game.entities.Boat;
+
+/**
+ * Marks an engine entity as a racing boat, with the health, stamina, speed and power up effects of the boat.
+ * <p>How a boat steers and moves depends on whether it is the player or the computer, so the stats are kept on
+ * the boat itself, which moves the vectors in the entity's other components.</p>
+ *
+ * @author Jacob Turner
+ */
+public class BoatStatsComponent implements Component {
+
+    /**
+     * The boat and its stats.
+     */
+    public final Boat boat;
+
+    /**
+     * Creates the stats component of a boat.
+     *
+     * @param boat The boat.
+     */
+    public BoatStatsComponent(Boat boat) {
+        this.boat = boat;
+    }
+}
@@ -0,0 +1,51 @@
+package com.dragonboatrace.game.systems;
+
+import com.dragonboatrace.game.RaceClock;
+
+/**
+ * Counts each step on the clock of the round, so that anything looking at the clock during or after the step sees
+ * the time at the end of it.
+ *
+ * @author Jacob Turner
+ */
+public class ClockSystem extends TimedSystem {
+
+    /**
+     * The default priority, the clock is moved on before anything else happens in a step.
+     */
+    public static final int PRIORITY = -10;
+
+    /**
+     * The clock of the round.
+     */
+    private final RaceClock clock;
+
+    /**
+     * Creates a system that counts steps on a clock.
+     *
+     * @param clock The clock of the round.
+     */
+    public ClockSystem(RaceClock clock) {
+        super("clock", PRIORITY);
+        this.clock = clock;
+    }
+
+    /**
+     * Count the step.
+     *
+     * @param deltaTime The length of the step in seconds.
+     */
+    @Override
+    protected void step(float deltaTime) {
+        this.clock.advance();
+    }
+
+    /**
+     * Get the clock of the round.
+     *
+     * @return The clock.
+     */
+    public RaceClock getClock() {
+        return this.clock;
+    }
+}
@@ -0,0 +1,72 @@
+package com.dragonboatrace.game.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.dragonboatrace.game.CollisionWorld;
+
+/**
+ * Collides the boats with the obstacles near them, from any lane.
+ *
+ * @author Jacob Turner
+ */
+public class CollisionSystem extends TimedSystem {
+
+    /**
+     * The default priority, collisions are found once everything has moved.
+     */
+    public static final int PRIORITY = 10;
+
+    /**
+     * Finds the collisions between the boats and the obstacles.
+     */
+    private final CollisionWorld world;
+    /**
+     * The boats in the engine.
+     */
+    private ImmutableArray<Entity> boats;
+    /**
+     * The obstacles in the engine.
+     */
+    private ImmutableArray<Entity> obstacles;
+
+    /**
+     * Creates a collision system.
+     */
+    public CollisionSystem() {
+        super("collisions", PRIORITY);
+        this.world = new CollisionWorld();
+    }
+
+    /**
+     * Find the boats and obstacles when added to an engine.
+     *
+     * @param engine The engine the system was added to.
+     */
+    @Override
+    public void addedToEngine(Engine engine) {
+        this.boats = engine.getEntitiesFor(RaceEntities.BOATS);
+        this.obstacles = engine.getEntitiesFor(RaceEntities.OBSTACLES);
+    }
+
+    /**
+     * Forget the boats and obstacles when removed from an engine.
+     *
+     * @param engine The engine the system was removed from.
+     */
+    @Override
+    public void removedFromEngine(Engine engine) {
+        this.boats = null;
+        this.obstacles = null;
+    }
+
+    /**
+     * Collide every boat with the obstacles near it.
+     *
+     * @param deltaTime The length of the step in seconds.
+     */
+    @Override
+    protected void step(float deltaTime) {
+        this.world.collide(this.boats, this.obstacles);
+    }
+}
@@ -0,0 +1,38 @@
+package com.dragonboatrace.game.systems;
+
+import com.dragonboatrace.game.Lane;
+import com.dragonboatrace.game.LaneUpdater;
+
+/**
+ * Lets every computer boat look at the obstacles ahead of it and decide which way to steer.
+ *
+ * @author Jacob Turner
+ */
+public class CpuSteeringSystem extends LanePhaseSystem {
+
+    /**
+     * The default priority, once the obstacles the boats steer around have moved.
+     */
+    public static final int PRIORITY = 2;
+
+    /**
+     * Creates a system that steers the computer boats with a given updater.
+     *
+     * @param updater The updater to run the lanes with.
+     */
+    public CpuSteeringSystem(LaneUpdater updater) {
+        super("steering", PRIORITY, updater);
+    }
+
+    /**
+     * Decide which way the boat of a lane steers, if it is a computer boat.
+     *
+     * @param lane      The lane.
+     * @param deltaTime The length of the step in seconds.
+     * @param playerY   The player's in-game y-position at the start of the step.
+     */
+    @Override
+    public void run(Lane lane, float deltaTime, float playerY) {
+        lane.steerBoat();
+    }
+}
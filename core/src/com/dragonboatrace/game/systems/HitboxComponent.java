@@ -0,0 +1,32 @@
+package com.dragonboatrace.game.systems;
+
+import com.badlogic.ashley.core.Component;
+import com.dragonboatrace.game.entities.EntityHitbox;
+
+/**
+ * The box an engine entity collides with, and how hard it hits.
+ *
+ * @author Jacob Turner
+ */
+public class HitboxComponent implements Component {
+
+    /**
+     * The box, at the entity's in-game position.
+     */
+    public final EntityHitbox hitbox;
+    /**
+     * The weight of the entity, which is how much damage it does and how much it slows a boat.
+     */
+    public float weight;
+
+    /**
+     * Creates a hitbox component.
+     *
+     * @param hitbox The box the entity collides with.
+     * @param weight The weight of the entity.
+     */
+    public HitboxComponent(EntityHitbox hitbox, float weight) {
+        this.hitbox = hitbox;
+        this.weight = weight;
+    }
+}
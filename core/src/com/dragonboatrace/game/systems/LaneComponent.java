@@ -0,0 +1,34 @@
+package com.dragonboatrace.game.systems;
+
+import com.badlogic.ashley.core.Component;
+import com.dragonboatrace.game.Lane;
+
+/**
+ * Marks an engine entity as one of the lanes of the race.
+ * <p>A lane keeps the streams its obstacles and power ups are spawned and turned from, so the systems that draw
+ * from them work lane by lane, while the boat, obstacles and power up of the lane are entities of their own.</p>
+ *
+ * @author Jacob Turner
+ */
+public class LaneComponent implements Component {
+
+    /**
+     * The lane itself.
+     */
+    public final Lane lane;
+    /**
+     * The position of the lane from the left of the race, which the systems keep the lanes in.
+     */
+    public final int index;
+
+    /**
+     * Creates a component for a lane.
+     *
+     * @param lane  The lane.
+     * @param index The position of the lane from the left of the race.
+     */
+    public LaneComponent(Lane lane, int index) {
+        this.lane = lane;
+        this.index = index;
+    }
+}
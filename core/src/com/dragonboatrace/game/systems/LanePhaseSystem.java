@@ -0,0 +1,63 @@
+package com.dragonboatrace.game.systems;
+
+import com.dragonboatrace.game.LaneUpdater;
+
+/**
+ * A timed system that runs one part of the update on every lane, each lane on its own and possibly all at the same
+ * time.
+ * <p>Once every lane has finished, the entities they spawned and dropped are given to the engine, one lane after
+ * another on the engine's own thread.</p>
+ *
+ * @author Jacob Turner
+ */
+public abstract class LanePhaseSystem extends LaneSystem implements LaneUpdater.Phase {
+
+    /**
+     * Runs the phase on the lanes, possibly all at the same time.
+     */
+    private final LaneUpdater updater;
+
+    /**
+     * Creates a system that runs a phase on the lanes with a given updater.
+     *
+     * @param name     The name the system is shown with when profiling.
+     * @param priority The priority of the system, lower priorities are run first.
+     * @param updater  The updater to run the lanes with.
+     */
+    public LanePhaseSystem(String name, int priority, LaneUpdater updater) {
+        super(name, priority);
+        this.updater = updater;
+    }
+
+    /**
+     * Run the phase on every lane, then give the entities the lanes spawned and dropped to the engine.
+     *
+     * @param deltaTime The length of the step in seconds.
+     */
+    @Override
+    protected void step(float deltaTime) {
+        this.runPhase(this, deltaTime);
+        this.flushEntities();
+    }
+
+    /**
+     * Run a phase on every lane.
+     *
+     * @param phase     The phase to run.
+     * @param deltaTime The length of the step in seconds.
+     */
+    protected void runPhase(LaneUpdater.Phase phase, float deltaTime) {
+        this.updater.run(this.lanes, phase, deltaTime);
+    }
+
+    /**
+     * Give the entities the lanes spawned and dropped to the engine, one lane after another.
+     * <p>The engine only removes entities once every system has run, so an entity dropped and spawned again in the
+     * same step must be flushed once, after both, for the two to cancel out.</p>
+     */
+    protected void flushEntities() {
+        for (int i = 0; i < this.lanes.length; i++) {
+            this.lanes[i].flushEntities();
+        }
+    }
+}
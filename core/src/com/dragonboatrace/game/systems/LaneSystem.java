@@ -0,0 +1,123 @@
+package com.dragonboatrace.game.systems;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.dragonboatrace.game.Lane;
+
+/**
+ * A timed system that works on every lane of the race at once.
+ * <p>The lanes are kept in an array in order of their index, which is only rebuilt when a lane is added to or
+ * removed from the engine.</p>
+ *
+ * @author Jacob Turner
+ */
+public abstract class LaneSystem extends TimedSystem implements EntityListener {
+
+    /**
+     * The family of every lane entity.
+     */
+    public static final Family LANES = Family.all(LaneComponent.class).get();
+
+    /**
+     * Gets the lane component of an entity.
+     */
+    private static final ComponentMapper<LaneComponent> LANE_MAPPER = ComponentMapper.getFor(LaneComponent.class);
+
+    /**
+     * The lane entities in the engine.
+     */
+    private ImmutableArray<Entity> entities;
+    /**
+     * The lanes in order of their index.
+     */
+    protected Lane[] lanes;
+
+    /**
+     * Creates a system that works on the lanes.
+     *
+     * @param name     The name the system is shown with when profiling.
+     * @param priority The priority of the system, lower priorities are run first.
+     */
+    public LaneSystem(String name, int priority) {
+        super(name, priority);
+        this.lanes = new Lane[0];
+    }
+
+    /**
+     * Start listening for lanes when added to an engine.
+     *
+     * @param engine The engine the system was added to.
+     */
+    @Override
+    public void addedToEngine(Engine engine) {
+        this.entities = engine.getEntitiesFor(LANES);
+        engine.addEntityListener(LANES, this);
+        this.rebuildLanes();
+    }
+
+    /**
+     * Stop listening for lanes when removed from an engine.
+     *
+     * @param engine The engine the system was removed from.
+     */
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(this);
+        this.entities = null;
+        this.lanes = new Lane[0];
+    }
+
+    /**
+     * Rebuild the lanes when one is added.
+     *
+     * @param entity The lane entity added.
+     */
+    @Override
+    public void entityAdded(Entity entity) {
+        this.rebuildLanes();
+    }
+
+    /**
+     * Rebuild the lanes when one is removed.
+     *
+     * @param entity The lane entity removed.
+     */
+    @Override
+    public void entityRemoved(Entity entity) {
+        this.rebuildLanes();
+    }
+
+    /**
+     * Get the lanes the system works on.
+     *
+     * @return The lanes in order of their index.
+     */
+    public Lane[] getLanes() {
+        return this.lanes;
+    }
+
+    /**
+     * Put the lanes of the engine into the array in order of their index.
+     */
+    private void rebuildLanes() {
+        Lane[] sorted = new Lane[this.entities.size()];
+        int[] indices = new int[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            LaneComponent component = LANE_MAPPER.get(this.entities.get(i));
+            // Insertion sort, there are only a handful of lanes
+            int j = i;
+            while (j > 0 && indices[j - 1] > component.index) {
+                sorted[j] = sorted[j - 1];
+                indices[j] = indices[j - 1];
+                j--;
+            }
+            sorted[j] = component.lane;
+            indices[j] = component.index;
+        }
+        this.lanes = sorted;
+    }
+}
@@ -0,0 +1,21 @@
+package com.dragonboatrace.game.systems;
+
+import com.badlogic.ashley.core.Component;
+import com.dragonboatrace.game.MovementCharacteristics;
+
+/**
+ * How an obstacle moves on its own, and how long until it next turns if it wanders.
+ *
+ * @author Jacob Turner
+ */
+public class MoverComponent implements Component {
+
+    /**
+     * The way the obstacle moves.
+     */
+    public MovementCharacteristics mover;
+    /**
+     * The time until the obstacle next turns, in seconds.
+     */
+    public float wanderDelay;
+}
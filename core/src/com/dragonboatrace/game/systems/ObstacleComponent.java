@@ -0,0 +1,21 @@
+package com.dragonboatrace.game.systems;
+
+import com.badlogic.ashley.core.Component;
+import com.dragonboatrace.game.entities.ObstacleType;
+
+/**
+ * Marks an engine entity as an obstacle, with its type and the id boats track their collisions with it by.
+ *
+ * @author Jacob Turner
+ */
+public class ObstacleComponent implements Component {
+
+    /**
+     * The type of obstacle.
+     */
+    public ObstacleType type;
+    /**
+     * The id of the obstacle, given again every time the entity is reused for a new obstacle.
+     */
+    public int id;
+}
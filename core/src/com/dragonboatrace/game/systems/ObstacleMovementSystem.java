@@ -0,0 +1,116 @@
+package com.dragonboatrace.game.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.dragonboatrace.game.Lane;
+import com.dragonboatrace.game.LaneUpdater;
+import com.dragonboatrace.game.ObstacleStore;
+
+/**
+ * Moves the obstacles, removing the ones that have left the screen and spawning new ones.
+ * <p>Culling, turning and spawning draw from each lane's streams, so they are run lane by lane in order of the
+ * obstacles' y-positions. Moving every obstacle by its velocity is then done over the family of obstacles, before
+ * each lane puts its obstacles back in order and spawns any new ones. The culled and spawned obstacles are only given
+ * to the engine at the end, as a culled obstacle's entity is often reused by one spawned in the same step.</p>
+ *
+ * @author Jacob Turner
+ */
+public class ObstacleMovementSystem extends LanePhaseSystem {
+
+    /**
+     * The default priority, the obstacles are moved before anything else happens in a step.
+     */
+    public static final int PRIORITY = 0;
+
+    /**
+     * The phase that puts the moved obstacles of a lane back in order and spawns new ones.
+     */
+    private static final LaneUpdater.Phase REFILL = new LaneUpdater.Phase() {
+        @Override
+        public void run(Lane lane, float deltaTime, float playerY) {
+            lane.refillObstacles();
+        }
+    };
+
+    /**
+     * The obstacles in the engine.
+     */
+    private ImmutableArray<Entity> obstacles;
+
+    /**
+     * Creates a system that moves the obstacles with a given updater.
+     *
+     * @param updater The updater to run the lanes with.
+     */
+    public ObstacleMovementSystem(LaneUpdater updater) {
+        super("obstacles", PRIORITY, updater);
+    }
+
+    /**
+     * Find the obstacles when added to an engine.
+     *
+     * @param engine The engine the system was added to.
+     */
+    @Override
+    public void addedToEngine(Engine engine) {
+        super.addedToEngine(engine);
+        this.obstacles = engine.getEntitiesFor(RaceEntities.OBSTACLES);
+    }
+
+    /**
+     * Forget the obstacles when removed from an engine.
+     *
+     * @param engine The engine the system was removed from.
+     */
+    @Override
+    public void removedFromEngine(Engine engine) {
+        super.removedFromEngine(engine);
+        this.obstacles = null;
+    }
+
+    /**
+     * Cull and turn the obstacles of every lane, move them all, then put them back in order and spawn new ones.
+     *
+     * @param deltaTime The length of the step in seconds.
+     */
+    @Override
+    protected void step(float deltaTime) {
+        this.runPhase(this, deltaTime);
+        float scale = ObstacleStore.DAMPENING * deltaTime * 60;
+        for (int i = 0; i < this.obstacles.size(); i++) {
+            Entity obstacle = this.obstacles.get(i);
+            move(RaceEntities.TRANSFORM.get(obstacle), RaceEntities.VELOCITY.get(obstacle),
+                    RaceEntities.HITBOX.get(obstacle), scale);
+        }
+        this.runPhase(REFILL, deltaTime);
+        this.flushEntities();
+    }
+
+    /**
+     * Remove the obstacles of a lane that have left the screen, and turn the ones that wander.
+     *
+     * @param lane      The lane.
+     * @param deltaTime The length of the step in seconds.
+     * @param playerY   The player's in-game y-position at the start of the step.
+     */
+    @Override
+    public void run(Lane lane, float deltaTime, float playerY) {
+        lane.cullObstacles(playerY);
+        lane.turnObstacles(deltaTime);
+    }
+
+    /**
+     * Move an obstacle by its velocity, taking its hitbox with it.
+     *
+     * @param transform The position of the obstacle.
+     * @param velocity  The velocity of the obstacle.
+     * @param hitbox    The hitbox of the obstacle.
+     * @param scale     How much of the velocity to move by, from the length of the step.
+     */
+    public static void move(TransformComponent transform, VelocityComponent velocity, HitboxComponent hitbox, float scale) {
+        transform.position.x += velocity.velocity.x * scale;
+        transform.position.y += velocity.velocity.y * scale;
+        hitbox.hitbox.setToPosition(transform.position);
+    }
+}
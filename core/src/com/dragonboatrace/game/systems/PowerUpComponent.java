@@ -0,0 +1,26 @@
+package com.dragonboatrace.game.systems;
+
+import com.badlogic.ashley.core.Component;
+import com.dragonboatrace.game.entities.PowerUp;
+
+/**
+ * Marks an engine entity as a power up waiting to be collected.
+ *
+ * @author Jacob Turner
+ */
+public class PowerUpComponent implements Component {
+
+    /**
+     * The power up, which gives its effect to the boat that collects it.
+     */
+    public final PowerUp power;
+
+    /**
+     * Creates the component of a power up.
+     *
+     * @param power The power up.
+     */
+    public PowerUpComponent(PowerUp power) {
+        this.power = power;
+    }
+}
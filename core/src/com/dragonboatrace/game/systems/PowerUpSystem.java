@@ -0,0 +1,38 @@
+package com.dragonboatrace.game.systems;
+
+import com.dragonboatrace.game.Lane;
+import com.dragonboatrace.game.LaneUpdater;
+
+/**
+ * Moves the power up of every lane and gives it to the boat touching it, or spawns a new one.
+ *
+ * @author Jacob Turner
+ */
+public class PowerUpSystem extends LanePhaseSystem {
+
+    /**
+     * The default priority, once the obstacles have moved.
+     */
+    public static final int PRIORITY = 1;
+
+    /**
+     * Creates a system that runs the power ups with a given updater.
+     *
+     * @param updater The updater to run the lanes with.
+     */
+    public PowerUpSystem(LaneUpdater updater) {
+        super("power ups", PRIORITY, updater);
+    }
+
+    /**
+     * Move or spawn the power up of a lane.
+     *
+     * @param lane      The lane.
+     * @param deltaTime The length of the step in seconds.
+     * @param playerY   The player's in-game y-position at the start of the step.
+     */
+    @Override
+    public void run(Lane lane, float deltaTime, float playerY) {
+        lane.updatePower(deltaTime, playerY);
+    }
+}
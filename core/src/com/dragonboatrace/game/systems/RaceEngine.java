@@ -0,0 +1,121 @@
+package com.dragonboatrace.game.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.dragonboatrace.game.Lane;
+import com.dragonboatrace.game.LaneUpdater;
+import com.dragonboatrace.game.RaceClock;
+
+/**
+ * The engine that runs a single simulation step of a race as a series of systems.
+ * <p>Every boat, obstacle and power up is an entity made of components, found by the families in
+ * {@link RaceEntities}, and each lane is an entity with a {@link LaneComponent}. A step moves the obstacles, then
+ * the power ups, then lets the computer boats steer, then moves the boats, before colliding the boats with the
+ * obstacles. The parts that spawn or steer from a lane's own streams and obstacles are run on every lane at once
+ * through a {@link LaneUpdater}, the rest go through the families. Every system is timed, and can be turned off
+ * or moved to another point in the step on its own, so the cost of each part of a step can be found and worked
+ * on. The {@link RenderSystem} is not part of a step and is run by the screen each frame.</p>
+ *
+ * @author Jacob Turner
+ */
+public class RaceEngine extends Engine {
+
+    /**
+     * Creates an engine for a race with the default systems.
+     *
+     * @param lanes   The lanes of the race, from left to right.
+     * @param updater The updater to run the lanes with.
+     */
+    public RaceEngine(Lane[] lanes, LaneUpdater updater) {
+        super();
+        for (int i = 0; i < lanes.length; i++) {
+            Entity entity = new Entity();
+            entity.add(new LaneComponent(lanes[i], i));
+            this.addEntity(entity);
+            lanes[i].attach(this);
+        }
+        this.addSystem(new ClockSystem(new RaceClock()));
+        this.addSystem(new ObstacleMovementSystem(updater));
+        this.addSystem(new PowerUpSystem(updater));
+        this.addSystem(new CpuSteeringSystem(updater));
+        this.addSystem(new BoatMovementSystem());
+        this.addSystem(new CollisionSystem());
+        this.addSystem(new RenderSystem());
+    }
+
+    /**
+     * Draw everything in the race that overlaps the view. The batch must already have begun.
+     *
+     * @param batch      The batch to draw with.
+     * @param viewY      The in-game y-coordinate of the bottom of the view.
+     * @param viewHeight The height of the view.
+     */
+    public void render(SpriteBatch batch, float viewY, float viewHeight) {
+        this.getSystem(RenderSystem.class).render(batch, viewY, viewHeight);
+    }
+
+    /**
+     * Take every lane and its entities out of the engine, so the lanes can be raced in another one.
+     */
+    public void release() {
+        ImmutableArray<Entity> entities = this.getEntitiesFor(LaneSystem.LANES);
+        for (int i = 0; i < entities.size(); i++) {
+            entities.get(i).getComponent(LaneComponent.class).lane.detach();
+        }
+        this.removeAllEntities();
+    }
+
+    /**
+     * Get the clock the round is timed by, which is moved on at the start of every step.
+     *
+     * @return The clock of the round.
+     */
+    public RaceClock getClock() {
+        return this.getSystem(ClockSystem.class).getClock();
+    }
+
+    /**
+     * Move a system to another point in the step.
+     *
+     * @param system   The system to move, which must already be in the engine.
+     * @param priority The new priority of the system, lower priorities are run first.
+     */
+    public void reorder(EntitySystem system, int priority) {
+        this.removeSystem(system);
+        system.priority = priority;
+        this.addSystem(system);
+    }
+
+    /**
+     * Get how long each timed system has taken on average, in the order they are run.
+     *
+     * @return A line per system of its name, average time in microseconds and if it is turned off.
+     */
+    public String profile() {
+        StringBuilder builder = new StringBuilder();
+        ImmutableArray<EntitySystem> systems = this.getSystems();
+        for (int i = 0; i < systems.size(); i++) {
+            if (systems.get(i) instanceof TimedSystem) {
+                TimedSystem system = (TimedSystem) systems.get(i);
+                builder.append(String.format("%s: %.1fus%s%n", system.getName(), system.getAverageNanos() / 1000f,
+                        system.checkProcessing() ? "" : " (off)"));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Forget the times of every timed system.
+     */
+    public void resetTimes() {
+        ImmutableArray<EntitySystem> systems = this.getSystems();
+        for (int i = 0; i < systems.size(); i++) {
+            if (systems.get(i) instanceof TimedSystem) {
+                ((TimedSystem) systems.get(i)).resetTimes();
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.dragonboatrace.game.systems;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.math.Vector2;
+import com.dragonboatrace.game.entities.Boat;
+import com.dragonboatrace.game.entities.EntityHitbox;
+import com.dragonboatrace.game.entities.PlayerBoat;
+import com.dragonboatrace.game.entities.PowerUp;
+
+/**
+ * Builds the engine entities of a race, and holds the families and component mappers the systems find them with.
+ *
+ * @author Jacob Turner
+ */
+public final class RaceEntities {
+
+    /**
+     * The family of every boat.
+     */
+    public static final Family BOATS = Family.all(TransformComponent.class, VelocityComponent.class,
+            HitboxComponent.class, BoatStatsComponent.class).get();
+    /**
+     * The family of every obstacle.
+     */
+    public static final Family OBSTACLES = Family.all(TransformComponent.class, VelocityComponent.class,
+            HitboxComponent.class, MoverComponent.class, ObstacleComponent.class).get();
+    /**
+     * The family of every power up.
+     */
+    public static final Family POWER_UPS = Family.all(TransformComponent.class, VelocityComponent.class,
+            HitboxComponent.class, PowerUpComponent.class).get();
+
+    /**
+     * Gets the transform of an entity.
+     */
+    public static final ComponentMapper<TransformComponent> TRANSFORM = ComponentMapper.getFor(TransformComponent.class);
+    /**
+     * Gets the velocity of an entity.
+     */
+    public static final ComponentMapper<VelocityComponent> VELOCITY = ComponentMapper.getFor(VelocityComponent.class);
+    /**
+     * Gets the hitbox of an entity.
+     */
+    public static final ComponentMapper<HitboxComponent> HITBOX = ComponentMapper.getFor(HitboxComponent.class);
+    /**
+     * Gets the sprite of an entity.
+     */
+    public static final ComponentMapper<SpriteComponent> SPRITE = ComponentMapper.getFor(SpriteComponent.class);
+    /**
+     * Gets the stats of a boat.
+     */
+    public static final ComponentMapper<BoatStatsComponent> BOAT_STATS = ComponentMapper.getFor(BoatStatsComponent.class);
+    /**
+     * Gets the movement of an obstacle.
+     */
+    public static final ComponentMapper<MoverComponent> MOVER = ComponentMapper.getFor(MoverComponent.class);
+    /**
+     * Gets the type and id of an obstacle.
+     */
+    public static final ComponentMapper<ObstacleComponent> OBSTACLE = ComponentMapper.getFor(ObstacleComponent.class);
+    /**
+     * Gets the power up of an entity.
+     */
+    public static final ComponentMapper<PowerUpComponent> POWER_UP = ComponentMapper.getFor(PowerUpComponent.class);
+
+    private RaceEntities() {
+    }
+
+    /**
+     * Create the entity of a boat, sharing the boat's own vectors, and give it to the boat.
+     *
+     * @param boat The boat.
+     * @return The entity.
+     */
+    public static Entity boat(Boat boat) {
+        Entity entity = new Entity();
+        entity.add(new TransformComponent(boat.getPos(), boat.getPrevPos(), boat.getRenderPos()));
+        entity.add(new VelocityComponent(boat.getVel()));
+        entity.add(new HitboxComponent(boat.getHitbox(), boat.getWeight()));
+        entity.add(new SpriteComponent(boat.getSize(), boat instanceof PlayerBoat));
+        entity.add(new BoatStatsComponent(boat));
+        boat.setEngineEntity(entity);
+        return entity;
+    }
+
+    /**
+     * Create the entity of a power up, sharing the power up's own vectors, and give it to the power up.
+     *
+     * @param power The power up.
+     * @return The entity.
+     */
+    public static Entity powerUp(PowerUp power) {
+        Entity entity = new Entity();
+        entity.add(new TransformComponent(power.getPos(), power.getPrevPos(), power.getRenderPos()));
+        entity.add(new VelocityComponent(power.getVel()));
+        entity.add(new HitboxComponent(power.getHitbox(), power.getWeight()));
+        entity.add(new SpriteComponent(power.getSize(), false));
+        entity.add(new PowerUpComponent(power));
+        power.setEngineEntity(entity);
+        return entity;
+    }
+
+    /**
+     * Create the entity of an obstacle, with vectors of its own. The entity is reused for every obstacle put in
+     * the same slot of a lane, which sets its type, position and velocity.
+     *
+     * @return The entity.
+     */
+    public static Entity obstacle() {
+        Vector2 size = new Vector2();
+        Entity entity = new Entity();
+        entity.add(new TransformComponent());
+        entity.add(new VelocityComponent());
+        entity.add(new HitboxComponent(new EntityHitbox(Vector2.Zero, size), 0));
+        entity.add(new SpriteComponent(size, false));
+        entity.add(new MoverComponent());
+        entity.add(new ObstacleComponent());
+        return entity;
+    }
+}
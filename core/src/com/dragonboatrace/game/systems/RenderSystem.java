@@ -0,0 +1,104 @@
+package com.dragonboatrace.game.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+/**
+ * Draws every entity with a {@link TransformComponent} and a {@link SpriteComponent}, the obstacles first, then the
+ * power ups, then the boats on top.
+ * <p>Drawing happens once a frame rather than once a step, so the system is never run by
+ * {@link Engine#update(float)} and is called by the screen instead.</p>
+ *
+ * @author Jacob Turner
+ */
+public class RenderSystem extends EntitySystem {
+
+    /**
+     * The default priority, after every system that is run in a step.
+     */
+    public static final int PRIORITY = Integer.MAX_VALUE;
+
+    /**
+     * The families drawn, in the order they are drawn in.
+     */
+    private static final Family[] LAYERS = {
+            Family.all(TransformComponent.class, SpriteComponent.class, ObstacleComponent.class).get(),
+            Family.all(TransformComponent.class, SpriteComponent.class, PowerUpComponent.class).get(),
+            Family.all(TransformComponent.class, SpriteComponent.class, BoatStatsComponent.class).get()
+    };
+
+    /**
+     * The entities of each layer in the engine.
+     */
+    @SuppressWarnings("unchecked")
+    private final ImmutableArray<Entity>[] layers = new ImmutableArray[LAYERS.length];
+
+    /**
+     * Creates a system that draws the entities.
+     */
+    public RenderSystem() {
+        super(PRIORITY);
+    }
+
+    /**
+     * Find the entities of each layer when added to an engine.
+     *
+     * @param engine The engine the system was added to.
+     */
+    @Override
+    public void addedToEngine(Engine engine) {
+        for (int i = 0; i < LAYERS.length; i++) {
+            this.layers[i] = engine.getEntitiesFor(LAYERS[i]);
+        }
+    }
+
+    /**
+     * Forget the entities when removed from an engine.
+     *
+     * @param engine The engine the system was removed from.
+     */
+    @Override
+    public void removedFromEngine(Engine engine) {
+        for (int i = 0; i < LAYERS.length; i++) {
+            this.layers[i] = null;
+        }
+    }
+
+    /**
+     * The system is only run by {@link #render(SpriteBatch, float, float)}.
+     *
+     * @return False, so the engine skips it.
+     */
+    @Override
+    public boolean checkProcessing() {
+        return false;
+    }
+
+    /**
+     * Draw every entity that overlaps the view and has its image loaded. The batch must already have begun.
+     *
+     * @param batch      The batch to draw with.
+     * @param viewY      The in-game y-coordinate of the bottom of the view.
+     * @param viewHeight The height of the view.
+     */
+    public void render(SpriteBatch batch, float viewY, float viewHeight) {
+        for (ImmutableArray<Entity> layer : this.layers) {
+            for (int i = 0; i < layer.size(); i++) {
+                Entity entity = layer.get(i);
+                SpriteComponent sprite = RaceEntities.SPRITE.get(entity);
+                if (sprite.region == null) {
+                    continue;
+                }
+                TransformComponent transform = RaceEntities.TRANSFORM.get(entity);
+                float y = sprite.fixed ? transform.render.y : transform.render.y - viewY;
+                if (y < viewHeight && y + sprite.size.y > 0) {
+                    batch.draw(sprite.region, transform.render.x, y, sprite.size.x, sprite.size.y);
+                }
+            }
+        }
+    }
+}
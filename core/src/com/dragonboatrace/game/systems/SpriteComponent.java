@@ -0,0 +1,40 @@
+package com.dragonboatrace.game.systems;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * The image an engine entity is drawn with by the {@link RenderSystem}.
+ * <p>Textures can only be loaded on the render thread, so the region is filled in by the owner of the texture
+ * before the entity is drawn, and an entity with no region yet is not drawn.</p>
+ *
+ * @author Jacob Turner
+ */
+public class SpriteComponent implements Component {
+
+    /**
+     * The image to draw, or null if it has not been loaded.
+     */
+    public TextureRegion region;
+    /**
+     * The size to draw the image at.
+     */
+    public final Vector2 size;
+    /**
+     * If the entity is drawn where it is on the screen rather than relative to the view, as the boat the view
+     * follows is.
+     */
+    public final boolean fixed;
+
+    /**
+     * Creates a sprite with no image loaded yet.
+     *
+     * @param size  The size to draw the image at.
+     * @param fixed If the entity is drawn where it is on the screen rather than relative to the view.
+     */
+    public SpriteComponent(Vector2 size, boolean fixed) {
+        this.size = size;
+        this.fixed = fixed;
+    }
+}
@@ -0,0 +1,98 @@
+package com.dragonboatrace.game.systems;
+
+import com.badlogic.ashley.core.EntitySystem;
+
+/**
+ * A system that times each of its updates, so the cost of every part of a tick can be seen on its own.
+ * <p>Like any {@link EntitySystem} it can be turned off with {@link #setProcessing(boolean)} and is run in order of
+ * its priority.</p>
+ *
+ * @author Jacob Turner
+ */
+public abstract class TimedSystem extends EntitySystem {
+
+    /**
+     * The name the system is shown with when profiling.
+     */
+    private final String name;
+    /**
+     * How long the latest update took, in nanoseconds.
+     */
+    private long lastNanos;
+    /**
+     * How long all the updates since the last reset took, in nanoseconds.
+     */
+    private long totalNanos;
+    /**
+     * The number of updates since the last reset.
+     */
+    private int updates;
+
+    /**
+     * Creates a timed system.
+     *
+     * @param name     The name the system is shown with when profiling.
+     * @param priority The priority of the system, lower priorities are run first.
+     */
+    public TimedSystem(String name, int priority) {
+        super(priority);
+        this.name = name;
+    }
+
+    /**
+     * Run the system for a step, timing how long it takes.
+     *
+     * @param deltaTime The length of the step in seconds.
+     */
+    @Override
+    public final void update(float deltaTime) {
+        long start = System.nanoTime();
+        this.step(deltaTime);
+        this.lastNanos = System.nanoTime() - start;
+        this.totalNanos += this.lastNanos;
+        this.updates++;
+    }
+
+    /**
+     * Run the system for a step.
+     *
+     * @param deltaTime The length of the step in seconds.
+     */
+    protected abstract void step(float deltaTime);
+
+    /**
+     * Get the name the system is shown with when profiling.
+     *
+     * @return The name of the system.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Get how long the latest update took.
+     *
+     * @return The time in nanoseconds.
+     */
+    public long getLastNanos() {
+        return this.lastNanos;
+    }
+
+    /**
+     * Get how long an update has taken on average since the last reset.
+     *
+     * @return The average time in nanoseconds, or 0 if there have been no updates.
+     */
+    public long getAverageNanos() {
+        return this.updates == 0 ? 0 : this.totalNanos / this.updates;
+    }
+
+    /**
+     * Forget the times of the updates so far.
+     */
+    public void resetTimes() {
+        this.lastNanos = 0;
+        this.totalNanos = 0;
+        this.updates = 0;
+    }
+}
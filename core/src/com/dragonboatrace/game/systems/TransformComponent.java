@@ -0,0 +1,59 @@
+package com.dragonboatrace.game.systems;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Where an engine entity is, where it was at the start of the latest step and where it is drawn this frame.
+ * <p>A boat or power up shares these vectors with the object it was made from, so moving either moves both. The
+ * position of the boat the view follows is its position on the screen, every other position is in the race.</p>
+ *
+ * @author Jacob Turner
+ */
+public class TransformComponent implements Component {
+
+    /**
+     * The position at the end of the latest step.
+     */
+    public final Vector2 position;
+    /**
+     * The position at the start of the latest step.
+     */
+    public final Vector2 previous;
+    /**
+     * The position to draw at, between the previous and the current position.
+     */
+    public final Vector2 render;
+
+    /**
+     * Creates a transform at the origin with vectors of its own.
+     */
+    public TransformComponent() {
+        this(new Vector2(), new Vector2(), new Vector2());
+    }
+
+    /**
+     * Creates a transform from existing vectors.
+     *
+     * @param position The position at the end of the latest step.
+     * @param previous The position at the start of the latest step.
+     * @param render   The position to draw at.
+     */
+    public TransformComponent(Vector2 position, Vector2 previous, Vector2 render) {
+        this.position = position;
+        this.previous = previous;
+        this.render = render;
+    }
+
+    /**
+     * Put the entity at a position, with nothing to draw it moving from.
+     *
+     * @param x The x-coordinate.
+     * @param y The y-coordinate.
+     */
+    public void set(float x, float y) {
+        this.position.set(x, y);
+        this.previous.set(x, y);
+        this.render.set(x, y);
+    }
+}
@@ -0,0 +1,33 @@
+package com.dragonboatrace.game.systems;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * How fast an engine entity is moving.
+ *
+ * @author Jacob Turner
+ */
+public class VelocityComponent implements Component {
+
+    /**
+     * The velocity, shared with the object the entity was made from if there is one.
+     */
+    public final Vector2 velocity;
+
+    /**
+     * Creates a velocity of zero with a vector of its own.
+     */
+    public VelocityComponent() {
+        this(new Vector2());
+    }
+
+    /**
+     * Creates a velocity from an existing vector.
+     *
+     * @param velocity The velocity.
+     */
+    public VelocityComponent(Vector2 velocity) {
+        this.velocity = velocity;
+    }
+}
@@ -0,0 +1,69 @@
+package com.dragonboatrace.game.desktop;
+
+import com.dragonboatrace.game.BalanceReport;
+import com.dragonboatrace.game.BalanceRunner;
+import com.dragonboatrace.game.RaceSeed;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Runs a batch of races with no player and no window, and prints how well each boat type did.
+ * <p>Arguments are given as --name=value: races, threads, seed, difficulty, format (csv or json) and output (a
+ * file to write to instead of the console).</p>
+ */
+public class BalanceLauncher {
+	public static void main (String[] arg) throws IOException, InterruptedException {
+		int races = 1000;
+		int threads = Runtime.getRuntime().availableProcessors();
+		long seed = 0;
+		int difficulty = 2;
+		String format = "csv";
+		String output = null;
+		for (String a : arg) {
+			String[] option = a.split("=", 2);
+			if (option.length != 2 || !option[0].startsWith("--")) {
+				throw new IllegalArgumentException("Expected --name=value but got " + a);
+			}
+			String value = option[1];
+			switch (option[0]) {
+				case "--races":
+					races = Integer.parseInt(value);
+					break;
+				case "--threads":
+					threads = Integer.parseInt(value);
+					break;
+				case "--seed":
+					seed = Long.parseLong(value);
+					break;
+				case "--difficulty":
+					difficulty = Integer.parseInt(value);
+					break;
+				case "--format":
+					format = value;
+					break;
+				case "--output":
+					output = value;
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown option " + option[0]);
+			}
+		}
+
+		long start = System.nanoTime();
+		BalanceReport report = new BalanceRunner(races, threads, difficulty, new RaceSeed(seed)).run();
+		long millis = (System.nanoTime() - start) / 1000000;
+
+		String text = format.equals("json") ? report.toJson() + "\n" : report.toCsv();
+		if (output == null) {
+			System.out.print(text);
+		} else {
+			try (Writer writer = new OutputStreamWriter(new FileOutputStream(output), StandardCharsets.UTF_8)) {
+				writer.write(text);
+			}
+		}
+		System.err.println(races + " races on " + threads + " threads in " + millis + " ms");
+	}
+}
@@ -3,10 +3,16 @@ package com.dragonboatrace.game.desktop;
 import com.badlogic.gdx.backends.lwjgl.LwjglApplication;
 import com.badlogic.gdx.backends.lwjgl.LwjglApplicationConfiguration;
 import com.dragonboatrace.game.DragonBoatRace;
+import com.dragonboatrace.game.LaneUpdater;
 import java.awt.Dimension;
 
 public class DesktopLauncher {
 	public static void main (String[] arg) {
+		for (String a : arg) {
+			if (a.equals("--single-threaded")) {
+				System.setProperty(LaneUpdater.SINGLE_THREADED_PROPERTY, "true");
+			}
+		}
 		LwjglApplicationConfiguration config = new LwjglApplicationConfiguration();
 		Dimension dim = java.awt.Toolkit.getDefaultToolkit().getScreenSize();
 		config.width=(int)dim.getWidth();
@@ -0,0 +1,70 @@
+package com.dragonboatrace.game;
+
+import com.badlogic.gdx.math.Vector2;
+import com.dragonboatrace.game.entities.BoatType;
+import com.dragonboatrace.game.systems.RaceEngine;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.lang.management.ManagementFactory;
+
+@RunWith(GdxTestRunner.class)
+public class AllocationTest {
+
+    private static final BoatType[] CPU_TYPES = {BoatType.NORMAL, BoatType.HEAVY, BoatType.LIGHT, BoatType.AGILE};
+
+    private Lane[] lanes;
+    private RaceEngine engine;
+    private final Vector2 relPos = new Vector2();
+    private int powerSteps;
+
+    private void tick(float step) {
+        // Culls, spawns and moves everything in every lane, then collides the boats
+        this.engine.update(step);
+
+        for (Lane lane : this.lanes) {
+            lane.interpolate(0.5f);
+            if (lane.getCurrentPower() != null) {
+                this.powerSteps++;
+            }
+        }
+        this.lanes[0].getBoat().getRelPos(this.lanes[this.lanes.length - 1].getBoat().getInGamePos(), this.relPos);
+    }
+
+    @Test
+    public void tickAllocatesNothingTest() {
+        Assume.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long thread = Thread.currentThread().getId();
+
+        this.lanes = RaceSimulation.createLanes(BoatType.FAST, CPU_TYPES, new RaceSeed(3),
+                RaceSimulation.VIEW_WIDTH, RaceSimulation.VIEW_HEIGHT);
+        for (Lane lane : this.lanes) {
+            lane.updateRound(3, 2);
+        }
+        this.engine = new RaceEngine(this.lanes, new LaneUpdater(1));
+
+        // Let every buffer grow to its working size, and every type of power up spawn, first
+        for (int i = 0; i < 20000; i++) {
+            tick(FixedTimestep.STEP);
+        }
+
+        long empty = threads.getThreadAllocatedBytes(thread);
+        empty = threads.getThreadAllocatedBytes(thread) - empty;
+
+        this.powerSteps = 0;
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 10000; i++) {
+            tick(FixedTimestep.STEP);
+        }
+        long allocated = threads.getThreadAllocatedBytes(thread) - before - empty;
+
+        // Power ups were spawned and dropped while measuring
+        Assert.assertTrue(this.powerSteps > 0);
+        Assert.assertEquals(0, allocated);
+    }
+}
@@ -0,0 +1,83 @@
+package com.dragonboatrace.game;
+
+import com.badlogic.gdx.graphics.Texture;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@RunWith(GdxTestRunner.class)
+public class BackgroundPoolTest {
+
+    private static class TestPool extends BackgroundPool {
+
+        private final List<Texture> loaded = new ArrayList<>();
+        private long frame;
+
+        private TestPool(int maxResident) {
+            super(new String[]{"a", "b", "c"}, maxResident);
+        }
+
+        @Override
+        protected Texture load(String file) {
+            Texture texture = mock(Texture.class);
+            this.loaded.add(texture);
+            return texture;
+        }
+
+        @Override
+        protected long getFrame() {
+            return this.frame;
+        }
+    }
+
+    @Test
+    public void unloadedTextureDisposedNextFrameTest() {
+        TestPool pool = new TestPool(1);
+        // Two tiles drawn in the same frame with room for only one texture
+        Texture first = pool.get(0);
+        pool.get(1);
+        Assert.assertEquals(1, pool.getResidentCount());
+        // The first tile may still be waiting in the batch, so its texture must not be disposed yet
+        verify(first, never()).dispose();
+
+        pool.frame++;
+        pool.get(1);
+        verify(first).dispose();
+        Assert.assertEquals(1, pool.getResidentCount());
+    }
+
+    @Test
+    public void reloadedAfterUnloadTest() {
+        TestPool pool = new TestPool(1);
+        pool.get(0);
+        pool.get(1);
+        Texture reloaded = pool.get(0);
+        Assert.assertEquals(3, pool.loaded.size());
+        Assert.assertSame(reloaded, pool.loaded.get(2));
+
+        // Disposing the pool also disposes the textures waiting for the next frame
+        pool.dispose();
+        for (Texture texture : pool.loaded) {
+            verify(texture).dispose();
+        }
+        Assert.assertEquals(0, pool.getResidentCount());
+    }
+
+    @Test
+    public void noLimitKeepsEverythingTest() {
+        TestPool pool = new TestPool(BackgroundPool.NO_LIMIT);
+        for (int i = 0; i < 3; i++) {
+            pool.frame++;
+            pool.get(i);
+        }
+        Assert.assertEquals(3, pool.getResidentCount());
+        Assert.assertSame(pool.loaded.get(0), pool.get(0));
+    }
+}
@@ -0,0 +1,35 @@
+package com.dragonboatrace.game;
+
+import com.dragonboatrace.game.entities.BoatType;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(GdxTestRunner.class)
+public class BalanceRunnerTest {
+
+    @Test
+    public void sameResultsOnAnyThreadsTest() throws InterruptedException {
+        BalanceReport single = new BalanceRunner(6, 1, 2, new RaceSeed(5)).run();
+        BalanceReport parallel = new BalanceRunner(6, 3, 2, new RaceSeed(5)).run();
+        Assert.assertEquals(single.toCsv(), parallel.toCsv());
+        Assert.assertEquals(single.toJson(), parallel.toJson());
+    }
+
+    @Test
+    public void everyBoatCountedTest() throws InterruptedException {
+        BalanceReport report = new BalanceRunner(4, 2, 1, new RaceSeed(8)).run();
+        Assert.assertEquals(4, report.getRaces());
+        long boats = 0;
+        long wins = 0;
+        for (BoatType type : BoatType.values()) {
+            boats += report.getBoats(type);
+            wins += report.getWins(type);
+            Assert.assertEquals(report.getBoats(type) * RaceSimulation.ROUNDS,
+                    report.getRoundTimes(type).getCount() + report.getDnfRounds(type));
+        }
+        Assert.assertEquals(4 * BalanceRunner.LANES, boats);
+        Assert.assertTrue(wins <= 4);
+        Assert.assertEquals(0, report.getBoats(BoatType.TESTING));
+    }
+}
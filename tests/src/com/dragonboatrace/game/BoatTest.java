@@ -2,6 +2,7 @@ package com.dragonboatrace.game;
 
 import com.badlogic.gdx.math.Vector2;
 import com.dragonboatrace.game.entities.BoatType;
+import com.dragonboatrace.game.entities.EffectType;
 import com.dragonboatrace.game.entities.Obstacle;
 import com.dragonboatrace.game.entities.ObstacleType;
 import com.dragonboatrace.game.entities.PlayerBoat;
@@ -91,6 +92,17 @@ public class BoatTest {
         Assert.assertEquals(velYAfter, velYBefore, 0.0);
     }
 
+    @Test
+    public void noCollideEffectTest() {
+        PlayerBoat boat = new PlayerBoat(BoatType.TESTING, new Vector2(), new Tuple<Float, Float>(0f, 0f));
+        Obstacle obstacle = new Obstacle(ObstacleType.ROCK, new Vector2(), new Vector2());
+        boat.addEffect(EffectType.NOCOLLIDE, 1, 5);
+
+        float healthBefore = boat.getCurrentHealth();
+        boat.checkForCollision(obstacle);
+        Assert.assertEquals(healthBefore, boat.getCurrentHealth(), 0.0);
+    }
+
     @Test
     public void checkFinishedTest(){
         // Check when the boat is finished
@@ -102,13 +114,13 @@ public class BoatTest {
     private void checkFinishedTestFalse() {
         PlayerBoat boat = new PlayerBoat(BoatType.TESTING, new Vector2(), new Tuple<Float, Float>(0f, 0f));
         int finishLine = 1000;
-        Assert.assertFalse(boat.checkFinished(finishLine, 0));
+        Assert.assertFalse(boat.checkFinished(finishLine, new RaceClock()));
     }
 
     private void checkFinishedTestTrue() {
         PlayerBoat boat = new PlayerBoat(BoatType.TESTING, new Vector2(0, 0), new Tuple<Float, Float>(0f, 0f));
         int finishLine = 1000;
         boat.setDistanceTravelled((float) finishLine);
-        Assert.assertTrue(boat.checkFinished(finishLine, 0));
+        Assert.assertTrue(boat.checkFinished(finishLine, new RaceClock()));
     }
 }
@@ -0,0 +1,100 @@
+package com.dragonboatrace.game;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.JsonReader;
+import com.dragonboatrace.game.entities.BoatType;
+import com.dragonboatrace.game.entities.EffectScheduler;
+import com.dragonboatrace.game.entities.EffectType;
+import com.dragonboatrace.game.entities.PlayerBoat;
+import com.dragonboatrace.game.entities.PowerUp;
+import com.dragonboatrace.game.entities.PowerUpType;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(GdxTestRunner.class)
+public class EffectSchedulerTest {
+
+    @Test
+    public void stackingEffectsTest() {
+        EffectScheduler effects = new EffectScheduler();
+        effects.add(EffectType.SPEED, 10, 3);
+        effects.add(EffectType.SPEED, 5, 1);
+        Assert.assertEquals(15, effects.getTotal(EffectType.SPEED), 0);
+
+        Assert.assertTrue(effects.advance());
+        Assert.assertEquals(10, effects.getTotal(EffectType.SPEED), 0);
+        Assert.assertFalse(effects.advance());
+        Assert.assertTrue(effects.advance());
+        Assert.assertFalse(effects.isActive(EffectType.SPEED));
+        Assert.assertEquals(0, effects.size());
+    }
+
+    @Test
+    public void refreshingEffectsTest() {
+        EffectScheduler effects = new EffectScheduler();
+        effects.add(EffectType.NOCOLLIDE, 1, 2);
+        effects.advance();
+        effects.add(EffectType.NOCOLLIDE, 1, 2);
+        Assert.assertEquals(1, effects.size());
+        Assert.assertEquals(2, effects.getRemaining(EffectType.NOCOLLIDE));
+        effects.advance();
+        Assert.assertTrue(effects.isActive(EffectType.NOCOLLIDE));
+        effects.advance();
+        Assert.assertFalse(effects.isActive(EffectType.NOCOLLIDE));
+    }
+
+    @Test
+    public void noCollideEndsAfterDurationTest() {
+        PlayerBoat boat = new PlayerBoat(BoatType.TESTING, new Vector2(), new Tuple<Float, Float>(0f, 500f));
+        new PowerUp(PowerUpType.NOCOLLIDE, new Vector2(), new Vector2()).applyEffect(boat);
+        int ticks = EffectScheduler.toTicks(PowerUpType.NOCOLLIDE.getDuration());
+        for (int i = 0; i < ticks - 1; i++) {
+            boat.updateEffects();
+        }
+        Assert.assertTrue(boat.getNoCollide());
+        boat.updateEffects();
+        Assert.assertFalse(boat.getNoCollide());
+    }
+
+    @Test
+    public void effectsSavedTest() {
+        PlayerBoat boat = new PlayerBoat(BoatType.TESTING, new Vector2(), new Tuple<Float, Float>(0f, 500f));
+        new PowerUp(PowerUpType.AGILITY, new Vector2(), new Vector2()).applyEffect(boat);
+        new PowerUp(PowerUpType.NOCOLLIDE, new Vector2(), new Vector2()).applyEffect(boat);
+        for (int i = 0; i < 60; i++) {
+            boat.updateEffects();
+        }
+
+        PlayerBoat loaded = new PlayerBoat(new JsonReader().parse(boat.save()));
+        Assert.assertEquals(boat.save(), loaded.save());
+        Assert.assertEquals(boat.getCurrentHandling(), loaded.getCurrentHandling(), 0);
+        Assert.assertTrue(loaded.getNoCollide());
+        Assert.assertEquals(boat.getEffects().getRemaining(EffectType.AGILITY),
+                loaded.getEffects().getRemaining(EffectType.AGILITY));
+    }
+
+    @Test
+    public void agilityLastsTheRoundTest() {
+        PlayerBoat boat = new PlayerBoat(BoatType.TESTING, new Vector2(), new Tuple<Float, Float>(0f, 500f));
+        float handling = boat.getCurrentHandling();
+        new PowerUp(PowerUpType.AGILITY, new Vector2(), new Vector2()).applyEffect(boat);
+        for (int i = 0; i < EffectScheduler.toTicks(600); i++) {
+            boat.updateEffects();
+        }
+        Assert.assertEquals(handling + PowerUpType.AGILITY.getEffect(), boat.getCurrentHandling(), 0);
+
+        boat.moveToStart();
+        Assert.assertEquals(handling, boat.getCurrentHandling(), 0);
+    }
+
+    @Test
+    public void speedIsInstantTest() {
+        PlayerBoat boat = new PlayerBoat(BoatType.TESTING, new Vector2(), new Tuple<Float, Float>(0f, 500f));
+        float topSpeed = boat.getTopSpeed();
+        new PowerUp(PowerUpType.SPEED, new Vector2(), new Vector2()).applyEffect(boat);
+        Assert.assertEquals(PowerUpType.SPEED.getEffect(), boat.getVel().y, 0);
+        Assert.assertEquals(topSpeed, boat.getTopSpeed(), 0);
+        Assert.assertEquals(0, boat.getEffects().size());
+    }
+}
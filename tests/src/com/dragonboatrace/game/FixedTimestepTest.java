@@ -0,0 +1,50 @@
+package com.dragonboatrace.game;
+
+import com.badlogic.gdx.math.Vector2;
+import com.dragonboatrace.game.entities.Obstacle;
+import com.dragonboatrace.game.entities.ObstacleType;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(GdxTestRunner.class)
+public class FixedTimestepTest {
+
+    @Test
+    public void stepsAccumulateTest() {
+        FixedTimestep timestep = new FixedTimestep(0.1f, 5);
+
+        // Less than a step runs nothing but is remembered
+        Assert.assertEquals(0, timestep.advance(0.05f));
+        Assert.assertEquals(0.5f, timestep.getAlpha(), 0.001);
+
+        // The remembered time makes up a step with the next frame
+        Assert.assertEquals(1, timestep.advance(0.07f));
+        Assert.assertEquals(0.2f, timestep.getAlpha(), 0.001);
+
+        Assert.assertEquals(2, timestep.advance(0.2f));
+    }
+
+    @Test
+    public void stepsCappedTest() {
+        FixedTimestep timestep = new FixedTimestep(0.1f, 5);
+
+        // A long hitch only runs the maximum steps and drops the rest
+        Assert.assertEquals(5, timestep.advance(3f));
+        Assert.assertEquals(0f, timestep.getAlpha(), 0.001);
+    }
+
+    @Test
+    public void interpolateTest() {
+        Obstacle obstacle = new Obstacle(ObstacleType.ROCK, new Vector2(0, 0), new Vector2(0, 0));
+        obstacle.storePreviousPosition();
+        obstacle.getPos().add(10, 20);
+        obstacle.getInGamePos().add(10, 20);
+
+        obstacle.interpolate(0.5f);
+        Assert.assertEquals(new Vector2(5, 10), obstacle.getRenderInGamePos());
+
+        obstacle.resetInterpolation();
+        Assert.assertEquals(new Vector2(10, 20), obstacle.getRenderInGamePos());
+    }
+}
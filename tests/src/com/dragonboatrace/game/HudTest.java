@@ -0,0 +1,57 @@
+package com.dragonboatrace.game;
+
+import com.badlogic.gdx.math.Vector2;
+import com.dragonboatrace.game.entities.BoatType;
+import com.dragonboatrace.game.entities.PlayerBoat;
+import com.dragonboatrace.game.screens.Hud;
+import com.dragonboatrace.game.screens.HudData;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(GdxTestRunner.class)
+public class HudTest {
+
+    @Test
+    public void hudDataFractionsTest() {
+        PlayerBoat boat = new PlayerBoat(BoatType.TESTING, new Vector2(), new Tuple<Float, Float>(0f, 500f));
+        boat.setDistanceTravelled(250);
+        boat.setCurrentHealth(BoatType.TESTING.getMaxHealth() / 2);
+        boat.setCurrentStamina(boat.getMaxStamina() / 4);
+
+        HudData data = new HudData();
+        data.update(boat, 1000);
+
+        Assert.assertEquals(0.25f, data.distance, 0.0001);
+        Assert.assertEquals(0.5f, data.health, 0.0001);
+        Assert.assertEquals(0.25f, data.stamina, 0.0001);
+        Assert.assertEquals(0f, data.speed, 0.0001);
+    }
+
+    @Test
+    public void hudDataClampedTest() {
+        PlayerBoat boat = new PlayerBoat(BoatType.TESTING, new Vector2(), new Tuple<Float, Float>(0f, 500f));
+        boat.setDistanceTravelled(2000);
+        boat.increaseYVelocity(BoatType.TESTING.getSpeed() * 3);
+
+        HudData data = new HudData();
+        data.update(boat, 1000);
+
+        // Bars should never be drawn past their outline
+        Assert.assertEquals(1f, data.distance, 0.0);
+        Assert.assertEquals(1f, data.speed, 0.0);
+    }
+
+    @Test
+    public void hudResizeTest() {
+        Hud hud = new Hud(1000, 500);
+        Assert.assertEquals(20f, hud.getBarX(), 0.0001);
+        Assert.assertEquals(200f, hud.getBarWidth(), 0.0001);
+        Assert.assertEquals(480f, hud.getBarY(0), 0.0001);
+
+        hud.resize(2000, 1000);
+        Assert.assertEquals(40f, hud.getBarX(), 0.0001);
+        Assert.assertEquals(400f, hud.getBarWidth(), 0.0001);
+        Assert.assertEquals(840f, hud.getBarY(3), 0.0001);
+    }
+}
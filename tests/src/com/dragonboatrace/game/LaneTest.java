@@ -3,6 +3,8 @@ package com.dragonboatrace.game;
 import com.badlogic.gdx.math.Vector2;
 import com.dragonboatrace.game.entities.BoatType;
 import com.dragonboatrace.game.entities.CPUBoat;
+import com.dragonboatrace.game.entities.Obstacle;
+import com.dragonboatrace.game.entities.ObstacleType;
 import com.dragonboatrace.game.entities.PlayerBoat;
 import org.junit.Assert;
 import org.junit.Test;
@@ -48,4 +50,29 @@ public class LaneTest {
         Lane lane = new Lane(new PlayerBoat(BoatType.TESTING, new Vector2(), new Tuple<Float, Float>(0f, 0f)), null);
         Assert.assertTrue(lane.isPlayerLane);
     }
+
+    @Test
+    public void obstaclesKeptInOrderTest() {
+        Lane lane = new Lane(null, null);
+        float[] ys = {300, 100, 500, 200, 400};
+        for (float y : ys) {
+            lane.addObstacle(new Obstacle(ObstacleType.TESTING, new Vector2(0, y), new Vector2()));
+        }
+        ObstacleStore store = lane.getObstacleStore();
+        for (int i = 1; i < store.size(); i++) {
+            Assert.assertTrue(store.getY(store.slot(i - 1)) <= store.getY(store.slot(i)));
+        }
+    }
+
+    @Test
+    public void findFirstObstacleAboveTest() {
+        Lane lane = new Lane(null, null);
+        for (int i = 0; i < 10; i++) {
+            lane.addObstacle(new Obstacle(ObstacleType.TESTING, new Vector2(0, i * 100), new Vector2()));
+        }
+        Assert.assertEquals(0, lane.findFirstObstacleAbove(-50));
+        Assert.assertEquals(3, lane.findFirstObstacleAbove(300));
+        Assert.assertEquals(4, lane.findFirstObstacleAbove(350));
+        Assert.assertEquals(10, lane.findFirstObstacleAbove(5000));
+    }
 }
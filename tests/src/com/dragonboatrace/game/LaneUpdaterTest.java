@@ -0,0 +1,95 @@
+package com.dragonboatrace.game;
+
+import com.badlogic.gdx.math.Vector2;
+import com.dragonboatrace.game.entities.BoatType;
+import com.dragonboatrace.game.entities.CPUBoat;
+import com.dragonboatrace.game.entities.PlayerBoat;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(GdxTestRunner.class)
+public class LaneUpdaterTest {
+
+    private Lane[] createLanes(int count, RaceSeed seed) {
+        PlayerBoat player = new PlayerBoat(BoatType.TESTING, new Vector2(0, 0), new Tuple<Float, Float>(0f, 200f));
+        Lane[] lanes = new Lane[count];
+        lanes[0] = new Lane(player, player);
+        for (int i = 1; i < count; i++) {
+            CPUBoat cpu = new CPUBoat(BoatType.TESTING, new Vector2(i * 200 + 50, 0), new Tuple<Float, Float>(i * 200f, i * 200f + 200));
+            lanes[i] = new Lane(cpu, player);
+        }
+        for (int i = 0; i < count; i++) {
+            lanes[i].setSeed(seed, i);
+            lanes[i].updateRound(1, 1);
+        }
+        return lanes;
+    }
+
+    private void updateEveryLaneTest(LaneUpdater updater) {
+        Lane[] lanes = createLanes(6, new RaceSeed(1));
+        for (int i = 0; i < 120; i++) {
+            updater.update(lanes, FixedTimestep.STEP);
+        }
+        updater.dispose();
+
+        for (int i = 0; i < lanes.length; i++) {
+            Assert.assertTrue(lanes[i].getObstacleStore().size() > 0);
+            if (!lanes[i].isPlayerLane) {
+                Assert.assertTrue(lanes[i].getBoatGamePos().y > 0);
+            }
+        }
+    }
+
+    @Test
+    public void parallelUpdatesEveryLaneTest() {
+        LaneUpdater updater = new LaneUpdater(4);
+        Assert.assertTrue(updater.isParallel());
+        updateEveryLaneTest(updater);
+    }
+
+    @Test
+    public void singleThreadedUpdatesEveryLaneTest() {
+        LaneUpdater updater = new LaneUpdater(1);
+        Assert.assertFalse(updater.isParallel());
+        updateEveryLaneTest(updater);
+    }
+
+    @Test
+    public void sameSeedSameRaceTest() {
+        Lane[] single = createLanes(6, new RaceSeed(1234));
+        Lane[] parallel = createLanes(6, new RaceSeed(1234));
+        LaneUpdater singleUpdater = new LaneUpdater(1);
+        LaneUpdater parallelUpdater = new LaneUpdater(4);
+        for (int i = 0; i < 600; i++) {
+            singleUpdater.update(single, FixedTimestep.STEP);
+            parallelUpdater.update(parallel, FixedTimestep.STEP);
+        }
+        parallelUpdater.dispose();
+
+        for (int i = 0; i < single.length; i++) {
+            ObstacleStore expected = single[i].getObstacleStore();
+            ObstacleStore actual = parallel[i].getObstacleStore();
+            Assert.assertEquals(expected.size(), actual.size());
+            for (int j = 0; j < expected.size(); j++) {
+                Assert.assertEquals(expected.getType(expected.slot(j)), actual.getType(actual.slot(j)));
+                Assert.assertEquals(expected.getX(expected.slot(j)), actual.getX(actual.slot(j)), 0);
+                Assert.assertEquals(expected.getY(expected.slot(j)), actual.getY(actual.slot(j)), 0);
+            }
+            Assert.assertEquals(single[i].getBoatGamePos(), parallel[i].getBoatGamePos());
+            Assert.assertEquals(single[i].save(), parallel[i].save());
+        }
+    }
+
+    @Test
+    public void differentSeedDifferentRaceTest() {
+        Lane[] first = createLanes(2, new RaceSeed(1));
+        Lane[] second = createLanes(2, new RaceSeed(2));
+        LaneUpdater updater = new LaneUpdater(1);
+        for (int i = 0; i < 60; i++) {
+            updater.update(first, FixedTimestep.STEP);
+            updater.update(second, FixedTimestep.STEP);
+        }
+        Assert.assertNotEquals(first[1].save(), second[1].save());
+    }
+}
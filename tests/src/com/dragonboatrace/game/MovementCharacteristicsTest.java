@@ -0,0 +1,60 @@
+package com.dragonboatrace.game;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(GdxTestRunner.class)
+public class MovementCharacteristicsTest {
+
+    @Test
+    public void tablesMatchMathTest() {
+        for (int angle = -45; angle <= 45; angle++) {
+            Assert.assertEquals(Math.cos(Math.toRadians(angle)), MovementCharacteristics.cosDeg(angle), 0.0001);
+            Assert.assertEquals(Math.sin(Math.toRadians(angle)), MovementCharacteristics.sinDeg(angle), 0.0001);
+        }
+    }
+
+    @Test
+    public void wanderStateNotSharedTest() {
+        Vector2 first = new Vector2(0, 10);
+        Vector2 second = new Vector2(0, 10);
+
+        // The first wanderer is due to turn, the second still has time left
+        RandomXS128 random = new RandomXS128(1);
+        float firstDelay = MovementCharacteristics.WANDER.updateVel(0.1f, 0, first, random);
+        float secondDelay = MovementCharacteristics.WANDER.updateVel(0.1f, 10, second, random);
+
+        Assert.assertTrue(firstDelay >= 0.5f && firstDelay <= 2);
+        Assert.assertEquals(9.9f, secondDelay, 0.0001);
+        Assert.assertEquals(new Vector2(0, 10), second);
+        // Turning never changes the speed
+        Assert.assertEquals(10, first.len(), 0.001);
+    }
+
+    @Test
+    public void staticNeverTurnsTest() {
+        Vector2 vel = new Vector2(3, 4);
+        MovementCharacteristics.STATIC.updateVel(1, 0, vel, new RandomXS128(1));
+        Assert.assertFalse(MovementCharacteristics.STATIC.turns());
+        Assert.assertEquals(new Vector2(3, 4), vel);
+    }
+
+    @Test
+    public void sameStreamSameTurnsTest() {
+        Vector2 first = new Vector2(0, 10);
+        Vector2 second = new Vector2(0, 10);
+        RandomXS128 firstRandom = new RandomXS128(42);
+        RandomXS128 secondRandom = new RandomXS128(42);
+        float firstDelay = 0;
+        float secondDelay = 0;
+        for (int i = 0; i < 1000; i++) {
+            firstDelay = MovementCharacteristics.WANDER.updateVel(0.1f, firstDelay, first, firstRandom);
+            secondDelay = MovementCharacteristics.WANDER.updateVel(0.1f, secondDelay, second, secondRandom);
+        }
+        Assert.assertEquals(firstDelay, secondDelay, 0);
+        Assert.assertEquals(first, second);
+    }
+}
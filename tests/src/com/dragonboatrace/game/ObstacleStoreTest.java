@@ -0,0 +1,68 @@
+package com.dragonboatrace.game;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.dragonboatrace.game.entities.ObstacleType;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(GdxTestRunner.class)
+public class ObstacleStoreTest {
+
+    @Test
+    public void slotsReusedTest() {
+        ObstacleStore store = new ObstacleStore(2);
+        int first = store.add(ObstacleType.ROCK, 0, 100, 0, 0);
+        store.add(ObstacleType.BUOY, 0, 200, 0, 0);
+        store.removeAt(0);
+        Assert.assertEquals(1, store.size());
+
+        // The removed obstacle's slot is given to the next one, with a new id
+        int firstId = store.getId(first);
+        int reused = store.add(ObstacleType.DUCK, 10, 50, 0, 0);
+        Assert.assertEquals(first, reused);
+        Assert.assertNotEquals(firstId, store.getId(reused));
+        Assert.assertEquals(ObstacleType.DUCK, store.getType(reused));
+        Assert.assertEquals(reused, store.slot(0));
+    }
+
+    @Test
+    public void equalStoresHashTheSameTest() {
+        // Different slots and ids, but the same obstacles in the same order
+        ObstacleStore first = new ObstacleStore(2);
+        first.add(ObstacleType.ROCK, 0, 300, 0, 0);
+        first.add(ObstacleType.BUOY, -0f, 100, 1, -2);
+        ObstacleStore second = new ObstacleStore(4);
+        second.add(ObstacleType.BUOY, 0, 100, 1, -2);
+        second.add(ObstacleType.ROCK, 0, 300, 0, 0);
+        Assert.assertEquals(first, second);
+        Assert.assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    public void growsWhenFullTest() {
+        ObstacleStore store = new ObstacleStore(1);
+        for (int i = 0; i < 10; i++) {
+            store.add(ObstacleType.ROCK, 0, 1000 - i * 100, 0, 0);
+        }
+        Assert.assertEquals(10, store.size());
+        for (int i = 1; i < store.size(); i++) {
+            Assert.assertTrue(store.getY(store.slot(i - 1)) <= store.getY(store.slot(i)));
+        }
+    }
+
+    @Test
+    public void updateMovesAndSortsTest() {
+        ObstacleStore store = new ObstacleStore(4);
+        int still = store.add(ObstacleType.ROCK, 0, 100, 0, 0);
+        int moving = store.add(ObstacleType.BRANCH, 0, 90, 0, 100);
+        store.update(1 / 60f, new RandomXS128(1));
+        Assert.assertEquals(100, store.getY(still), 0.001);
+        Assert.assertEquals(90 + 100 * ObstacleStore.DAMPENING, store.getY(moving), 0.001);
+
+        // The moving obstacle is now above the still one
+        store.sort();
+        Assert.assertEquals(still, store.slot(0));
+        Assert.assertEquals(moving, store.slot(1));
+    }
+}
@@ -1,5 +1,6 @@
 package com.dragonboatrace.game;
 
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Vector2;
 import com.dragonboatrace.game.entities.BoatType;
 import com.dragonboatrace.game.entities.PlayerBoat;
@@ -93,4 +94,17 @@ public class PowerUpTest {
         PowerUp invalidPower = new PowerUp(PowerUpType.TESTING, new Vector2(), new Vector2());
         invalidPower.applyEffect(boat);
     }
+
+    @Test
+    public void resetPowerUpTest() {
+        PowerUp used = new PowerUp(PowerUpType.SPEED, new Vector2(5, 5), new Vector2(1, -1));
+        used.move(1);
+        used.update(1);
+
+        used.reset(new Vector2(100, 300), new Vector2(2, -3), new RandomXS128(1));
+        PowerUp fresh = new PowerUp(PowerUpType.SPEED, new Vector2(100, 300), new Vector2(2, -3));
+        Assert.assertEquals(fresh, used);
+        Assert.assertEquals(fresh.getHitbox().getPosition(), used.getHitbox().getPosition());
+        Assert.assertEquals(fresh.getRenderInGamePos(), used.getRenderInGamePos());
+    }
 }
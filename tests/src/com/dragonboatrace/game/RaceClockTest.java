@@ -0,0 +1,42 @@
+package com.dragonboatrace.game;
+
+import com.badlogic.gdx.math.Vector2;
+import com.dragonboatrace.game.entities.BoatType;
+import com.dragonboatrace.game.entities.PlayerBoat;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(GdxTestRunner.class)
+public class RaceClockTest {
+
+    @Test
+    public void crossingInterpolatedTest() {
+        RaceClock clock = new RaceClock(0.1f);
+        clock.setTicks(10);
+        // A quarter of the way through the tenth step
+        Assert.assertEquals(925, clock.getCrossingMillis(100, 140, 110));
+        Assert.assertEquals(1000, clock.getCrossingMillis(100, 140, 140));
+        Assert.assertEquals(1000, clock.getCrossingMillis(100, 100, 100));
+    }
+
+    @Test
+    public void finishTimeFromStepsTest() {
+        PlayerBoat boat = new PlayerBoat(BoatType.TESTING, new Vector2(), new Tuple<Float, Float>(0f, 500f));
+        RaceClock clock = new RaceClock();
+        boat.setDistanceTravelled(990);
+        for (int i = 0; i < 120; i++) {
+            clock.advance();
+        }
+        boat.storePreviousPosition();
+        boat.setDistanceTravelled(1010);
+        Assert.assertTrue(boat.checkFinished(1000, clock));
+        // Half way through the 120th step
+        Assert.assertEquals(Math.round(119.5 * FixedTimestep.STEP * 1000), boat.getFinishTimeLong());
+
+        // Later steps don't change the time
+        clock.advance();
+        Assert.assertTrue(boat.checkFinished(1000, clock));
+        Assert.assertEquals(Math.round(119.5 * FixedTimestep.STEP * 1000), boat.getFinishTimeLong());
+    }
+}
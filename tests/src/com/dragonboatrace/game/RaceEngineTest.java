@@ -0,0 +1,104 @@
+package com.dragonboatrace.game;
+
+import com.badlogic.gdx.math.Vector2;
+import com.dragonboatrace.game.entities.BoatType;
+import com.dragonboatrace.game.entities.CPUBoat;
+import com.dragonboatrace.game.entities.PlayerBoat;
+import com.dragonboatrace.game.systems.ClockSystem;
+import com.dragonboatrace.game.systems.CollisionSystem;
+import com.dragonboatrace.game.systems.BoatMovementSystem;
+import com.dragonboatrace.game.systems.CpuSteeringSystem;
+import com.dragonboatrace.game.systems.ObstacleMovementSystem;
+import com.dragonboatrace.game.systems.PowerUpSystem;
+import com.dragonboatrace.game.systems.RaceEngine;
+import com.dragonboatrace.game.systems.RaceEntities;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(GdxTestRunner.class)
+public class RaceEngineTest {
+
+    private Lane[] createLanes() {
+        PlayerBoat player = new PlayerBoat(BoatType.TESTING, new Vector2(0, 0), new Tuple<Float, Float>(0f, 200f));
+        CPUBoat cpu = new CPUBoat(BoatType.TESTING, new Vector2(250, 0), new Tuple<Float, Float>(200f, 400f));
+        Lane[] lanes = {new Lane(player, player), new Lane(cpu, player)};
+        for (Lane lane : lanes) {
+            lane.updateRound(0, 1);
+        }
+        return lanes;
+    }
+
+    @Test
+    public void lanesKeptInOrderTest() {
+        Lane[] lanes = createLanes();
+        RaceEngine engine = new RaceEngine(lanes, new LaneUpdater(1));
+        Assert.assertArrayEquals(lanes, engine.getSystem(ObstacleMovementSystem.class).getLanes());
+    }
+
+    @Test
+    public void entitiesFollowTheLanesTest() {
+        Lane[] lanes = createLanes();
+        RaceEngine engine = new RaceEngine(lanes, new LaneUpdater(1));
+        Assert.assertEquals(2, engine.getEntitiesFor(RaceEntities.BOATS).size());
+        for (int i = 0; i < 120; i++) {
+            engine.update(FixedTimestep.STEP);
+            int obstacles = lanes[0].getObstacleStore().size() + lanes[1].getObstacleStore().size();
+            Assert.assertEquals(obstacles, engine.getEntitiesFor(RaceEntities.OBSTACLES).size());
+            int powers = (lanes[0].getCurrentPower() != null ? 1 : 0) + (lanes[1].getCurrentPower() != null ? 1 : 0);
+            Assert.assertEquals(powers, engine.getEntitiesFor(RaceEntities.POWER_UPS).size());
+        }
+
+        // The lanes can only be raced in one engine at a time
+        RaceEngine next = new RaceEngine(lanes, new LaneUpdater(1));
+        Assert.assertEquals(0, engine.getEntitiesFor(RaceEntities.OBSTACLES).size());
+        Assert.assertEquals(2, next.getEntitiesFor(RaceEntities.BOATS).size());
+        next.release();
+        Assert.assertEquals(0, next.getEntities().size());
+    }
+
+    @Test
+    public void disabledSystemIsSkippedTest() {
+        Lane[] lanes = createLanes();
+        RaceEngine engine = new RaceEngine(lanes, new LaneUpdater(1));
+        engine.getSystem(BoatMovementSystem.class).setProcessing(false);
+        for (int i = 0; i < 60; i++) {
+            engine.update(FixedTimestep.STEP);
+        }
+        Assert.assertEquals(0, lanes[1].getBoatGamePos().y, 0);
+        Assert.assertEquals(0, engine.getSystem(BoatMovementSystem.class).getAverageNanos());
+        // The obstacles still move and spawn with the boats turned off
+        Assert.assertTrue(engine.getSystem(ObstacleMovementSystem.class).getAverageNanos() > 0);
+        Assert.assertTrue(lanes[1].getObstacleStore().size() > 0);
+        Assert.assertTrue(engine.getSystem(CollisionSystem.class).getAverageNanos() > 0);
+
+        engine.getSystem(BoatMovementSystem.class).setProcessing(true);
+        for (int i = 0; i < 60; i++) {
+            engine.update(FixedTimestep.STEP);
+        }
+        Assert.assertTrue(lanes[1].getBoatGamePos().y > 0);
+    }
+
+    @Test
+    public void reorderSystemTest() {
+        RaceEngine engine = new RaceEngine(createLanes(), new LaneUpdater(1));
+        // The clock always comes first
+        Assert.assertTrue(engine.getSystems().get(0) instanceof ClockSystem);
+        Assert.assertTrue(engine.getSystems().get(1) instanceof ObstacleMovementSystem);
+        Assert.assertTrue(engine.getSystems().get(2) instanceof PowerUpSystem);
+        Assert.assertTrue(engine.getSystems().get(3) instanceof CpuSteeringSystem);
+        Assert.assertTrue(engine.getSystems().get(4) instanceof BoatMovementSystem);
+        engine.reorder(engine.getSystem(CollisionSystem.class), ObstacleMovementSystem.PRIORITY - 1);
+        Assert.assertTrue(engine.getSystems().get(1) instanceof CollisionSystem);
+    }
+
+    @Test
+    public void clockCountsStepsTest() {
+        RaceEngine engine = new RaceEngine(createLanes(), new LaneUpdater(1));
+        for (int i = 0; i < 90; i++) {
+            engine.update(FixedTimestep.STEP);
+        }
+        Assert.assertEquals(90, engine.getClock().getTicks());
+        Assert.assertEquals(1500, engine.getClock().getMillis());
+    }
+}
@@ -0,0 +1,54 @@
+package com.dragonboatrace.game;
+
+import com.dragonboatrace.game.entities.BoatType;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(GdxTestRunner.class)
+public class RaceSimulationTest {
+
+    private static final BoatType[] CPU_TYPES = {BoatType.NORMAL, BoatType.HEAVY, BoatType.LIGHT,
+            BoatType.AGILE, BoatType.STRONG, BoatType.NORMAL};
+
+    private RaceSimulation runRace(long seed, LaneUpdater updater) {
+        RaceSimulation race = new RaceSimulation(BoatType.FAST, CPU_TYPES, 1, new RaceSeed(seed), PlayerInput.FORWARD, updater);
+        race.run();
+        return race;
+    }
+
+    @Test
+    public void everyRoundRunTest() {
+        RaceSimulation race = runRace(7, new LaneUpdater(1));
+        Assert.assertEquals(7, race.getLanes().length);
+        for (int lane = 0; lane < race.getLanes().length; lane++) {
+            long total = 0;
+            boolean finishedAll = true;
+            for (int round = 0; round < RaceSimulation.ROUNDS; round++) {
+                long time = race.getRoundTime(lane, round);
+                Assert.assertTrue(time == -1 || time > 0);
+                total += Math.max(time, 0);
+                finishedAll &= time >= 0;
+            }
+            if (finishedAll) {
+                // Timer power ups take time off the total
+                Assert.assertTrue(race.getTotalTime(lane) >= 0 && race.getTotalTime(lane) <= total);
+            } else {
+                Assert.assertEquals(-1, race.getTotalTime(lane));
+            }
+        }
+        // The player only ever paddles forward, so always finishes
+        for (int round = 0; round < RaceSimulation.ROUNDS; round++) {
+            Assert.assertTrue(race.getRoundTime(6, round) > 0);
+        }
+    }
+
+    @Test
+    public void sameSeedSameResultsTest() {
+        LaneUpdater parallel = new LaneUpdater(4);
+        String first = runRace(99, new LaneUpdater(1)).report();
+        String second = runRace(99, parallel).report();
+        parallel.dispose();
+        Assert.assertEquals(first, second);
+    }
+}
@@ -0,0 +1,82 @@
+package com.dragonboatrace.game;
+
+import com.dragonboatrace.game.entities.BoatType;
+import com.dragonboatrace.game.entities.PlayerBoat;
+import com.dragonboatrace.game.screens.Finale;
+import com.dragonboatrace.game.systems.RaceEngine;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@RunWith(GdxTestRunner.class)
+public class RoundFinisherTest {
+
+    private static final BoatType[] CPU_TYPES = {BoatType.NORMAL, BoatType.HEAVY, BoatType.LIGHT};
+    private static final int FINISH_LINE = 3000;
+
+    private long[] finishRound(ExecutorService executor) throws InterruptedException {
+        Lane[] lanes = RaceSimulation.createLanes(BoatType.FAST, CPU_TYPES, new RaceSeed(11),
+                RaceSimulation.VIEW_WIDTH, RaceSimulation.VIEW_HEIGHT);
+        for (Lane lane : lanes) {
+            lane.updateRound(0, 1);
+        }
+        RaceEngine engine = new RaceEngine(lanes, new LaneUpdater(1));
+        for (int i = 0; i < 300; i++) {
+            engine.update(FixedTimestep.STEP);
+        }
+
+        Lane player = lanes[lanes.length - 1];
+        RoundFinisher finisher = new RoundFinisher(executor, lanes, player.getBoat(), FINISH_LINE, engine.getClock());
+        Assert.assertEquals(CPU_TYPES.length, finisher.getRemaining());
+        finisher.await();
+        Assert.assertTrue(finisher.isReady());
+
+        long[] times = new long[CPU_TYPES.length];
+        for (int i = 0; i < times.length; i++) {
+            times[i] = lanes[i].getBoatFinishTimeLong();
+            Assert.assertTrue(times[i] > engine.getClock().getMillis());
+            // The lanes follow the player again
+            Assert.assertEquals(player.getPlayerY(), lanes[i].getPlayerY(), 0);
+        }
+        return times;
+    }
+
+    @Test
+    public void remainingBoatsGivenTimesTest() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        long[] first = finishRound(executor);
+        long[] second = finishRound(executor);
+        executor.shutdown();
+        Assert.assertArrayEquals(first, second);
+    }
+
+    @Test
+    public void finalRoundRanksEveryBoatTest() throws InterruptedException {
+        Lane[] lanes = RaceSimulation.createLanes(BoatType.FAST, CPU_TYPES, new RaceSeed(11),
+                RaceSimulation.VIEW_WIDTH, RaceSimulation.VIEW_HEIGHT);
+        for (Lane lane : lanes) {
+            lane.updateRound(3, 1);
+        }
+        RaceEngine engine = new RaceEngine(lanes, new LaneUpdater(1));
+        for (int i = 0; i < 300; i++) {
+            engine.update(FixedTimestep.STEP);
+        }
+
+        // The player crosses the line first, so no cpu boat may be left without a time
+        PlayerBoat player = (PlayerBoat) lanes[lanes.length - 1].getBoat();
+        player.setFinishTime(engine.getClock().getMillis());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        RoundFinisher finisher = new RoundFinisher(executor, lanes, player, FINISH_LINE, engine.getClock());
+        Finale finale = new Finale(null, lanes, player, finisher);
+        finisher.await();
+        executor.shutdown();
+
+        for (int i = 0; i < CPU_TYPES.length; i++) {
+            Assert.assertTrue(lanes[i].getBoatFinishTimeLong() > player.getFinishTimeLong());
+        }
+        Assert.assertEquals(1, finale.getPlayerPositions()[0]);
+    }
+}
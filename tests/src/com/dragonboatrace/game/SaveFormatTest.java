@@ -0,0 +1,205 @@
+package com.dragonboatrace.game;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.dragonboatrace.game.entities.*;
+import com.dragonboatrace.game.systems.RaceEngine;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+@RunWith(GdxTestRunner.class)
+public class SaveFormatTest {
+
+    @Test
+    public void numbersRoundTripTest() {
+        SaveWriter out = new SaveWriter();
+        out.putVarInt(0);
+        out.putVarInt(300);
+        out.putInt(-1);
+        out.putLong(Long.MIN_VALUE);
+        out.putVarLong(Long.MAX_VALUE);
+        out.putFixedLong(-42);
+        out.putFloat(-0.5f);
+        out.putBoolean(true);
+        out.putEnum(BoatType.FAST);
+
+        SaveReader in = new SaveReader(out.toBytes());
+        Assert.assertEquals(SaveWriter.VERSION, in.getVersion());
+        Assert.assertEquals(0, in.getVarInt());
+        Assert.assertEquals(300, in.getVarInt());
+        Assert.assertEquals(-1, in.getInt());
+        Assert.assertEquals(Long.MIN_VALUE, in.getLong());
+        Assert.assertEquals(Long.MAX_VALUE, in.getVarLong());
+        Assert.assertEquals(-42, in.getFixedLong());
+        Assert.assertEquals(-0.5f, in.getFloat(), 0);
+        Assert.assertTrue(in.getBoolean());
+        Assert.assertEquals(BoatType.FAST, in.getEnum(BoatType.values()));
+        Assert.assertTrue(in.isFinished());
+    }
+
+    @Test
+    public void smallNumbersTakeOneByteTest() {
+        SaveWriter empty = new SaveWriter();
+        SaveWriter small = new SaveWriter();
+        small.putInt(-5);
+        Assert.assertEquals(empty.toBytes().length + 1, small.toBytes().length);
+    }
+
+    @Test
+    public void boatRoundTripTest() {
+        PlayerBoat boat = new PlayerBoat(BoatType.TESTING, new Vector2(10, 20), new Tuple<Float, Float>(0f, 500f));
+        boat.addEffect(EffectType.SPEED, 50, 3);
+        boat.addEffect(EffectType.NOCOLLIDE, 1, 5);
+
+        SaveWriter out = new SaveWriter();
+        boat.write(out);
+        PlayerBoat loaded = new PlayerBoat(new SaveReader(out.toBytes()));
+        Assert.assertEquals(boat, loaded);
+        Assert.assertEquals(boat.getEffects().size(), loaded.getEffects().size());
+        Assert.assertEquals(boat.getTopSpeed(), loaded.getTopSpeed(), 0);
+        Assert.assertTrue(loaded.getNoCollide());
+    }
+
+    @Test
+    public void laneRoundTripTest() {
+        PlayerBoat boat = new PlayerBoat(BoatType.TESTING, new Vector2(), new Tuple<Float, Float>(0f, 500f));
+        Lane lane = new Lane(boat, boat);
+        lane.setSeed(new RaceSeed(42), 3);
+        lane.addObstacle(new Obstacle(ObstacleType.TESTING, new Vector2(100, 300), new Vector2(1, -2)));
+        lane.addObstacle(new Obstacle(ObstacleType.TESTING, new Vector2(50, 100), new Vector2(0, -3)));
+
+        SaveWriter out = new SaveWriter();
+        lane.write(out);
+        SaveReader in = new SaveReader(out.toBytes());
+        Lane loaded = new Lane(in);
+        Assert.assertTrue(in.isFinished());
+        loaded.setPb(loaded.getBoat());
+        Assert.assertTrue(loaded.isPlayerLane);
+        Assert.assertEquals(lane, loaded);
+    }
+
+    @Test
+    public void loadedRaceCarriesOnTheSameTest() {
+        BoatType[] types = {BoatType.NORMAL, BoatType.HEAVY, BoatType.LIGHT, BoatType.AGILE, BoatType.STRONG};
+        Lane[] lanes = RaceSimulation.createCpuLanes(types, new RaceSeed(5), RaceSimulation.VIEW_WIDTH,
+                RaceSimulation.VIEW_HEIGHT);
+        for (Lane lane : lanes) {
+            lane.updateRound(1, 2);
+        }
+        RaceEngine engine = new RaceEngine(lanes, new LaneUpdater(1));
+        for (int i = 0; i < 900; i++) {
+            engine.update(FixedTimestep.STEP);
+        }
+
+        // Save part way through the round, then load it the way the game screen does
+        SaveWriter out = new SaveWriter();
+        for (Lane lane : lanes) {
+            lane.write(out);
+        }
+        SaveReader in = new SaveReader(out.toBytes());
+        Lane[] loaded = new Lane[lanes.length];
+        for (int i = 0; i < loaded.length; i++) {
+            loaded[i] = new Lane(in);
+        }
+        for (Lane lane : loaded) {
+            lane.setPb(loaded[types.length / 2].getBoat());
+            lane.setViewSize(RaceSimulation.VIEW_WIDTH, RaceSimulation.VIEW_HEIGHT);
+            lane.updateRound(1, 2);
+        }
+        RaceEngine loadedEngine = new RaceEngine(loaded, new LaneUpdater(1));
+        loadedEngine.getClock().setTicks(engine.getClock().getTicks());
+
+        for (int i = 0; i < 1800; i++) {
+            engine.update(FixedTimestep.STEP);
+            loadedEngine.update(FixedTimestep.STEP);
+        }
+        for (int i = 0; i < lanes.length; i++) {
+            Assert.assertEquals(lanes[i], loaded[i]);
+            Assert.assertEquals(lanes[i].getBoat().getInGamePos(), loaded[i].getBoat().getInGamePos());
+            Assert.assertEquals(lanes[i].getBoat().getCurrentHealth(), loaded[i].getBoat().getCurrentHealth(), 0);
+            Assert.assertEquals(lanes[i].getBoat().getCollisions(), loaded[i].getBoat().getCollisions());
+        }
+    }
+
+    @Test
+    public void powerUpRoundTripTest() {
+        PowerUp power = new PowerUp(PowerUpType.SPEED, new Vector2(5, 6), new Vector2(0, -1));
+        SaveWriter out = new SaveWriter();
+        power.write(out);
+        Assert.assertEquals(power, new PowerUp(new SaveReader(out.toBytes())));
+    }
+
+    @Test(expected = GdxRuntimeException.class)
+    public void corruptedSaveTest() {
+        SaveWriter out = new SaveWriter();
+        out.putVarInt(123456);
+        byte[] bytes = out.toBytes();
+        bytes[bytes.length - 6] ^= 1;
+        new SaveReader(bytes);
+    }
+
+    @Test(expected = GdxRuntimeException.class)
+    public void notASaveTest() {
+        new SaveReader("{round:1}".getBytes());
+    }
+
+    @Test(expected = GdxRuntimeException.class)
+    public void oldVersionSaveTest() {
+        // A version 1 body has no mover state, contacts or streams, so must not be read with the current layout
+        SaveWriter out = new SaveWriter();
+        out.putVarInt(1);
+        out.putVarInt(2);
+        out.putVarLong(300);
+        out.putVarInt(1);
+        new PlayerBoat(BoatType.TESTING, new Vector2(10, 20), new Tuple<Float, Float>(0f, 500f)).write(out);
+        new SaveReader(withVersion(out.toBytes(), 1));
+    }
+
+    @Test(expected = GdxRuntimeException.class)
+    public void truncatedLaneTest() {
+        PlayerBoat boat = new PlayerBoat(BoatType.TESTING, new Vector2(), new Tuple<Float, Float>(0f, 500f));
+        Lane lane = new Lane(boat, boat);
+        lane.setSeed(new RaceSeed(42), 3);
+        lane.addObstacle(new Obstacle(ObstacleType.TESTING, new Vector2(100, 300), new Vector2(1, -2)));
+
+        SaveWriter out = new SaveWriter();
+        lane.write(out);
+        byte[] whole = out.toBytes();
+        // Cut the body in half but keep a valid checksum, so only the reads can notice
+        new Lane(new SaveReader(reseal(Arrays.copyOf(whole, whole.length / 2 + 4))));
+    }
+
+    @Test(expected = GdxRuntimeException.class)
+    public void trailingBytesTest() {
+        SaveWriter out = new SaveWriter();
+        out.putVarInt(1);
+        out.putVarInt(2);
+        SaveReader in = new SaveReader(out.toBytes());
+        in.getVarInt();
+        in.finish();
+    }
+
+    /**
+     * Stamp a save with another version, fixing up its checksum to match.
+     */
+    private static byte[] withVersion(byte[] bytes, int version) {
+        bytes[4] = (byte) version;
+        return reseal(bytes);
+    }
+
+    /**
+     * Write a checksum over everything but the last four bytes of a save.
+     */
+    private static byte[] reseal(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length - 4);
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(bytes.length - 4, (int) crc.getValue());
+        return bytes;
+    }
+}
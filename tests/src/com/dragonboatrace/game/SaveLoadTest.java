@@ -24,7 +24,7 @@ public class SaveLoadTest {
         String knownCorrect = "{type:TESTING, health:300.000000, stamina:1000.000000, distance:0.000000, totalTime:0, " +
                 "laneBounds:{x:0.000000, y:500.000000}, inGamePos:{x:0.000000, y:0.000000}, " +
                 "pos:{x:0.000000, y:0.000000}, vel:{x:0.000000, y:0.000000}, " +
-                "startPos:{x:0.000000, y:0.000000}}";
+                "startPos:{x:0.000000, y:0.000000}, effects:[]}";
         Assert.assertEquals(knownCorrect, output);
         Assert.assertTrue(GameScreen.saveJSONString(output, Gdx.files.local("TestingSaves/boatSaveTest.json")));
         System.out.println("Done Save Boat Test");
@@ -56,12 +56,14 @@ public class SaveLoadTest {
     public void _0_saveLaneTest() {
         PlayerBoat boat = new PlayerBoat(BoatType.TESTING, new Vector2(), new Tuple<Float, Float>(0f, 500f));
         Lane lane = new Lane(boat, boat);
+        lane.setSeed(new RaceSeed(42), 3);
         lane.updateRound(1, 0.5f);
         String output = lane.save();
         String knownCorrect = "{boat:{type:TESTING, health:300.000000, stamina:1000.000000, distance:0.000000, totalTime:0, " +
                 "laneBounds:{x:0.000000, y:500.000000}, inGamePos:{x:0.000000, y:0.000000}, " +
                 "pos:{x:0.000000, y:0.000000}, vel:{x:0.000000, y:0.000000}, " +
-                "startPos:{x:0.000000, y:0.000000}}, obstacles:[], powerup:null, isPlayer:1}";
+                "startPos:{x:0.000000, y:0.000000}, effects:[]}, obstacles:[], powerup:null, isPlayer:1, seed:42, index:3, " +
+                "streams:[5161666315551996140, -5857685361114940361, -960428413101476352, 2380893132112399456]}";
         Assert.assertEquals(knownCorrect, output);
         Assert.assertTrue(GameScreen.saveJSONString(output, Gdx.files.local("TestingSaves/laneSaveTest.json")));
         System.out.println("Done Save Lane Test");
@@ -104,6 +106,7 @@ public class SaveLoadTest {
         Lane laneOutput = new Lane(jsonString);
         laneOutput.setPb(boat);
         Assert.assertEquals(laneKnown, laneOutput);
+        Assert.assertEquals(42, laneOutput.getSeed().getSeed());
     }
 
 }
@@ -0,0 +1,59 @@
+package com.dragonboatrace.game;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@RunWith(GdxTestRunner.class)
+public class SaveTaskTest {
+
+    @Test
+    public void writesSaveToSlotTest() throws IOException, InterruptedException {
+        File folder = Files.createTempDirectory("saves").toFile();
+        File slot = new File(folder, "save1.sav");
+        File json = new File(folder, "save1.json");
+        Files.write(slot.toPath(), new byte[]{1, 2, 3});
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            SaveTask task = new SaveTask(executor, 1, new byte[]{4, 5}, slot, "{round:1}", json);
+            task.await();
+            Assert.assertTrue(task.isDone());
+            Assert.assertTrue(task.isSaved());
+            Assert.assertEquals(1, task.getSlot());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertArrayEquals(new byte[]{4, 5}, Files.readAllBytes(slot.toPath()));
+        Assert.assertTrue(json.exists());
+        // Nothing is left behind but the two files
+        Assert.assertEquals(2, folder.listFiles().length);
+    }
+
+    @Test
+    public void failedSaveLeavesSlotTest() throws IOException, InterruptedException {
+        File folder = Files.createTempDirectory("saves").toFile();
+        // A folder in the way of the slot can't be replaced by the save
+        File slot = new File(folder, "save2.sav");
+        Assert.assertTrue(new File(slot, "inside").mkdirs());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            SaveTask task = new SaveTask(executor, 2, new byte[]{1}, slot, null, null);
+            task.await();
+            Assert.assertFalse(task.isSaved());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertTrue(slot.isDirectory());
+        Assert.assertEquals(1, folder.listFiles().length);
+    }
+}
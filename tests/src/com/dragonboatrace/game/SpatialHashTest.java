@@ -0,0 +1,79 @@
+package com.dragonboatrace.game;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+import com.dragonboatrace.game.entities.BoatType;
+import com.dragonboatrace.game.entities.CPUBoat;
+import com.dragonboatrace.game.entities.Obstacle;
+import com.dragonboatrace.game.entities.ObstacleType;
+import com.dragonboatrace.game.entities.PlayerBoat;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(GdxTestRunner.class)
+public class SpatialHashTest {
+
+    @Test
+    public void queryNearbyOnlyTest() {
+        SpatialHash hash = new SpatialHash(100);
+        hash.insert(0, 10, 10, 50, 50);
+        hash.insert(1, 1000, 1000, 50, 50);
+        // Spans four cells, but should only be returned once
+        hash.insert(2, 90, 90, 20, 20);
+
+        IntArray out = new IntArray();
+        hash.query(0, 0, 60, 60, out);
+        Assert.assertTrue(out.contains(0));
+        Assert.assertTrue(out.contains(2));
+        Assert.assertFalse(out.contains(1));
+
+        out.clear();
+        hash.query(50, 50, 100, 100, out);
+        Assert.assertEquals(2, out.size);
+
+        hash.clear();
+        out.clear();
+        hash.query(0, 0, 2000, 2000, out);
+        Assert.assertEquals(0, out.size);
+        Assert.assertEquals(0, hash.getOccupiedCellCount());
+    }
+
+    @Test
+    public void collideAcrossLanesTest() {
+        PlayerBoat player = new PlayerBoat(BoatType.TESTING, new Vector2(0, 0), new Tuple<Float, Float>(0f, 100f));
+        CPUBoat cpu = new CPUBoat(BoatType.TESTING, new Vector2(200, 0), new Tuple<Float, Float>(100f, 300f));
+        Lane playerLane = new Lane(player, player);
+        Lane cpuLane = new Lane(cpu, player);
+
+        // An obstacle in the cpu lane that the player boat has drifted into
+        Obstacle obstacle = new Obstacle(ObstacleType.ROCK, new Vector2(0, 0), new Vector2(0, 0));
+        cpuLane.addObstacle(obstacle);
+
+        float healthBefore = player.getCurrentHealth();
+        new CollisionWorld().collide(new Lane[]{playerLane, cpuLane});
+        Assert.assertTrue(player.getCurrentHealth() < healthBefore);
+    }
+
+    @Test
+    public void contactEndsWhenObstacleRemovedTest() {
+        PlayerBoat player = new PlayerBoat(BoatType.TESTING, new Vector2(0, 0), new Tuple<Float, Float>(0f, 100f));
+        Lane lane = new Lane(player, player);
+        Obstacle obstacle = new Obstacle(ObstacleType.ROCK, new Vector2(0, 0), new Vector2(0, 0));
+        lane.addObstacle(obstacle);
+        CollisionWorld world = new CollisionWorld();
+
+        // Staying in contact only counts as one hit
+        float healthBefore = player.getCurrentHealth();
+        world.collide(new Lane[]{lane});
+        world.collide(new Lane[]{lane});
+        Assert.assertEquals(healthBefore - ObstacleType.ROCK.getWeight(), player.getCurrentHealth(), 0.001);
+
+        // Once the obstacle is gone, an obstacle in the same place is a new hit
+        lane.getObstacleStore().clear();
+        world.collide(new Lane[]{lane});
+        lane.addObstacle(new Obstacle(ObstacleType.ROCK, new Vector2(0, 0), new Vector2(0, 0)));
+        world.collide(new Lane[]{lane});
+        Assert.assertEquals(healthBefore - 2 * ObstacleType.ROCK.getWeight(), player.getCurrentHealth(), 0.001);
+    }
+}
@@ -0,0 +1,44 @@
+package com.dragonboatrace.game;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(GdxTestRunner.class)
+public class StreamingStatsTest {
+
+    @Test
+    public void summaryTest() {
+        StreamingStats stats = new StreamingStats();
+        for (long time = 1000; time <= 10000; time += 1000) {
+            stats.add(time);
+        }
+        Assert.assertEquals(10, stats.getCount());
+        Assert.assertEquals(1000, stats.getMin());
+        Assert.assertEquals(10000, stats.getMax());
+        Assert.assertEquals(5500, stats.getMean(), 0);
+        Assert.assertEquals(3027.65, stats.getStandardDeviation(), 0.01);
+        Assert.assertEquals(5500, stats.getPercentile(0.5));
+        Assert.assertEquals(9500, stats.getPercentile(0.9));
+    }
+
+    @Test
+    public void mergeTest() {
+        StreamingStats all = new StreamingStats();
+        StreamingStats first = new StreamingStats();
+        StreamingStats second = new StreamingStats();
+        for (long time = 0; time < 2000000; time += 777) {
+            all.add(time);
+            (time % 2 == 0 ? first : second).add(time);
+        }
+        second.merge(first);
+        Assert.assertEquals(all.getCount(), second.getCount());
+        Assert.assertEquals(all.getMin(), second.getMin());
+        Assert.assertEquals(all.getMax(), second.getMax());
+        Assert.assertEquals(all.getMean(), second.getMean(), 0);
+        Assert.assertEquals(all.getStandardDeviation(), second.getStandardDeviation(), 0);
+        Assert.assertEquals(all.getPercentile(0.9), second.getPercentile(0.9));
+        // Times past the last bin are counted in it
+        Assert.assertEquals((StreamingStats.BINS - 1) * StreamingStats.BIN_WIDTH + 500, all.getPercentile(1));
+    }
+}